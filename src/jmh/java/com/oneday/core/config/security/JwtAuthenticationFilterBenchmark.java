@@ -0,0 +1,150 @@
+package com.oneday.core.config.security;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneday.core.entity.Role;
+import com.oneday.core.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * JwtAuthenticationFilter 벤치마크
+ * 요청 1건의 인증 비용(doFilterInternal 전체)을 검증 결과 캐시 적중/미적중, 폐기 토큰, 단일/경합 스레드로 측정
+ * (_contended 접미사는 {@link Threads#MAX} 스레드로 실행)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+    private String revokedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("benchmark-secret-key-that-is-at-least-32-bytes-long");
+        jwtProperties.setAccessTokenExpiration(3_600_000L);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthEvents authEvents = new AuthEvents(meterRegistry);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties, authEvents);
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, jwtProperties, meterRegistry);
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(jwtProperties);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(verifiedTokenCache, revocationList, authEvents);
+
+        User user = User.builder()
+            .email("bench@example.com")
+            .password("password")
+            .name("벤치마크")
+            .role(Role.USER)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        token = jwtTokenProvider.generateAccessToken(user);
+        revokedToken = jwtTokenProvider.generateAccessToken(user);
+
+        AccessTokenDetails details = (AccessTokenDetails)jwtTokenProvider.authenticate(revokedToken).getDetails();
+        revocationList.revoke(details.tokenId(), details.expiresAt());
+    }
+
+    /**
+     * 스레드마다 반복(iteration) 단위로 한 번 만드는 서블릿 객체
+     * 필터는 요청/응답을 변경하지 않으므로 재사용하고, 체인만 호출마다 초기화합니다.
+     */
+    abstract static class BaseExchange {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        MockFilterChain filterChain;
+
+        void init(String bearerToken) {
+            request = new MockHttpServletRequest("GET", "/api/reservations");
+            request.addHeader("Authorization", "Bearer " + bearerToken);
+            response = new MockHttpServletResponse();
+            filterChain = new MockFilterChain();
+        }
+    }
+
+    /**
+     * 유효한 토큰을 담은 요청
+     */
+    @State(Scope.Thread)
+    public static class Exchange extends BaseExchange {
+
+        @Setup(Level.Iteration)
+        public void setUp(JwtAuthenticationFilterBenchmark benchmark) {
+            init(benchmark.token);
+        }
+    }
+
+    /**
+     * 폐기된 토큰을 담은 요청 (doFilter_revoked 전용)
+     */
+    @State(Scope.Thread)
+    public static class RevokedExchange extends BaseExchange {
+
+        @Setup(Level.Iteration)
+        public void setUp(JwtAuthenticationFilterBenchmark benchmark) {
+            init(benchmark.revokedToken);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication doFilter_cached(Exchange exchange) throws ServletException, IOException {
+        return filter(exchange);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Authentication doFilter_cached_contended(Exchange exchange) throws ServletException, IOException {
+        return filter(exchange);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication doFilter_uncached(Exchange exchange) throws ServletException, IOException {
+        verifiedTokenCache.invalidateAll();
+        return filter(exchange);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication doFilter_revoked(RevokedExchange exchange) throws ServletException, IOException {
+        return filter(exchange);
+    }
+
+    private Authentication filter(BaseExchange exchange) throws ServletException, IOException {
+        try {
+            jwtAuthenticationFilter.doFilterInternal(exchange.request, exchange.response, exchange.filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+            exchange.filterChain.reset();
+        }
+    }
+}
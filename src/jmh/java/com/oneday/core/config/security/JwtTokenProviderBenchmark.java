@@ -0,0 +1,125 @@
+package com.oneday.core.config.security;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneday.core.entity.Role;
+import com.oneday.core.entity.User;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtTokenProvider 벤치마크
+ * 토큰 발급/파싱/Authentication 생성/권한 추출 비용을 단일 스레드와 전체 코어 경합 상황에서 측정
+ * (_contended 접미사는 {@link Threads#MAX} 스레드로 실행)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private UserDetails userDetails;
+    private String roleToken;
+    private String authoritiesToken;
+    private Claims authoritiesClaims;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("benchmark-secret-key-that-is-at-least-32-bytes-long");
+        jwtProperties.setAccessTokenExpiration(3_600_000L);
+        jwtProperties.setRefreshTokenExpiration(604_800_000L);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, new AuthEvents(new SimpleMeterRegistry()));
+
+        user = User.builder()
+            .email("bench@example.com")
+            .password("password")
+            .name("벤치마크")
+            .role(Role.USER)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        userDetails = org.springframework.security.core.userdetails.User.builder()
+            .username("admin@example.com")
+            .password("password")
+            .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")))
+            .build();
+
+        roleToken = jwtTokenProvider.generateAccessToken(user);
+        authoritiesToken = jwtTokenProvider.generateAccessToken(userDetails);
+        authoritiesClaims = jwtTokenProvider.parseToken(authoritiesToken);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateAccessToken_contended() {
+        return jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generateRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Claims parseToken() {
+        return jwtTokenProvider.parseToken(roleToken);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Claims parseToken_contended() {
+        return jwtTokenProvider.parseToken(roleToken);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication getAuthentication_role() {
+        return jwtTokenProvider.getAuthentication(roleToken);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication getAuthentication_authorities() {
+        return jwtTokenProvider.getAuthentication(authoritiesToken);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Authentication getAuthentication_contended() {
+        return jwtTokenProvider.getAuthentication(roleToken);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<SimpleGrantedAuthority> extractAuthorities() {
+        return jwtTokenProvider.extractAuthorities(authoritiesClaims);
+    }
+}
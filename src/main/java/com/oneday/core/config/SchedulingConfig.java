@@ -0,0 +1,15 @@
+package com.oneday.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
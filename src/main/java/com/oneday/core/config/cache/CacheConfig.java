@@ -0,0 +1,56 @@
+package com.oneday.core.config.cache;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 캐시 설정
+ * Caffeine(W-TinyLFU 기반 크기 제한 캐시)을 Spring Cache 추상화에 등록
+ * <p>
+ * 모든 캐시는 recordStats()로 통계를 기록하며, Actuator가 캐시 매니저에 등록된
+ * 캐시를 cache.gets / cache.evictions / cache.load.duration 메트릭으로 노출합니다.
+ * 캐시 어드바이스를 트랜잭션 어드바이스보다 바깥에 두어, 캐시 적중 시에는 트랜잭션을 열지 않습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class CacheConfig {
+
+	private final CatalogCacheProperties catalogCacheProperties;
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+		cacheManager.registerCustomCache(CacheNames.CLASS_DETAIL, Caffeine.newBuilder()
+				.maximumSize(catalogCacheProperties.getDetailMaximumSize())
+				.expireAfterWrite(catalogCacheProperties.getTtl())
+				.recordStats()
+				.build());
+
+		cacheManager.registerCustomCache(CacheNames.CLASS_CATALOG, Caffeine.newBuilder()
+				.maximumSize(catalogCacheProperties.getCatalogMaximumSize())
+				.expireAfterWrite(catalogCacheProperties.getTtl())
+				.recordStats()
+				.build());
+
+		cacheManager.registerCustomCache(CacheNames.REPRESENTATIVE_IMAGE, Caffeine.newBuilder()
+				.maximumSize(catalogCacheProperties.getDetailMaximumSize())
+				.expireAfterWrite(catalogCacheProperties.getTtl())
+				.recordStats()
+				.build());
+
+		return cacheManager;
+	}
+}
@@ -0,0 +1,28 @@
+package com.oneday.core.config.cache;
+
+/**
+ * 애플리케이션에서 사용하는 캐시 이름 정의
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class CacheNames {
+
+	/**
+	 * 클래스 상세 조회 캐시 (key: classId)
+	 */
+	public static final String CLASS_DETAIL = "classDetail";
+
+	/**
+	 * 클래스 목록 조회 캐시
+	 */
+	public static final String CLASS_CATALOG = "classCatalog";
+
+	/**
+	 * 클래스 대표 이미지 URL 캐시 (key: classId)
+	 */
+	public static final String REPRESENTATIVE_IMAGE = "representativeImage";
+
+	private CacheNames() {
+	}
+}
@@ -0,0 +1,53 @@
+package com.oneday.core.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 클래스 카탈로그 캐시 설정 프로퍼티
+ * application.yml의 cache.catalog 설정을 자동으로 바인딩
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.catalog")
+public class CatalogCacheProperties {
+
+	/**
+	 * 클래스 상세 캐시 최대 항목 수
+	 * 기본값: 10,000건
+	 */
+	private long detailMaximumSize = 10_000;
+
+	/**
+	 * 클래스 목록 캐시 최대 항목 수 (조회 조건별 1건)
+	 * 기본값: 100건
+	 */
+	private long catalogMaximumSize = 100;
+
+	/**
+	 * 캐시 항목 유효 시간 (쓰기 기준)
+	 * 기본값: 10분
+	 */
+	private Duration ttl = Duration.ofMinutes(10);
+
+	/**
+	 * 직렬화된 응답 캐시가 사용할 최대 off-heap 메모리 (바이트)
+	 * 기본값: 64MB
+	 */
+	private long responseMaxBytes = 64L * 1024 * 1024;
+
+	/**
+	 * gzip 변형을 만들 최소 응답 크기 (바이트)
+	 * 기본값: 1KB
+	 */
+	private int gzipMinBytes = 1024;
+}
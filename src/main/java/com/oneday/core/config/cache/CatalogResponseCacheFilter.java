@@ -0,0 +1,165 @@
+package com.oneday.core.config.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카탈로그 응답 캐시 필터
+ * 클래스 목록/상세 GET 응답을 직렬화된 바이트로 캐시하여 Jackson 직렬화를 생략
+ * <p>
+ * 캐시 적중 시 direct buffer의 본문을 그대로 출력 스트림에 쓰고,
+ * If-None-Match가 ETag와 일치하면 본문 없이 304를 반환합니다.
+ * Spring Security 필터 체인 뒤에서 실행되므로 인증되지 않은 요청은 여기까지 오지 않습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+
+	private static final String GZIP = "gzip";
+
+	private final EncodedResponseCache encodedResponseCache;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.GET.matches(request.getMethod()) || !isCatalogPath(request.getRequestURI());
+	}
+
+	@Override
+	protected void doFilterInternal(
+			HttpServletRequest request,
+			HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+
+		String key = cacheKey(request);
+		EncodedResponse cached = encodedResponseCache.get(key);
+
+		if (cached != null) {
+			writeEncoded(cached, request, response);
+			return;
+		}
+
+		long generation = encodedResponseCache.currentGeneration();
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		filterChain.doFilter(request, responseWrapper);
+
+		if (!isCacheable(responseWrapper)) {
+			responseWrapper.copyBodyToResponse();
+			return;
+		}
+
+		EncodedResponse encoded = encodedResponseCache.put(
+				key,
+				responseWrapper.getContentAsByteArray(),
+				generation
+		);
+		writeEncoded(encoded, request, response);
+	}
+
+	private void writeEncoded(
+			EncodedResponse encoded,
+			HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+
+		boolean useGzip = encoded.gzip() != null && acceptsGzip(request);
+		String etag = useGzip ? encoded.gzipEtag() : encoded.etag();
+
+		response.setHeader(HttpHeaders.ETAG, etag);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		if (matchesIfNoneMatch(request, etag)) {
+			response.setStatus(HttpStatus.NOT_MODIFIED.value());
+			return;
+		}
+
+		ByteBuffer body = (useGzip ? encoded.gzip() : encoded.identity()).duplicate();
+
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		if (useGzip) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+		}
+		response.setContentLength(body.remaining());
+
+		WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+		while (body.hasRemaining()) {
+			channel.write(body);
+		}
+	}
+
+	private boolean isCacheable(ContentCachingResponseWrapper response) {
+		return response.getStatus() == HttpStatus.OK.value()
+				&& response.getContentType() != null
+				&& response.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE)
+				&& response.getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+	}
+
+	private boolean isCatalogPath(String uri) {
+		if (uri.equals(EncodedResponseCache.CATALOG_PATH)) {
+			return true;
+		}
+
+		String prefix = EncodedResponseCache.CATALOG_PATH + "/";
+		if (!uri.startsWith(prefix) || uri.length() == prefix.length()) {
+			return false;
+		}
+
+		for (int i = prefix.length(); i < uri.length(); i++) {
+			if (!Character.isDigit(uri.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String cacheKey(HttpServletRequest request) {
+		String query = request.getQueryString();
+		return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+	}
+
+	private boolean acceptsGzip(HttpServletRequest request) {
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		return acceptEncoding != null && acceptEncoding.contains(GZIP);
+	}
+
+	/**
+	 * If-None-Match 비교 (약한 비교: W/ 접두사 무시)
+	 */
+	private boolean matchesIfNoneMatch(HttpServletRequest request, String etag) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (!StringUtils.hasText(ifNoneMatch)) {
+			return false;
+		}
+
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals("*") || tag.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,29 @@
+package com.oneday.core.config.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 미리 직렬화된 JSON 응답
+ * 본문은 힙 밖의 direct buffer에 읽기 전용으로 보관
+ *
+ * @param identity 원본 JSON 본문
+ * @param gzip gzip 압축 본문 (작은 응답은 null)
+ * @param etag 원본 본문의 강한 ETag
+ * @param gzipEtag gzip 본문의 강한 ETag (gzip이 null이면 null)
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record EncodedResponse(
+		ByteBuffer identity,
+		ByteBuffer gzip,
+		String etag,
+		String gzipEtag
+) {
+
+	/**
+	 * off-heap 점유 크기 (캐시 가중치)
+	 */
+	public int weight() {
+		return identity.capacity() + (gzip != null ? gzip.capacity() : 0);
+	}
+}
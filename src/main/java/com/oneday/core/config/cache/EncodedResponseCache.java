@@ -0,0 +1,166 @@
+package com.oneday.core.config.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.event.ClassListingChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 직렬화된 카탈로그 응답 캐시
+ * 요청 경로별로 JSON 본문(원본/gzip)과 ETag를 direct buffer에 보관
+ * <p>
+ * 무효화와 재생성이 겹칠 때 이전 데이터가 저장되지 않도록 세대(generation) 번호를 사용합니다.
+ * 응답 생성 전에 읽은 세대가 저장 시점의 세대와 다르면 저장하지 않습니다.
+ * 세대 확인과 저장은 읽기 락, 세대 증가와 제거는 쓰기 락으로 묶어
+ * 확인 직후 무효화가 끼어들어 이전 응답이 남는 일이 없도록 합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class EncodedResponseCache {
+
+	public static final String CATALOG_PATH = "/api/classes";
+
+	private final Cache<String, EncodedResponse> cache;
+	private final AtomicLong generation = new AtomicLong();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final int gzipMinBytes;
+
+	public EncodedResponseCache(CatalogCacheProperties catalogCacheProperties) {
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(catalogCacheProperties.getResponseMaxBytes())
+				.weigher((String key, EncodedResponse value) -> value.weight())
+				.expireAfterWrite(catalogCacheProperties.getTtl())
+				.build();
+		this.gzipMinBytes = catalogCacheProperties.getGzipMinBytes();
+	}
+
+	public EncodedResponse get(String key) {
+		return cache.getIfPresent(key);
+	}
+
+	/**
+	 * 현재 세대 번호 (응답 생성 전에 읽어 둠)
+	 */
+	public long currentGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * 직렬화된 본문을 인코딩하여 저장
+	 *
+	 * @param key 캐시 키 (요청 경로)
+	 * @param body JSON 본문
+	 * @param expectedGeneration 응답 생성 전에 읽은 세대 번호
+	 * @return 인코딩된 응답
+	 */
+	public EncodedResponse put(String key, byte[] body, long expectedGeneration) {
+		EncodedResponse encoded = encode(body);
+		lock.readLock().lock();
+		try {
+			if (generation.get() == expectedGeneration) {
+				cache.put(key, encoded);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return encoded;
+	}
+
+	/**
+	 * 클래스 변경 시 해당 클래스 상세 응답과 목록 응답을 제거
+	 * 객체 캐시(ClassCacheEvictionListener)가 먼저 비워진 뒤 실행
+	 *
+	 * @param event 클래스 변경 이벤트
+	 */
+	@Order(1)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClassChanged(ClassChangedEvent event) {
+		String detailKey = CATALOG_PATH + "/" + event.classId();
+		invalidate(key -> key.equals(detailKey) || !isDetailKey(key));
+		log.debug("직렬화 응답 캐시 무효화: classId={}", event.classId());
+	}
+
+	/**
+	 * 목록 조회 모델 갱신 시 목록 응답을 제거
+	 * 객체 캐시(ClassCacheEvictionListener)가 먼저 비워진 뒤 실행
+	 *
+	 * @param event 목록 조회 모델 변경 이벤트
+	 */
+	@Order(1)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClassListingChanged(ClassListingChangedEvent event) {
+		invalidate(key -> !isDetailKey(key));
+	}
+
+	private void invalidate(Predicate<String> target) {
+		lock.writeLock().lock();
+		try {
+			generation.incrementAndGet();
+			cache.asMap().keySet().removeIf(target);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private boolean isDetailKey(String key) {
+		return key.startsWith(CATALOG_PATH + "/");
+	}
+
+	private EncodedResponse encode(byte[] body) {
+		ByteBuffer identity = toDirectBuffer(body);
+		String etag = etag(body, "");
+
+		if (body.length < gzipMinBytes) {
+			return new EncodedResponse(identity, null, etag, null);
+		}
+
+		return new EncodedResponse(identity, toDirectBuffer(gzip(body)), etag, etag(body, "-gzip"));
+	}
+
+	private ByteBuffer toDirectBuffer(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		return buffer.asReadOnlyBuffer();
+	}
+
+	private byte[] gzip(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	private String etag(byte[] body, String suffix) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + suffix + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.oneday.core.config.security;
+
+import java.time.Instant;
+
+/**
+ * 인증에 사용된 Access Token 정보 (Authentication#getDetails)
+ * 로그아웃 시 해당 토큰을 폐기하는 데 사용
+ *
+ * @param tokenId 토큰 ID (jti, jti 도입 이전에 발급된 토큰은 null)
+ * @param expiresAt 토큰 만료 시각 (exp)
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record AccessTokenDetails(String tokenId, Instant expiresAt) {
+}
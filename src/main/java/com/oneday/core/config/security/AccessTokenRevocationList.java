@@ -0,0 +1,106 @@
+package com.oneday.core.config.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.oneday.core.util.BloomFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기된 Access Token 목록 (메모리)
+ * <p>
+ * 모든 인증 요청이 조회하므로, 폐기되지 않은 토큰은 잠금 없이 블룸 필터 조회 한 번으로 통과합니다.
+ * 블룸 필터가 양성일 때만 정확한 집합(jti → exp)을 확인하므로 거짓 양성으로 거부되는 토큰은 없습니다.
+ * <p>
+ * 폐기 항목은 대상 토큰이 만료되면 필요 없으므로, {@link #expire(Instant)}가 만료 항목을 지우고
+ * 남은 항목으로 블룸 필터를 다시 만듭니다. 추가/재구성은 드물기 때문에 잠금으로 직렬화합니다.
+ * DB 저장과 인스턴스 간 동기화는 {@link com.oneday.core.service.auth.AccessTokenRevocationService}가 담당합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private int capacity;
+
+    public AccessTokenRevocationList(JwtProperties jwtProperties) {
+        this.expectedInsertions = jwtProperties.getRevocationExpectedInsertions();
+        this.falsePositiveRate = jwtProperties.getRevocationFalsePositiveRate();
+        this.capacity = expectedInsertions;
+        this.filter = new BloomFilter(capacity, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 폐기 여부
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰 폐기 (이미 만료된 토큰은 무시)
+     * 정확한 집합에 먼저 넣어, 블룸 필터가 양성이면 항상 집합에서도 보이게 합니다.
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각
+     */
+    public synchronized void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        revoked.put(tokenId, expiresAt);
+        filter.put(tokenId);
+
+        if (revoked.size() > capacity) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 대상 토큰이 만료된 항목을 지우고 블룸 필터 재구성
+     *
+     * @param now 기준 시각
+     * @return 지운 항목 수
+     */
+    public synchronized int expire(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        int removed = before - revoked.size();
+        if (removed > 0) {
+            rebuild();
+            log.debug("만료된 토큰 폐기 항목 정리: removed={}, remaining={}", removed, revoked.size());
+        }
+        return removed;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 항목 수에 맞춰 크기를 잡아 거짓 양성률을 유지
+    private void rebuild() {
+        capacity = Math.max(expectedInsertions, revoked.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+}
@@ -0,0 +1,62 @@
+package com.oneday.core.config.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인증 감사 로그 설정 프로퍼티
+ * application.yml의 auth.audit 설정을 자동으로 바인딩
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.audit")
+public class AuthAuditProperties {
+
+    /**
+     * 기록 대기 버퍼 크기 (2의 거듭제곱으로 올림)
+     * 기본값: 8,192건
+     */
+    private int bufferCapacity = 8192;
+
+    /**
+     * 한 번에 INSERT하는 최대 이벤트 수 (버퍼에 이만큼 쌓이면 주기를 기다리지 않고 기록)
+     * 기본값: 200건
+     */
+    private int batchSize = 200;
+
+    /**
+     * 버퍼가 덜 차도 기록하는 주기
+     * 기본값: 1초
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     * 기본값: DROP
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * 버퍼 초과 시 처리 방식
+     */
+    public enum OverflowPolicy {
+        /**
+         * 이벤트를 버리고 auth.audit.dropped를 증가 (인증 요청 지연 없음)
+         */
+        DROP,
+
+        /**
+         * 요청 스레드에서 바로 한 건 INSERT (이벤트는 보존, 해당 요청은 DB 왕복만큼 지연)
+         */
+        CALLER_RUNS
+    }
+}
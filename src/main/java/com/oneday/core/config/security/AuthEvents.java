@@ -0,0 +1,138 @@
+package com.oneday.core.config.security;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.oneday.core.util.LogRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증/토큰 경로의 이벤트 기록기
+ * <p>
+ * 토큰 발급, 토큰 거절, 로그인 등 요청마다 발생하는 이벤트는 로그 대신 카운터로 집계하고,
+ * 반복되는 실패 경고만 종류별로 초당 {@value #WARNINGS_PER_SECOND}줄까지 남깁니다 (생략된 줄 수는 다음 줄에 표시).
+ * 카운터는 생성 시 미리 등록해 두므로 기록할 때 태그/문자열을 새로 만들지 않습니다.
+ * 사용자별 이력은 인증 감사 로그(auth_audit_logs)에 남습니다.
+ * <p>
+ * 메트릭: auth.token.issued (type), auth.token.rejected (reason), auth.requests (operation, result)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class AuthEvents {
+
+    private static final int WARNINGS_PER_SECOND = 5;
+
+    /**
+     * 발급 토큰 종류
+     */
+    public enum TokenType {
+        ACCESS, REFRESH
+    }
+
+    /**
+     * 토큰 거절 사유
+     */
+    public enum Rejection {
+        EXPIRED, INVALID, UNSUPPORTED, EMPTY, REVOKED, NOT_ACCESS_TOKEN
+    }
+
+    /**
+     * 인증 API 종류
+     */
+    public enum Operation {
+        SIGNUP, LOGIN, REFRESH, LOGOUT
+    }
+
+    private final Map<TokenType, Counter> issuedCounters = new EnumMap<>(TokenType.class);
+    private final Map<Rejection, Counter> rejectedCounters = new EnumMap<>(Rejection.class);
+    private final Map<Rejection, LogRateLimiter> rejectedLogLimiters = new EnumMap<>(Rejection.class);
+    private final Map<Operation, Counter> successCounters = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> failureCounters = new EnumMap<>(Operation.class);
+    private final Map<Operation, LogRateLimiter> failureLogLimiters = new EnumMap<>(Operation.class);
+
+    public AuthEvents(MeterRegistry meterRegistry) {
+        for (TokenType type : TokenType.values()) {
+            issuedCounters.put(type, Counter.builder("auth.token.issued")
+                .tag("type", tagValue(type))
+                .register(meterRegistry));
+        }
+        for (Rejection reason : Rejection.values()) {
+            rejectedCounters.put(reason, Counter.builder("auth.token.rejected")
+                .tag("reason", tagValue(reason))
+                .register(meterRegistry));
+            rejectedLogLimiters.put(reason, new LogRateLimiter(WARNINGS_PER_SECOND));
+        }
+        for (Operation operation : Operation.values()) {
+            successCounters.put(operation, Counter.builder("auth.requests")
+                .tag("operation", tagValue(operation))
+                .tag("result", "success")
+                .register(meterRegistry));
+            failureCounters.put(operation, Counter.builder("auth.requests")
+                .tag("operation", tagValue(operation))
+                .tag("result", "failure")
+                .register(meterRegistry));
+            failureLogLimiters.put(operation, new LogRateLimiter(WARNINGS_PER_SECOND));
+        }
+    }
+
+    /**
+     * 토큰 발급 집계
+     *
+     * @param type 토큰 종류
+     */
+    public void tokenIssued(TokenType type) {
+        issuedCounters.get(type).increment();
+    }
+
+    /**
+     * 토큰 거절 집계 (경고 로그는 초당 제한)
+     *
+     * @param reason 거절 사유
+     * @param detail 로그에 남길 상세 (예외 메시지 등)
+     */
+    public void tokenRejected(Rejection reason, String detail) {
+        rejectedCounters.get(reason).increment();
+
+        long suppressed = rejectedLogLimiters.get(reason).tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("JWT 토큰 거절: reason={}, detail={}, 생략={}", reason, detail, suppressed);
+        }
+    }
+
+    /**
+     * 인증 API 성공 집계
+     *
+     * @param operation API 종류
+     */
+    public void succeeded(Operation operation) {
+        successCounters.get(operation).increment();
+    }
+
+    /**
+     * 인증 API 실패 집계 (경고 로그는 초당 제한)
+     *
+     * @param operation API 종류
+     * @param reason 실패 사유
+     * @param email 요청 이메일 (없으면 null)
+     */
+    public void failed(Operation operation, String reason, String email) {
+        failureCounters.get(operation).increment();
+
+        long suppressed = failureLogLimiters.get(operation).tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("인증 실패: operation={}, reason={}, email={}, 생략={}", operation, reason, email, suppressed);
+        }
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
+    }
+}
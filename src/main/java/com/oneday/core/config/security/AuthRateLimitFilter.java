@@ -0,0 +1,80 @@
+package com.oneday.core.config.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneday.core.dto.common.ApiResponse;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.util.LogRateLimiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 API 클라이언트 IP별 요청 제한 필터
+ * <p>
+ * 로그인/회원가입/토큰 갱신 요청을 Spring Security 필터 체인과 본문 파싱보다 먼저 확인하고,
+ * 제한을 넘으면 본문을 읽지 않고 429와 Retry-After 헤더로 응답합니다.
+ * 클라이언트 IP는 {@link HttpServletRequest#getRemoteAddr()}이며, 프록시 뒤에서는
+ * server.forward-headers-strategy 설정으로 X-Forwarded-For가 반영됩니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of("/api/auth/login", "/api/auth/signup",
+        "/api/auth/refresh");
+
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final LogRateLimiter rejectionLogLimiter = new LogRateLimiter(5);
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !LIMITED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        String clientIp = request.getRemoteAddr();
+        long retryAfterSeconds = authRateLimiter.tryAcquireIp(clientIp);
+
+        if (retryAfterSeconds > 0) {
+            long suppressed = rejectionLogLimiter.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("인증 요청 제한 초과: ip={}, path={}, 생략={}", clientIp, request.getRequestURI(), suppressed);
+            }
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,53 @@
+package com.oneday.core.config.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인증 API 요청 제한 설정 프로퍼티
+ * application.yml의 auth.rate-limit 설정을 자동으로 바인딩
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class AuthRateLimitProperties {
+
+    /**
+     * 클라이언트 IP별 연속 허용 요청 수 (로그인/회원가입/토큰 갱신 합산)
+     * 기본값: 30회
+     */
+    private int ipCapacity = 30;
+
+    /**
+     * 클라이언트 IP별 버킷이 가득 차는 데 걸리는 시간
+     * 기본값: 1분
+     */
+    private Duration ipRefillPeriod = Duration.ofMinutes(1);
+
+    /**
+     * 이메일별 연속 허용 요청 수 (로그인/회원가입 합산)
+     * 기본값: 10회
+     */
+    private int emailCapacity = 10;
+
+    /**
+     * 이메일별 버킷이 가득 차는 데 걸리는 시간
+     * 기본값: 10분
+     */
+    private Duration emailRefillPeriod = Duration.ofMinutes(10);
+
+    /**
+     * 제한기별 최대 키 수 (초과하면 오래 쓰이지 않은 키부터 제거)
+     * 기본값: 100,000개
+     */
+    private long maximumKeys = 100_000;
+}
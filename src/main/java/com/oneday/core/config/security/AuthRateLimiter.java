@@ -0,0 +1,87 @@
+package com.oneday.core.config.security;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.oneday.core.exception.auth.TooManyRequestsException;
+import com.oneday.core.util.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인증 API 요청 제한기
+ * <p>
+ * 클라이언트 IP별 제한은 본문을 읽기 전에 {@link AuthRateLimitFilter}에서, 이메일별 제한은
+ * 요청 본문을 바인딩한 뒤 AuthController에서 확인합니다. 두 제한 모두 BCrypt 검증과 DB 조회보다 먼저 실행됩니다.
+ * 이메일은 공백 제거 후 소문자로 정규화하므로 대소문자를 바꿔 제한을 우회할 수 없습니다.
+ * <p>
+ * 메트릭: auth.rate-limit.rejected (key=ip|email), auth.rate-limit.keys (key=ip|email)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final Counter ipRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public AuthRateLimiter(AuthRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.ipLimiter = new TokenBucketRateLimiter(properties.getIpCapacity(), properties.getIpRefillPeriod(),
+            properties.getMaximumKeys());
+        this.emailLimiter = new TokenBucketRateLimiter(properties.getEmailCapacity(),
+            properties.getEmailRefillPeriod(), properties.getMaximumKeys());
+
+        this.ipRejectedCounter = Counter.builder("auth.rate-limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.emailRejectedCounter = Counter.builder("auth.rate-limit.rejected").tag("key", "email")
+            .register(meterRegistry);
+        Gauge.builder("auth.rate-limit.keys", ipLimiter, TokenBucketRateLimiter::size).tag("key", "ip")
+            .register(meterRegistry);
+        Gauge.builder("auth.rate-limit.keys", emailLimiter, TokenBucketRateLimiter::size).tag("key", "email")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트 IP별 요청 제한 확인
+     *
+     * @param clientIp 클라이언트 IP
+     * @return 허용되면 0, 거절되면 Retry-After 초
+     */
+    public long tryAcquireIp(String clientIp) {
+        long retryAfterNanos = ipLimiter.tryAcquire(clientIp);
+        if (retryAfterNanos == 0) {
+            return 0;
+        }
+        ipRejectedCounter.increment();
+        return toSeconds(retryAfterNanos);
+    }
+
+    /**
+     * 이메일별 요청 제한 확인
+     *
+     * @param email 요청 이메일
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void checkEmail(String email) {
+        if (email == null) {
+            return;
+        }
+
+        long retryAfterNanos = emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (retryAfterNanos != 0) {
+            emailRejectedCounter.increment();
+            throw new TooManyRequestsException(toSeconds(retryAfterNanos));
+        }
+    }
+
+    // Retry-After는 초 단위 정수이므로 올림
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
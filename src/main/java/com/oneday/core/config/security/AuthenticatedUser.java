@@ -0,0 +1,80 @@
+package com.oneday.core.config.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.oneday.core.entity.Role;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Access Token으로 인증된 사용자 (Authentication#getPrincipal)
+ * <p>
+ * 토큰 클레임만으로 만들어지므로 요청마다 사용자를 조회하거나 세션에 저장하지 않습니다.
+ * 컨트롤러에서는 {@code @AuthenticationPrincipal AuthenticatedUser user}로 주입받습니다.
+ * 여러 요청이 공유하는 불변 객체입니다 ({@link VerifiedTokenCache}).
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class AuthenticatedUser implements UserDetails {
+
+    /**
+     * 사용자 ID (userId 클레임 도입 이전에 발급된 토큰은 null)
+     */
+    private final Long userId;
+
+    private final String email;
+
+    /**
+     * 사용자 권한 (role 클레임 도입 이전에 발급된 토큰은 null)
+     */
+    private final Role role;
+
+    private final List<? extends GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long userId, String email, Role role, List<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * 사용자 ID (없으면 다시 로그인해야 함)
+     *
+     * @return 사용자 ID
+     * @throws CustomException 토큰에 사용자 ID가 없는 경우
+     */
+    public long requireUserId() {
+        if (userId == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED, "다시 로그인해 주세요.");
+        }
+        return userId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,129 @@
+package com.oneday.core.config.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.util.LogRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크기가 제한된 작업 풀에서 해시를 계산하는 PasswordEncoder
+ * <p>
+ * BCrypt 해시/검증은 요청당 수십~수백 ms의 CPU를 쓰므로, 요청 스레드에서 바로 실행하면 로그인 폭주가
+ * 모든 코어를 차지해 예약/카탈로그 요청까지 느려집니다. 해시 작업은 전용 스레드(기본: 코어 수의 절반)에서만
+ * 실행하고, 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 즉시 503(AUTH007)으로 거절합니다.
+ * <p>
+ * 메트릭: auth.password.hash (operation=encode|matches, 실행 시간), auth.password.hash.wait (대기 시간),
+ * auth.password.hash.queue (대기열 길이), auth.password.hash.rejected (거절 수)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor workers;
+    private final long timeoutNanos;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+    private final LogRateLimiter rejectionLogLimiter = new LogRateLimiter(5);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties,
+        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.workers = new ThreadPoolExecutor(
+            properties.getThreads(),
+            properties.getThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory("password-hash-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("operation", "matches").register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.hash.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", workers, executor -> executor.getQueue().size())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = workers.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            long suppressed = rejectionLogLimiter.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("비밀번호 해시 대기열 초과: queue={}, 생략={}", workers.getQueue().size(), suppressed);
+            }
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            long suppressed = rejectionLogLimiter.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("비밀번호 해시 대기 시간 초과: 생략={}", suppressed);
+            }
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AUTH_BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -18,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * JWT 인증 필터
  * 모든 HTTP 요청에 대해 JWT 토큰을 검증하고 인증 정보를 설정
+ * 한 번 검증된 토큰은 만료 시각까지 {@link VerifiedTokenCache}에서 재사용하고,
+ * 폐기 여부는 캐시 적중 여부와 관계없이 매 요청 {@link AccessTokenRevocationList}로 확인
  *
  * @author zionge2k
  * @since 2025-01-27
@@ -27,7 +29,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final AuthEvents authEvents;
 
     @Override
     protected void doFilterInternal(
@@ -39,19 +43,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = extractTokenFromRequest(request);
 
             if (token != null) {
-                jwtTokenProvider.validateTokenWithException(token);
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                Authentication authentication = verifiedTokenCache.authenticate(token);
 
-                log.debug("JWT 인증 성공: user={}", authentication.getName());
+                if (isRevoked(authentication)) {
+                    authEvents.tokenRejected(AuthEvents.Rejection.REVOKED, authentication.getName());
+                } else {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("JWT 인증 성공: user={}", authentication.getName());
+                }
             }
         } catch (Exception e) {
-            log.warn("JWT 인증 실패: {}", e.getMessage());
+            // 거절 사유는 JwtTokenProvider가 집계하고 초당 제한된 경고로 남김
+            log.debug("JWT 인증 실패: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
 
+    // jti가 없는 토큰은 폐기 여부를 확인할 수 없으므로 폐기된 것으로 취급 (로그아웃 후 우회 방지)
+    private boolean isRevoked(Authentication authentication) {
+        if (!(authentication.getDetails() instanceof AccessTokenDetails details) || details.tokenId() == null) {
+            return true;
+        }
+        return accessTokenRevocationList.isRevoked(details.tokenId());
+    }
+
     /**
      * Authorization 헤더에서 Bearer 토큰 추출
      *
@@ -1,5 +1,8 @@
 package com.oneday.core.config.security;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +28,20 @@ public class JwtProperties {
      */
     private String secret;
 
+    /**
+     * 현재 서명 키의 식별자 (토큰 헤더의 kid)
+     * 기본값: default
+     */
+    private String keyId = "default";
+
+    /**
+     * 검증에만 사용하는 이전 서명 키 (kid → 비밀키)
+     * 비밀키 교체 시 기존 secret을 여기로 옮기고 새 secret과 keyId를 지정하면,
+     * 이전 키로 발급된 토큰은 만료될 때까지 계속 검증됩니다.
+     * 기본값: 없음
+     */
+    private Map<String, String> previousSecrets = new LinkedHashMap<>();
+
     /**
      * Access Token 만료 시간 (밀리초)
      * 기본값: 3600000ms (1시간)
@@ -36,5 +53,23 @@ public class JwtProperties {
      * 기본값: 604800000ms (7일)
      */
     private long refreshTokenExpiration;
+
+    /**
+     * 검증된 Access Token 캐시 최대 항목 수
+     * 기본값: 10,000건
+     */
+    private long verifiedTokenCacheMaximumSize = 10_000;
+
+    /**
+     * 폐기 토큰 블룸 필터의 예상 항목 수 (초과하면 크기를 늘려 재구성)
+     * 기본값: 100,000건
+     */
+    private int revocationExpectedInsertions = 100_000;
+
+    /**
+     * 폐기 토큰 블룸 필터의 목표 거짓 양성률
+     * 기본값: 0.01 (1%)
+     */
+    private double revocationFalsePositiveRate = 0.01;
 }
 
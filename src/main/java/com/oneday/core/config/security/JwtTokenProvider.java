@@ -1,10 +1,15 @@
 package com.oneday.core.config.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
@@ -13,46 +18,108 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.oneday.core.entity.Role;
 import com.oneday.core.exception.auth.ExpiredTokenException;
 import com.oneday.core.exception.auth.InvalidTokenException;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SecurityException;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 Provider
  * 기존 JwtProperties를 활용하여 설정 관리
+ * <p>
+ * 서명 키와 파서는 생성 시 한 번만 만들어 재사용합니다 (JwtParser는 불변이며 스레드 안전).
+ * 토큰 헤더의 kid로 검증 키를 고르므로, 비밀키를 교체해도 이전 키로 발급된 토큰은
+ * {@link JwtProperties#getPreviousSecrets()}에 남아 있는 동안 계속 검증됩니다.
+ * 토큰 발급/거절은 요청마다 로그를 남기지 않고 {@link AuthEvents}로 집계합니다.
  *
  * @author zionge2k
  * @since 2025-01-26
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    /**
+     * 토큰 종류 클레임 (Access Token에만 {@value #ACCESS_TOKEN_TYPE}로 기록)
+     */
+    static final String TOKEN_TYPE_CLAIM = "typ";
+    static final String ACCESS_TOKEN_TYPE = "access";
+
     private final JwtProperties jwtProperties;
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+    private final AuthEvents authEvents;
+
+    public JwtTokenProvider(JwtProperties jwtProperties, AuthEvents authEvents) {
+        this.jwtProperties = jwtProperties;
+        this.authEvents = authEvents;
+        this.signingKeyId = jwtProperties.getKeyId();
+        this.signingKey = toSecretKey(jwtProperties.getSecret());
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        jwtProperties.getPreviousSecrets().forEach((keyId, secret) -> keys.put(keyId, toSecretKey(secret)));
+        keys.put(signingKeyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+            .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                // jjwt 0.11의 SigningKeyResolverAdapter가 raw JwsHeader로 선언되어 있어
+                // JwsHeader<?>로는 재정의할 수 없음 (erasure 충돌)
+                @SuppressWarnings("rawtypes")
+                @Override
+                public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    return resolveVerificationKey(header.getKeyId());
+                }
+            })
+            .build();
+    }
 
     /**
      * 비밀키 생성
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
+    private static SecretKey toSecretKey(String secret) {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    /**
+     * kid에 해당하는 검증 키 조회
+     * kid가 없는 토큰(kid 도입 이전 발급분)은 현재 서명 키로 검증합니다.
+     */
+    private SecretKey resolveVerificationKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("알 수 없는 서명 키: kid=" + keyId);
+        }
+        return key;
+    }
+
     /**
      * Access Token 생성
+     * User 엔티티면 userId와 role 클레임을 담아, 요청마다 사용자를 조회하지 않고 인증 사용자를 만들 수 있게 합니다.
+     * 그 외 UserDetails는 authorities 클레임에 권한 목록을 담습니다.
      *
      * @param userDetails 사용자 정보
      * @return JWT Access Token
@@ -61,19 +128,30 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
 
-        List<String> authorities = userDetails.getAuthorities().stream()
-            .map(GrantedAuthority::getAuthority)
-            .collect(Collectors.toList());
-
-        String token = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+            .setId(UUID.randomUUID().toString())  // 폐기 대상 식별용 jti
             .setSubject(userDetails.getUsername())
-            .claim("authorities", authorities)
+            .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+
+        if (userDetails instanceof com.oneday.core.entity.User user) {
+            builder
+                .claim("userId", user.getId())
+                .claim("role", user.getRole().name());
+        } else {
+            List<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+            builder.claim("authorities", authorities);
+        }
+
+        String token = builder
             .setIssuedAt(now)
             .setExpiration(expiryDate)
-            .signWith(getSigningKey())
+            .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+            .signWith(signingKey)
             .compact();
 
-        log.info("Access Token 생성 완료: email={}", userDetails.getUsername());
+        authEvents.tokenIssued(AuthEvents.TokenType.ACCESS);
         return token;
     }
 
@@ -98,10 +176,11 @@ public class JwtTokenProvider {
             .claim("userId", userId)  // userId 클레임 추가
             .setIssuedAt(now)
             .setExpiration(expiryDate)
-            .signWith(getSigningKey())
+            .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+            .signWith(signingKey)
             .compact();
 
-        log.info("Refresh Token 생성 완료: email={}, userId={}", userDetails.getUsername(), userId);
+        authEvents.tokenIssued(AuthEvents.TokenType.REFRESH);
         return token;
     }
 
@@ -124,20 +203,58 @@ public class JwtTokenProvider {
      * @throws ExpiredTokenException 만료된 토큰인 경우
      */
     public void validateTokenWithException(String token) {
+        parseTokenWithException(token);
+        log.debug("토큰 검증 성공");
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증하고 Authentication 객체 생성
+     * 인증 필터에서 사용합니다.
+     *
+     * @param token JWT 토큰
+     * @return Authentication 객체
+     * @throws InvalidTokenException 잘못된 토큰이거나 Access Token이 아닌 경우
+     * @throws ExpiredTokenException 만료된 토큰인 경우
+     */
+    public Authentication authenticate(String token) {
+        return verify(token).authentication();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증하고 인증 정보와 만료 시각 반환
+     * 검증 결과 캐시({@link VerifiedTokenCache})가 만료 시각까지 보관하는 데 사용합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰
+     * @throws InvalidTokenException 잘못된 토큰이거나 Access Token이 아닌 경우
+     * @throws ExpiredTokenException 만료된 토큰인 경우
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = requireAccessToken(parseTokenWithException(token));
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(toAuthentication(claims), expiration == null ? null : expiration.toInstant());
+    }
+
+    /**
+     * 토큰 파싱 (JJWT 예외를 인증 예외로 변환)
+     *
+     * @param token JWT 토큰
+     * @return Claims
+     */
+    private Claims parseTokenWithException(String token) {
         try {
-            parseToken(token);
-            log.debug("토큰 검증 성공");
+            return parseToken(token);
         } catch (ExpiredJwtException e) {
-            log.warn("만료된 JWT 토큰: {}", e.getMessage());
+            authEvents.tokenRejected(AuthEvents.Rejection.EXPIRED, e.getMessage());
             throw new ExpiredTokenException("만료된 토큰입니다.");
         } catch (SecurityException | MalformedJwtException e) {
-            log.warn("잘못된 JWT 서명: {}", e.getMessage());
+            authEvents.tokenRejected(AuthEvents.Rejection.INVALID, e.getMessage());
             throw new InvalidTokenException("유효하지 않은 토큰입니다.");
         } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT 토큰: {}", e.getMessage());
+            authEvents.tokenRejected(AuthEvents.Rejection.UNSUPPORTED, e.getMessage());
             throw new InvalidTokenException("지원되지 않는 토큰 형식입니다.");
         } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 비어있음: {}", e.getMessage());
+            authEvents.tokenRejected(AuthEvents.Rejection.EMPTY, e.getMessage());
             throw new InvalidTokenException("토큰이 비어있습니다.");
         }
     }
@@ -149,31 +266,87 @@ public class JwtTokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = parseToken(token);
+        return toAuthentication(requireAccessToken(parseToken(token)));
+    }
 
-        List<SimpleGrantedAuthority> grantedAuthorities = extractAuthorities(claims);
+    /**
+     * Access Token인지 확인
+     * Refresh Token 등 서명만 유효한 다른 토큰이 요청 인증에 쓰이지 않도록, typ=access이고
+     * 폐기 대상 식별용 jti가 있는 토큰만 통과시킵니다.
+     *
+     * @param claims JWT Claims
+     * @return 같은 Claims
+     * @throws InvalidTokenException Access Token이 아닌 경우
+     */
+    private Claims requireAccessToken(Claims claims) {
+        if (!ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM)) || claims.getId() == null) {
+            authEvents.tokenRejected(AuthEvents.Rejection.NOT_ACCESS_TOKEN, claims.getSubject());
+            throw new InvalidTokenException("Access Token이 아닙니다.");
+        }
+        return claims;
+    }
 
-        UserDetails userDetails = User.builder()
-            .username(claims.getSubject())
-            .password("")
-            .authorities(grantedAuthorities)
-            .build();
+    /**
+     * Claims로 Authentication 객체 생성
+     *
+     * @param claims JWT Claims
+     * @return Authentication 객체
+     */
+    private Authentication toAuthentication(Claims claims) {
+        Role role = extractRole(claims);
+        List<SimpleGrantedAuthority> grantedAuthorities = role != null
+            ? List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
+            : extractAuthorities(claims);
+
+        AuthenticatedUser principal = new AuthenticatedUser(
+            toUserId(claims.get("userId")),
+            claims.getSubject(),
+            role,
+            grantedAuthorities
+        );
 
-        return new UsernamePasswordAuthenticationToken(
-            userDetails,
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal,
             "",
             grantedAuthorities
         );
+        Date expiration = claims.getExpiration();
+        authentication.setDetails(new AccessTokenDetails(
+            claims.getId(),
+            expiration == null ? null : expiration.toInstant()
+        ));
+        return authentication;
+    }
+
+    /**
+     * Claims에서 role 추출
+     *
+     * @param claims JWT Claims
+     * @return 사용자 권한 (없거나 알 수 없으면 null)
+     */
+    private Role extractRole(Claims claims) {
+        Object roleClaim = claims.get("role");
+        if (!(roleClaim instanceof String roleName)) {
+            return null;
+        }
+
+        try {
+            return Role.valueOf(roleName);
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 role 클레임: {}", roleName);
+            return null;
+        }
     }
 
     /**
      * Claims에서 권한 정보 추출
      * null 체크 및 타입 검증을 수행하여 안전하게 권한 리스트를 반환합니다.
+     * 벤치마크(src/jmh)에서 직접 측정할 수 있도록 패키지 범위로 공개
      *
      * @param claims JWT Claims
      * @return 권한 리스트
      */
-    private List<SimpleGrantedAuthority> extractAuthorities(Claims claims) {
+    List<SimpleGrantedAuthority> extractAuthorities(Claims claims) {
         Object authoritiesObj = claims.get("authorities");
 
         if (authoritiesObj == null) {
@@ -215,8 +388,16 @@ public class JwtTokenProvider {
      */
     public Long getUserIdFromToken(String token) {
         Claims claims = parseToken(token);
-        Object userIdClaim = claims.get("userId");
+        return toUserId(claims.get("userId"));
+    }
 
+    /**
+     * userId 클레임 값을 Long으로 변환
+     *
+     * @param userIdClaim userId 클레임 값
+     * @return User ID (없거나 타입이 맞지 않으면 null)
+     */
+    private Long toUserId(Object userIdClaim) {
         if (userIdClaim == null) {
             log.debug("토큰에 userId 클레임이 없음");
             return null;
@@ -263,21 +444,20 @@ public class JwtTokenProvider {
             parseToken(token);
             return true;
         } catch (Exception e) {
-            log.warn("토큰 검증 실패: {}", e.getMessage());
+            authEvents.tokenRejected(AuthEvents.Rejection.INVALID, e.getMessage());
             return false;
         }
     }
 
     /**
      * 토큰 파싱
+     * 벤치마크(src/jmh)에서 직접 측정할 수 있도록 패키지 범위로 공개
      *
      * @param token JWT 토큰
      * @return Claims
      */
-    private Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
+    Claims parseToken(String token) {
+        return parser
             .parseClaimsJws(token)
             .getBody();
     }
@@ -0,0 +1,70 @@
+package com.oneday.core.config.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 장비에서 BCrypt cost를 보정하는 유틸리티
+ * <p>
+ * 최소 cost로 해시를 몇 번 계산해 가장 빠른 시간을 재고, cost가 1 오를 때마다 시간이 2배가 되는 점을 이용해
+ * 목표 검증 시간을 넘지 않는 가장 큰 cost를 고릅니다. 장비가 바뀌어도 로그인 1회의 해시 시간이 일정하게 유지됩니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private PasswordHashCalibrator() {
+    }
+
+    /**
+     * 설정의 목표 시간에 맞는 BCrypt cost 계산
+     *
+     * @param properties 비밀번호 해시 설정
+     * @return min ~ max 범위의 BCrypt cost
+     */
+    public static int calibrate(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(properties.getMinStrength());
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < Math.max(1, properties.getCalibrationSamples()); i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        int strength = strengthFor(Duration.ofNanos(fastest), properties.getTargetHashTime(),
+            properties.getMinStrength(), properties.getMaxStrength());
+        log.info("BCrypt cost 보정: cost={}, 측정={}ms (cost {}), 목표={}ms", strength, fastest / 1_000_000,
+            properties.getMinStrength(), properties.getTargetHashTime().toMillis());
+        return strength;
+    }
+
+    /**
+     * 최소 cost의 측정 시간으로 목표 시간 안에 들어가는 가장 큰 cost 계산
+     *
+     * @param measured 최소 cost의 해시 시간
+     * @param target 목표 해시 시간
+     * @param minStrength 최소 cost
+     * @param maxStrength 최대 cost
+     * @return min ~ max 범위의 BCrypt cost
+     */
+    static int strengthFor(Duration measured, Duration target, int minStrength, int maxStrength) {
+        long estimated = Math.max(1, measured.toNanos());
+        long targetNanos = target.toNanos();
+        int strength = minStrength;
+
+        // cost가 1 오르면 해시 시간은 2배
+        while (strength < maxStrength && estimated * 2 <= targetNanos) {
+            estimated *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
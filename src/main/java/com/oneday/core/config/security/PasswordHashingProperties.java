@@ -0,0 +1,65 @@
+package com.oneday.core.config.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해시 설정 프로퍼티 (작업 풀, BCrypt cost 보정)
+ * application.yml의 auth.password-hashing 설정을 자동으로 바인딩
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * 해시 작업 스레드 수 (나머지 코어는 예약/카탈로그 요청에 남김)
+     * 기본값: CPU 코어 수의 절반 (최소 1)
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 대기열 크기 (가득 차면 즉시 503 응답)
+     * 기본값: 64건
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 요청 스레드가 해시 결과를 기다리는 최대 시간 (초과하면 503 응답)
+     * 기본값: 5초
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * 비밀번호 검증 1회에 들이는 목표 시간 (기동 시 이 시간을 넘지 않는 가장 큰 BCrypt cost를 선택)
+     * 기본값: 250ms
+     */
+    private Duration targetHashTime = Duration.ofMillis(250);
+
+    /**
+     * 보정 결과와 관계없이 사용하는 최소 BCrypt cost
+     * 기본값: 10 (BCryptPasswordEncoder 기본값)
+     */
+    private int minStrength = 10;
+
+    /**
+     * 보정 결과의 상한 BCrypt cost
+     * 기본값: 14
+     */
+    private int maxStrength = 14;
+
+    /**
+     * 보정 시 최소 cost로 해시를 계산해 보는 횟수 (가장 빠른 값을 사용)
+     * 기본값: 3회
+     */
+    private int calibrationSamples = 3;
+}
@@ -0,0 +1,36 @@
+package com.oneday.core.config.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 만료 Refresh Token 정리 설정 프로퍼티
+ * application.yml의 auth.refresh-token.purge 설정을 자동으로 바인딩
+ * (실행 주기는 auth.refresh-token.purge.interval-ms, 기본값: 1시간)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.refresh-token.purge")
+public class RefreshTokenPurgeProperties {
+
+    /**
+     * 한 번에 삭제할 PK 구간 크기 (한 트랜잭션이 잠그는 최대 행 수)
+     * 기본값: 1,000
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * 행을 삭제한 배치 사이의 대기 시간
+     * 기본값: 100ms
+     */
+    private Duration pause = Duration.ofMillis(100);
+}
@@ -1,7 +1,10 @@
 package com.oneday.core.config.security;
 
+import java.util.Map;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,10 +12,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -26,17 +31,30 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     /**
      * PasswordEncoder Bean 등록
-     * BCrypt 해시 함수를 사용하여 비밀번호 암호화
+     * BCrypt cost는 기동 시 현재 장비에서 목표 검증 시간에 맞춰 보정 ({@link PasswordHashCalibrator})
+     * 해시는 {bcrypt} 접두사로 저장하고, 접두사가 없는 기존 해시도 BCrypt로 검증
+     * 해시 계산은 크기가 제한된 전용 작업 풀에서만 실행 ({@link BoundedPasswordEncoder})
      *
-     * @return BCryptPasswordEncoder
+     * @param passwordHashingProperties 비밀번호 해시 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return BoundedPasswordEncoder (DelegatingPasswordEncoder 위임)
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+        MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(
+            PasswordHashCalibrator.calibrate(passwordHashingProperties));
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating, passwordHashingProperties, meterRegistry);
     }
 
     /**
@@ -60,6 +78,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/refresh")
                 .permitAll()  // 회원가입, 로그인, 토큰 갱신은 인증 불필요
+                .requestMatchers(HttpMethod.GET, "/images/**")
+                .permitAll()  // 클래스 이미지는 공개 (immutable 캐시)
                 .requestMatchers("/api/auth/me")
                 .authenticated()
                 .anyRequest()
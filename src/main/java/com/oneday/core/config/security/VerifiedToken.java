@@ -0,0 +1,16 @@
+package com.oneday.core.config.security;
+
+import java.time.Instant;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명과 만료 검증을 통과한 토큰
+ *
+ * @param authentication 토큰 클레임으로 만든 인증 정보
+ * @param expiresAt 토큰 만료 시각 (exp, 없으면 null)
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record VerifiedToken(Authentication authentication, Instant expiresAt) {
+}
@@ -0,0 +1,121 @@
+package com.oneday.core.config.security;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.oneday.core.util.TokenDigest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증된 Access Token 캐시
+ * <p>
+ * 같은 Access Token은 유효 기간 동안 수백 번 제시되므로, 서명 검증과 클레임 파싱 결과(Authentication)를
+ * 토큰의 SHA-256 다이제스트를 키로 보관합니다. 원본 토큰은 메모리에 남기지 않습니다.
+ * 항목마다 토큰의 exp 시각에 만료되므로 만료된 토큰이 캐시로 통과하는 일은 없습니다.
+ * <p>
+ * 캐시는 서명/만료 검증 결과만 대신합니다. 폐기 여부처럼 시간이 지나며 바뀌는 검사는
+ * 캐시 적중 여부와 관계없이 매 요청 수행해야 합니다.
+ * 보관된 Authentication은 여러 요청이 공유하므로 수정하면 안 됩니다.
+ * <p>
+ * 메트릭: jwt.verified-token 캐시 통계(cache.gets 등)와 jwt.authentication 타이머(result=hit|miss)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+    private static final String TIMER_NAME = "jwt.authentication";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, JwtProperties jwtProperties,
+        MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getVerifiedTokenCacheMaximumSize())
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+        this.hitTimer = Timer.builder(TIMER_NAME).tag("result", "hit").register(meterRegistry);
+        this.missTimer = Timer.builder(TIMER_NAME).tag("result", "miss").register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 토큰 인증 (캐시에 없으면 검증 후 만료 시각까지 보관)
+     *
+     * @param token JWT 토큰
+     * @return Authentication 객체
+     * @throws com.oneday.core.exception.auth.InvalidTokenException 잘못된 토큰인 경우
+     * @throws com.oneday.core.exception.auth.ExpiredTokenException 만료된 토큰인 경우
+     */
+    public Authentication authenticate(String token) {
+        long start = System.nanoTime();
+        ByteBuffer key = ByteBuffer.wrap(TokenDigest.sha256(token));
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && isValid(cached)) {
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached.authentication();
+        }
+
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+        if (isValid(verified)) {
+            cache.put(key, verified);
+        }
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified.authentication();
+    }
+
+    /**
+     * 캐시 전체 비우기 (서명 키 교체 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // Caffeine 만료 처리는 지연될 수 있으므로 조회 시점에 exp를 한 번 더 확인
+    private boolean isValid(VerifiedToken token) {
+        return token.expiresAt() != null && token.expiresAt().isAfter(Instant.now());
+    }
+
+    /**
+     * 항목을 토큰의 exp 시각에 만료시키는 정책
+     */
+    private class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.oneday.core.config.storage;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 클래스 이미지 저장소 설정 프로퍼티
+ * application.yml의 storage.image 설정을 자동으로 바인딩
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.image")
+public class ImageStorageProperties {
+
+	/**
+	 * 이미지 파일 저장 디렉터리
+	 * 기본값: ./storage/images
+	 */
+	private Path rootDirectory = Path.of("storage", "images");
+
+	/**
+	 * 열어 둘 이미지 파일 핸들 최대 개수
+	 * 기본값: 256개
+	 */
+	private long openFileCacheSize = 256;
+
+	/**
+	 * 사용하지 않는 파일 핸들을 닫기까지의 시간
+	 * 기본값: 5분
+	 */
+	private Duration openFileIdleTimeout = Duration.ofMinutes(5);
+
+	/**
+	 * 이미지 응답의 브라우저/CDN 캐시 유효 시간 (Cache-Control max-age)
+	 * 기본값: 365일
+	 */
+	private Duration maxAge = Duration.ofDays(365);
+
+	/**
+	 * 업로드 가능한 최대 파일 크기 (바이트)
+	 * 기본값: 10MB
+	 */
+	private long maxUploadBytes = 10L * 1024 * 1024;
+
+	/**
+	 * 디코딩을 허용할 최대 픽셀 수 (가로 × 세로, 압축 폭탄 방지)
+	 * 기본값: 4천만 픽셀
+	 */
+	private long maxPixels = 40_000_000;
+
+	/**
+	 * 생성할 썸네일 가로 크기 목록 (픽셀)
+	 * 기본값: 320, 640
+	 */
+	private List<Integer> thumbnailWidths = List.of(320, 640);
+
+	/**
+	 * 썸네일 생성 작업 스레드 수
+	 * 기본값: 2개
+	 */
+	private int workerThreads = 2;
+
+	/**
+	 * 썸네일 생성 대기열 크기 (가득 차면 업로드를 503으로 거절)
+	 * 기본값: 100건
+	 */
+	private int workerQueueCapacity = 100;
+}
@@ -1,15 +1,24 @@
 package com.oneday.core.controller;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
-import com.oneday.core.entity.Classes;
+import com.oneday.core.dto.classes.ClassListingPageResponse;
+import com.oneday.core.dto.classes.ClassResponse;
+import com.oneday.core.dto.classes.RecommendedClassResponse;
+import com.oneday.core.dto.classes.TrendingClassResponse;
+import com.oneday.core.dto.common.ApiResponse;
 import com.oneday.core.service.ClassService;
+import com.oneday.core.service.listing.ClassListingService;
+import com.oneday.core.service.listing.ClassListingSort;
+import com.oneday.core.service.recommendation.RecommendationService;
+import com.oneday.core.service.trending.TrendingService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,14 +28,54 @@ import lombok.RequiredArgsConstructor;
 public class ClassController {
 
 	private final ClassService classService;
+	private final ClassListingService classListingService;
+	private final TrendingService trendingService;
+	private final RecommendationService recommendationService;
 
+	/**
+	 * 클래스 목록 API (목록 조회 모델에서 조회)
+	 * 예) GET /api/classes?categoryId=1&sort=PRICE_ASC&page=0&size=20
+	 *
+	 * @param categoryId 카테고리 ID (생략 시 전체)
+	 * @param sort 정렬 기준 (NEXT_SESSION, PRICE_ASC, PRICE_DESC, RATING, LATEST / 생략 시 NEXT_SESSION)
+	 * @param page 페이지 번호 (0부터, 이전 응답의 nextPage)
+	 * @param size 페이지 크기
+	 * @return 클래스 목록과 다음 페이지 번호
+	 */
 	@GetMapping
-	public List<Classes> getAllClasses() {
-		return classService.getAllClasses();
+	public ResponseEntity<ApiResponse<ClassListingPageResponse>> getClasses(
+			@RequestParam(required = false) Integer categoryId,
+			@RequestParam(required = false) String sort,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+
+		return ResponseEntity.ok(ApiResponse.success(
+				classListingService.getListings(categoryId, ClassListingSort.from(sort), page, size)));
+	}
+
+	@GetMapping("/trending")
+	public ResponseEntity<ApiResponse<List<TrendingClassResponse>>> getTrendingClasses(
+			@RequestParam(defaultValue = "20") int limit) {
+		return ResponseEntity.ok(ApiResponse.success(trendingService.getTrendingClasses(limit)));
 	}
 
 	@GetMapping("/{classId}")
-	public Classes getClassById(@PathVariable int classId) {
-		return classService.getClassById(classId);
+	public ResponseEntity<ApiResponse<ClassResponse>> getClassById(@PathVariable int classId) {
+		return ResponseEntity.ok(ApiResponse.success(classService.getClassById(classId)));
+	}
+
+	/**
+	 * 함께 예약한 클래스 추천 API
+	 * 예) GET /api/classes/1/recommendations?limit=10
+	 *
+	 * @param classId 기준 클래스 ID
+	 * @param limit 최대 결과 수
+	 * @return 이 클래스를 예약한 수강생이 함께 예약한 클래스 목록
+	 */
+	@GetMapping("/{classId}/recommendations")
+	public ResponseEntity<ApiResponse<List<RecommendedClassResponse>>> getRecommendations(
+			@PathVariable int classId,
+			@RequestParam(defaultValue = "10") int limit) {
+		return ResponseEntity.ok(ApiResponse.success(recommendationService.getRecommendations(classId, limit)));
 	}
 }
@@ -2,16 +2,17 @@ package com.oneday.core.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.oneday.core.config.security.AuthenticatedUser;
 import com.oneday.core.dto.PaymentRequestDto;
 import com.oneday.core.entity.Payment;
 import com.oneday.core.service.PaymentService;
@@ -31,14 +32,9 @@ public class PaymentController {
 	@PostMapping("/complete")
 	public ResponseEntity<?> completePayment(
 			@RequestBody PaymentRequestDto paymentDto,
-			HttpSession session) {
+			@AuthenticationPrincipal AuthenticatedUser user) {
 
-		if (session == null || session.getAttribute("userId") == null) {
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(Map.of("message", "로그인이 필요합니다."));
-		}
-
-		long studentId = (Long)session.getAttribute("userId");
+		long studentId = user.requireUserId();
 
 		try {
 			Payment completedPayment = paymentService.createReservationAndPayment(
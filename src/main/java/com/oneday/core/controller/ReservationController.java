@@ -1,6 +1,5 @@
 package com.oneday.core.controller;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Map;
@@ -9,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.oneday.core.config.security.AuthenticatedUser;
 import com.oneday.core.dto.ReservationRequestDto;
 import com.oneday.core.entity.Reservation;
 import com.oneday.core.service.ReservationService;
@@ -28,12 +29,10 @@ public class ReservationController {
 	private final ReservationService reservationService;
 
 	@PostMapping
-	public ResponseEntity<?> createReservation(@RequestBody ReservationRequestDto reservationDto, HttpSession session) {
-		if (session == null || session.getAttribute("userId") == null) {
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(Map.of("message", "로그인이 필요합니다."));
-		}
-		long studentId = (Long)session.getAttribute("userId");
+	public ResponseEntity<?> createReservation(
+			@RequestBody ReservationRequestDto reservationDto,
+			@AuthenticationPrincipal AuthenticatedUser user) {
+		long studentId = user.requireUserId();
 
 		try {
 			Reservation createdReservation = reservationService.createReservation(
@@ -56,14 +55,9 @@ public class ReservationController {
 	@PatchMapping("/{reservationId}/cancel")
 	public ResponseEntity<?> cancelReservation(
 			@PathVariable int reservationId,
-			HttpSession session) {
-
-		if (session == null || session.getAttribute("userId") == null) {
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(Map.of("message", "로그인이 필요합니다."));
-		}
+			@AuthenticationPrincipal AuthenticatedUser user) {
 
-		long studentId = (Long)session.getAttribute("userId");
+		long studentId = user.requireUserId();
 
 		try {
 			Reservation cancelledReservation = reservationService.cancelReservation(reservationId, studentId);
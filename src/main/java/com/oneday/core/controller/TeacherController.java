@@ -3,16 +3,16 @@ package com.oneday.core.controller;
 import java.util.List;
 import java.util.Map;
 
-import jakarta.servlet.http.HttpSession;
-
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.oneday.core.config.security.AuthenticatedUser;
 import com.oneday.core.dto.EnrolledStudentDto;
 import com.oneday.core.dto.TeacherScheduleResponseDto;
 import com.oneday.core.dto.common.ApiResponse;
@@ -33,20 +33,14 @@ public class TeacherController {
 	 * 강사 본인의 예정된 스케줄 조회
 	 * (예약 확정 학생 수가 포함된 DTO 리스트 반환)
 	 *
-	 * @param session HTTP 세션 (강사 인증 정보 포함)
+	 * @param user 인증된 강사 (Access Token에서 조회)
 	 * @return 예정/지난 스케줄 정보
 	 */
 	@GetMapping("/my-schedule")
-	public ResponseEntity<ApiResponse<TeacherScheduleResponseDto>> getMyTeachingSchedule(HttpSession session) {
-
-		// 세션에서 강사 ID 조회 (long 타입)
-		// 추후 토큰으로 수정 예정
-		// if (session == null || session.getAttribute("userId") == null) {
-		// 	return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-		// 			.body(Map.of("message", "로그인이 필요합니다. (강사)"));
-		// }
+	public ResponseEntity<ApiResponse<TeacherScheduleResponseDto>> getMyTeachingSchedule(
+			@AuthenticationPrincipal AuthenticatedUser user) {
 
-		long teacherId = (Long)session.getAttribute("userId");
+		long teacherId = user.requireUserId();
 
 		try {
 			TeacherScheduleResponseDto scheduleResponse = teacherService.getTeacherSchedule(teacherId);
@@ -64,15 +58,9 @@ public class TeacherController {
 	@GetMapping("/schedule/{timeId}/students")
 	public ResponseEntity<ApiResponse<List<EnrolledStudentDto>>> getEnrolledStudentsForTime(
 			@PathVariable int timeId,
-			HttpSession session) {
-
-		// 토큰에서 가져오게 추후 수정 예정
-		// if (session == null || session.getAttribute("userId") == null) {
-		// 	return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-		// 			.body(Map.of("message", "로그인이 필요합니다. (강사)"));
-		// }
+			@AuthenticationPrincipal AuthenticatedUser user) {
 
-		long teacherId = (Long)session.getAttribute("userId");
+		long teacherId = user.requireUserId();
 
 		try {
 			List<EnrolledStudentDto> students = teacherService.getEnrolledStudents(teacherId, timeId);
@@ -2,6 +2,7 @@ package com.oneday.core.controller.auth;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +11,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.oneday.core.config.security.AccessTokenDetails;
+import com.oneday.core.config.security.AuthRateLimiter;
 import com.oneday.core.dto.auth.LoginRequest;
 import com.oneday.core.dto.auth.LoginResponse;
 import com.oneday.core.dto.auth.LogoutResponse;
@@ -31,17 +34,22 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     /**
      * 회원가입 API
      * @param request 회원가입 요청 정보
      * @return 생성된 사용자 정보
+     * @throws com.oneday.core.exception.auth.TooManyRequestsException 이메일별 요청 제한을 넘은 경우 (429)
      */
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<SignUpResponse>> signUp(
         @Valid @RequestBody SignUpRequest request) {
 
-        log.info("회원가입 API 호출: email={}", request.email());
+        log.debug("회원가입 API 호출: email={}", request.email());
+
+        // 트랜잭션과 BCrypt 검증 전에 이메일별 요청 제한 확인
+        authRateLimiter.checkEmail(request.email());
 
         SignUpResponse response = authService.signUp(request);
 
@@ -54,12 +62,16 @@ public class AuthController {
      * 로그인 API
      * @param request 로그인 요청 정보 (이메일, 비밀번호)
      * @return JWT 토큰 (Access Token, Refresh Token)
+     * @throws com.oneday.core.exception.auth.TooManyRequestsException 이메일별 요청 제한을 넘은 경우 (429)
      */
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
         @Valid @RequestBody LoginRequest request) {
 
-        log.info("로그인 API 호출: email={}", request.email());
+        log.debug("로그인 API 호출: email={}", request.email());
+
+        // 트랜잭션과 BCrypt 검증 전에 이메일별 요청 제한 확인
+        authRateLimiter.checkEmail(request.email());
 
         LoginResponse response = authService.login(request);
 
@@ -75,7 +87,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<TokenRefreshResponse>> refreshToken(
         @Valid @RequestBody TokenRefreshRequest request) {
 
-        log.info("토큰 갱신 API 호출");
+        log.debug("토큰 갱신 API 호출");
 
         TokenRefreshResponse response = authService.refreshToken(request);
 
@@ -84,19 +96,24 @@ public class AuthController {
 
 	/**
 	 * 로그아웃 API
-	 * 인증된 사용자의 Refresh Token을 무효화합니다
+	 * 인증된 사용자의 Refresh Token과 요청에 사용한 Access Token을 무효화합니다
 	 *
 	 * @param userDetails Spring Security가 자동 주입
+	 * @param authentication 요청 인증 정보 (Access Token ID와 만료 시각 포함)
 	 * @return 로그아웃 응답
 	 */
 	@PostMapping("/logout")
 	public ResponseEntity<ApiResponse<LogoutResponse>> logout(
-			@AuthenticationPrincipal UserDetails userDetails) {
+			@AuthenticationPrincipal UserDetails userDetails,
+			Authentication authentication) {
 
 		String email = userDetails.getUsername();
-		log.info("로그아웃 API 호출: email={}", email);
+		log.debug("로그아웃 API 호출: email={}", email);
 
-		LogoutResponse response = authService.logout(email);
+		AccessTokenDetails accessToken = authentication.getDetails() instanceof AccessTokenDetails details
+				? details
+				: null;
+		LogoutResponse response = authService.logout(email, accessToken);
 
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
@@ -111,7 +128,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<String>> getAuthenticatedUser(
         @AuthenticationPrincipal UserDetails userDetails) {
 
-        log.info("인증 확인 API 호출: email={}", userDetails.getUsername());
+        log.debug("인증 확인 API 호출: email={}", userDetails.getUsername());
 
         return ResponseEntity.ok(
             ApiResponse.success("Authenticated as: " + userDetails.getUsername())
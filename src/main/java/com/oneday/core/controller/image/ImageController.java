@@ -0,0 +1,208 @@
+package com.oneday.core.controller.image;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.oneday.core.config.security.AuthenticatedUser;
+import com.oneday.core.config.storage.ImageStorageProperties;
+import com.oneday.core.dto.common.ApiResponse;
+import com.oneday.core.dto.image.ImageUploadResponse;
+import com.oneday.core.service.image.ImageFileStore;
+import com.oneday.core.service.image.ImageUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클래스 이미지 업로드/제공 API
+ * <p>
+ * 본문은 힙으로 복사하지 않고 파일에서 소켓으로 바로 전송합니다.
+ * Tomcat이 sendfile을 지원하면 전송을 커넥터에 넘겨 요청 스레드를 즉시 반환하고,
+ * 지원하지 않으면 {@link FileChannel#transferTo}로 전송합니다.
+ * <p>
+ * 파일은 바뀌지 않으므로 콘텐츠 해시 ETag와 immutable 캐시 헤더를 붙이고,
+ * 단일 구간 Range 요청(206)과 If-Range를 지원합니다. 여러 구간 요청은 전체 본문으로 응답합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final ImageFileStore imageFileStore;
+	private final ImageUploadService imageUploadService;
+	private final ImageStorageProperties imageStorageProperties;
+
+	/**
+	 * 클래스 이미지 업로드 API
+	 * multipart가 아닌 이미지 바이트 자체를 본문으로 받아 디스크로 바로 스트리밍합니다.
+	 * 예) POST /api/classes/1/images?representative=true (Content-Type: image/jpeg)
+	 *
+	 * @param classId 클래스 ID
+	 * @param representative 대표 이미지 지정 여부
+	 * @return 202 Accepted - 원본/썸네일 URL (썸네일은 생성 완료 후 제공)
+	 */
+	@PostMapping("/api/classes/{classId}/images")
+	public ResponseEntity<ApiResponse<ImageUploadResponse>> uploadImage(
+			@PathVariable int classId,
+			@RequestParam(defaultValue = "false") boolean representative,
+			HttpServletRequest request,
+			@AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+
+		long teacherId = user.requireUserId();
+
+		ImageUploadResponse response = imageUploadService.upload(
+				classId,
+				teacherId,
+				request.getContentType(),
+				request.getContentLengthLong(),
+				request.getInputStream(),
+				representative
+		);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+	}
+
+	/**
+	 * 이미지 조회 API (HEAD 포함)
+	 * 예) GET /images/3f9a1c...e2.jpg
+	 *
+	 * @param fileName 저장된 이미지 파일명
+	 */
+	@GetMapping("/images/{fileName:.+}")
+	public void getImage(
+			@PathVariable String fileName,
+			HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+
+		try (ImageFileStore.Handle image = imageFileStore.acquire(fileName)) {
+			String etag = image.etag();
+			long size = image.size();
+
+			response.setHeader(HttpHeaders.ETAG, etag);
+			response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(imageStorageProperties.getMaxAge())
+					.cachePublic()
+					.immutable()
+					.getHeaderValue());
+			response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+			if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+				response.setStatus(HttpStatus.NOT_MODIFIED.value());
+				return;
+			}
+
+			long start = 0;
+			long end = size - 1;
+			HttpRange range = singleRange(request, etag);
+
+			if (range != null) {
+				try {
+					start = range.getRangeStart(size);
+					end = range.getRangeEnd(size);
+				} catch (IllegalArgumentException e) {
+					start = size;
+				}
+
+				// 시작 위치가 파일 크기를 넘는 구간은 HttpRange가 거르지 않으므로 직접 확인
+				if (start >= size || start > end) {
+					response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+					return;
+				}
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+			}
+
+			long length = end - start + 1;
+			response.setContentType(image.contentType().toString());
+			response.setContentLengthLong(length);
+
+			if (HttpMethod.HEAD.matches(request.getMethod()) || length <= 0) {
+				return;
+			}
+
+			if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+				// 커넥터가 응답 완료 후 파일을 직접 열어 전송 (end는 미포함)
+				request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+				request.setAttribute(SENDFILE_START, start);
+				request.setAttribute(SENDFILE_END, end + 1);
+				return;
+			}
+
+			transfer(image.channel(), start, length, response);
+		}
+	}
+
+	private void transfer(FileChannel channel, long start, long length, HttpServletResponse response)
+			throws IOException {
+		WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+		long position = start;
+		long remaining = length;
+
+		while (remaining > 0) {
+			long sent = channel.transferTo(position, remaining, out);
+			if (sent <= 0) {
+				break;
+			}
+			position += sent;
+			remaining -= sent;
+		}
+	}
+
+	// If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 본문으로 응답
+	private HttpRange singleRange(HttpServletRequest request, String etag) {
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader == null) {
+			return null;
+		}
+
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange != null && !ifRange.equals(etag)) {
+			return null;
+		}
+
+		try {
+			List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+			return ranges.size() == 1 ? ranges.get(0) : null;
+		} catch (IllegalArgumentException e) {
+			// 형식이 잘못된 Range는 무시 (RFC 9110)
+			return null;
+		}
+	}
+
+	private boolean etagMatches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String value = candidate.trim();
+			if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,86 @@
+package com.oneday.core.controller.review;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.oneday.core.config.security.AuthenticatedUser;
+import com.oneday.core.dto.common.ApiResponse;
+import com.oneday.core.dto.review.ReviewPageResponse;
+import com.oneday.core.dto.review.ReviewRequest;
+import com.oneday.core.dto.review.ReviewResponse;
+import com.oneday.core.service.review.ReviewService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클래스 리뷰 API
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/classes/{classId}/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+	private final ReviewService reviewService;
+
+	/**
+	 * 리뷰 목록 조회 API (최신순, 키셋 페이지네이션)
+	 * 예) GET /api/classes/1/reviews?size=20&cursor=153
+	 *
+	 * @param classId 클래스 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 페이지 크기
+	 * @return 리뷰 목록과 다음 페이지 커서
+	 */
+	@GetMapping
+	public ResponseEntity<ApiResponse<ReviewPageResponse>> getReviews(
+			@PathVariable int classId,
+			@RequestParam(required = false) Integer cursor,
+			@RequestParam(defaultValue = "20") int size) {
+
+		return ResponseEntity.ok(ApiResponse.success(reviewService.getReviews(classId, cursor, size)));
+	}
+
+	/**
+	 * 리뷰 작성/수정 API (수강생당 클래스별 1개)
+	 *
+	 * @param classId 클래스 ID
+	 * @param request 평점과 내용
+	 * @return 저장된 리뷰
+	 */
+	@PutMapping
+	public ResponseEntity<ApiResponse<ReviewResponse>> writeReview(
+			@PathVariable int classId,
+			@Valid @RequestBody ReviewRequest request,
+			@AuthenticationPrincipal AuthenticatedUser user) {
+
+		long studentId = user.requireUserId();
+		return ResponseEntity.ok(ApiResponse.success(reviewService.writeReview(classId, studentId, request)));
+	}
+
+	/**
+	 * 본인 리뷰 삭제 API
+	 *
+	 * @param classId 클래스 ID
+	 */
+	@DeleteMapping
+	public ResponseEntity<ApiResponse<Void>> deleteReview(
+			@PathVariable int classId,
+			@AuthenticationPrincipal AuthenticatedUser user) {
+
+		long studentId = user.requireUserId();
+		reviewService.deleteReview(classId, studentId);
+		return ResponseEntity.ok(ApiResponse.success());
+	}
+}
@@ -0,0 +1,82 @@
+package com.oneday.core.controller.search;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.oneday.core.dto.common.ApiResponse;
+import com.oneday.core.dto.search.AutocompleteSuggestion;
+import com.oneday.core.dto.search.AvailabilitySearchRequest;
+import com.oneday.core.dto.search.AvailableSessionResponse;
+import com.oneday.core.dto.search.SearchFacetsResponse;
+import com.oneday.core.service.search.AutocompleteService;
+import com.oneday.core.service.search.AvailabilityService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클래스 검색 API
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+	private final AvailabilityService availabilityService;
+	private final AutocompleteService autocompleteService;
+
+	/**
+	 * 잔여석 검색 API
+	 * 예) GET /api/search/availability?categoryId=1&from=2025-02-08&to=2025-02-09&minSeats=2
+	 *
+	 * @param request 검색 조건
+	 * @return 잔여석이 있는 수업 목록
+	 */
+	@GetMapping("/availability")
+	public ResponseEntity<ApiResponse<List<AvailableSessionResponse>>> searchAvailability(
+			@Valid @ModelAttribute AvailabilitySearchRequest request) {
+
+		return ResponseEntity.ok(ApiResponse.success(availabilityService.searchAvailableSessions(request)));
+	}
+
+	/**
+	 * 잔여석 검색 패싯 API
+	 * 잔여석 검색과 같은 조건으로 카테고리/가격대/지역별 수업 수를 조회
+	 * 예) GET /api/search/availability/facets?categoryId=1&from=2025-02-08&to=2025-02-09
+	 *
+	 * @param request 검색 조건
+	 * @return 패싯별 수업 수
+	 */
+	@GetMapping("/availability/facets")
+	public ResponseEntity<ApiResponse<SearchFacetsResponse>> searchAvailabilityFacets(
+			@Valid @ModelAttribute AvailabilitySearchRequest request) {
+
+		return ResponseEntity.ok(ApiResponse.success(availabilityService.countFacets(request)));
+	}
+
+	/**
+	 * 검색어 자동완성 API
+	 * 클래스명/카테고리명 접두사로 인기순 제안 조회 (자모 단위 부분 입력 허용)
+	 * 예) GET /api/search/autocomplete?q=도자&limit=5
+	 *
+	 * @param query 입력 중인 검색어
+	 * @param limit 최대 결과 수 (기본 10)
+	 * @return 자동완성 제안 목록
+	 */
+	@GetMapping("/autocomplete")
+	public ResponseEntity<ApiResponse<List<AutocompleteSuggestion>>> autocomplete(
+			@RequestParam("q") String query,
+			@RequestParam(defaultValue = "10") int limit) {
+
+		return ResponseEntity.ok(ApiResponse.success(autocompleteService.suggest(query, limit)));
+	}
+}
@@ -0,0 +1,15 @@
+package com.oneday.core.dto.classes;
+
+import java.util.List;
+
+/**
+ * 클래스 목록 페이지 응답 DTO
+ *
+ * @param classes 정렬 기준 순 클래스 목록
+ * @param nextPage 다음 페이지 요청 시 page 값 (마지막 페이지면 null)
+ */
+public record ClassListingPageResponse(
+		List<ClassListingResponse> classes,
+		Integer nextPage
+) {
+}
@@ -0,0 +1,66 @@
+package com.oneday.core.dto.classes;
+
+import java.time.LocalDateTime;
+
+import com.oneday.core.entity.ClassListing;
+
+/**
+ * 클래스 목록(카드) 응답 DTO
+ *
+ * @param classId 클래스 ID
+ * @param className 클래스명
+ * @param teacherId 강사 ID
+ * @param teacherName 강사 이름
+ * @param categoryId 카테고리 ID
+ * @param category 카테고리명
+ * @param location 장소
+ * @param price 가격
+ * @param maxCapacity 최대 정원
+ * @param representativeImageUrl 대표 이미지 URL (없으면 null)
+ * @param nextTimeId 잔여석이 있는 가장 가까운 수업 시간 ID (없으면 null)
+ * @param nextStartAt 해당 수업 시작 시각
+ * @param nextRemainingSeats 해당 수업 잔여석
+ * @param upcomingSessionCount 예정된 수업 수
+ * @param ratingCount 평점 수
+ * @param ratingAverage 평점 평균 (평점이 없으면 null)
+ */
+public record ClassListingResponse(
+		Integer classId,
+		String className,
+		Long teacherId,
+		String teacherName,
+		Integer categoryId,
+		String category,
+		String location,
+		Integer price,
+		Integer maxCapacity,
+		String representativeImageUrl,
+		Integer nextTimeId,
+		LocalDateTime nextStartAt,
+		Integer nextRemainingSeats,
+		Integer upcomingSessionCount,
+		Integer ratingCount,
+		Double ratingAverage
+) {
+
+	public static ClassListingResponse from(ClassListing listing) {
+		return new ClassListingResponse(
+				listing.getClassId(),
+				listing.getClassName(),
+				listing.getTeacherId(),
+				listing.getTeacherName(),
+				listing.getCategoryId(),
+				listing.getCategory(),
+				listing.getLocation(),
+				listing.getPrice(),
+				listing.getMaxCapacity(),
+				listing.getRepresentativeImageUrl(),
+				listing.getNextTimeId(),
+				listing.getNextStartAt(),
+				listing.getNextRemainingSeats(),
+				listing.getUpcomingSessionCount(),
+				listing.getRatingCount(),
+				listing.getRatingAverage()
+		);
+	}
+}
@@ -0,0 +1,68 @@
+package com.oneday.core.dto.classes;
+
+import com.oneday.core.entity.Classes;
+
+/**
+ * 클래스 정보 응답 DTO
+ * 캐시에 저장되므로 지연 로딩 프록시를 포함하지 않는 값만 보관
+ *
+ * @param classId 클래스 ID
+ * @param teacherId 강사 ID
+ * @param teacherName 강사 이름
+ * @param categoryId 카테고리 ID
+ * @param category 카테고리명
+ * @param className 클래스명
+ * @param classDetail 클래스 상세 설명
+ * @param curriculum 커리큘럼
+ * @param included 포함 사항
+ * @param required 준비물
+ * @param longitude 경도
+ * @param latitude 위도
+ * @param location 장소
+ * @param maxCapacity 최대 정원
+ * @param price 가격
+ * @param zipcode 우편번호
+ * @param representativeImageUrl 대표 이미지 URL (없으면 null)
+ */
+public record ClassResponse(
+		Integer classId,
+		Long teacherId,
+		String teacherName,
+		Integer categoryId,
+		String category,
+		String className,
+		String classDetail,
+		String curriculum,
+		String included,
+		String required,
+		String longitude,
+		String latitude,
+		String location,
+		Integer maxCapacity,
+		Integer price,
+		String zipcode,
+		String representativeImageUrl
+) {
+
+	public static ClassResponse from(Classes classes, String representativeImageUrl) {
+		return new ClassResponse(
+				classes.getClassId(),
+				classes.getTeacher().getId(),
+				classes.getTeacher().getName(),
+				classes.getCategory().getCategoryId(),
+				classes.getCategory().getCategory(),
+				classes.getClassName(),
+				classes.getClassDetail(),
+				classes.getCurriculum(),
+				classes.getIncluded(),
+				classes.getRequired(),
+				classes.getLongitude(),
+				classes.getLatitude(),
+				classes.getLocation(),
+				classes.getMaxCapacity(),
+				classes.getPrice(),
+				classes.getZipcode(),
+				representativeImageUrl
+		);
+	}
+}
@@ -0,0 +1,38 @@
+package com.oneday.core.dto.classes;
+
+/**
+ * 함께 예약한 클래스 추천 응답 DTO
+ *
+ * @param classId 클래스 ID
+ * @param className 클래스명
+ * @param categoryId 카테고리 ID
+ * @param category 카테고리명
+ * @param location 장소
+ * @param price 가격
+ * @param representativeImageUrl 대표 이미지 URL (없으면 null)
+ * @param coBookingCount 두 클래스를 모두 예약한 수강생 수
+ */
+public record RecommendedClassResponse(
+		Integer classId,
+		String className,
+		Integer categoryId,
+		String category,
+		String location,
+		Integer price,
+		String representativeImageUrl,
+		int coBookingCount
+) {
+
+	public static RecommendedClassResponse of(ClassListingResponse classInfo, int coBookingCount) {
+		return new RecommendedClassResponse(
+				classInfo.classId(),
+				classInfo.className(),
+				classInfo.categoryId(),
+				classInfo.category(),
+				classInfo.location(),
+				classInfo.price(),
+				classInfo.representativeImageUrl(),
+				coBookingCount
+		);
+	}
+}
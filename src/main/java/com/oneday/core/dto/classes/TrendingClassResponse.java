@@ -0,0 +1,38 @@
+package com.oneday.core.dto.classes;
+
+/**
+ * 인기 급상승 클래스 응답 DTO
+ *
+ * @param classId 클래스 ID
+ * @param className 클래스명
+ * @param categoryId 카테고리 ID
+ * @param category 카테고리명
+ * @param location 장소
+ * @param price 가격
+ * @param representativeImageUrl 대표 이미지 URL (없으면 null)
+ * @param recentReservations 최근 윈도우 내 예약 수 (추정치)
+ */
+public record TrendingClassResponse(
+		Integer classId,
+		String className,
+		Integer categoryId,
+		String category,
+		String location,
+		Integer price,
+		String representativeImageUrl,
+		long recentReservations
+) {
+
+	public static TrendingClassResponse of(ClassListingResponse classInfo, long recentReservations) {
+		return new TrendingClassResponse(
+				classInfo.classId(),
+				classInfo.className(),
+				classInfo.categoryId(),
+				classInfo.category(),
+				classInfo.location(),
+				classInfo.price(),
+				classInfo.representativeImageUrl(),
+				recentReservations
+		);
+	}
+}
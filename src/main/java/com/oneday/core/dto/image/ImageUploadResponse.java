@@ -0,0 +1,16 @@
+package com.oneday.core.dto.image;
+
+import java.util.List;
+
+/**
+ * 이미지 업로드 응답 DTO
+ * 썸네일은 비동기로 생성되므로, 응답 시점에는 썸네일 URL이 아직 제공되지 않을 수 있습니다.
+ *
+ * @param imageUrl 원본 이미지 URL
+ * @param thumbnailUrls 생성될 썸네일 URL (가로 크기 오름차순)
+ */
+public record ImageUploadResponse(
+		String imageUrl,
+		List<String> thumbnailUrls
+) {
+}
@@ -0,0 +1,15 @@
+package com.oneday.core.dto.review;
+
+import java.util.List;
+
+/**
+ * 리뷰 목록 페이지 응답 DTO (키셋 페이지네이션)
+ *
+ * @param reviews 최신순 리뷰 목록
+ * @param nextCursor 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+ */
+public record ReviewPageResponse(
+		List<ReviewResponse> reviews,
+		Integer nextCursor
+) {
+}
@@ -0,0 +1,24 @@
+package com.oneday.core.dto.review;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 리뷰 작성/수정 요청 DTO
+ *
+ * @param rating 평점 (1 ~ 5)
+ * @param content 리뷰 내용 (선택)
+ */
+public record ReviewRequest(
+
+		@NotNull(message = "평점은 필수입니다")
+		@Min(value = 1, message = "평점은 1 이상이어야 합니다")
+		@Max(value = 5, message = "평점은 5 이하여야 합니다")
+		Integer rating,
+
+		@Size(max = 500, message = "리뷰는 500자 이하로 작성해 주세요")
+		String content
+) {
+}
@@ -0,0 +1,36 @@
+package com.oneday.core.dto.review;
+
+import java.time.LocalDateTime;
+
+import com.oneday.core.entity.Review;
+
+/**
+ * 리뷰 응답 DTO
+ *
+ * @param reviewId 리뷰 ID
+ * @param studentName 작성자 이름
+ * @param rating 평점
+ * @param content 리뷰 내용
+ * @param createdAt 작성 시각
+ * @param updatedAt 수정 시각 (수정하지 않았으면 null)
+ */
+public record ReviewResponse(
+		Integer reviewId,
+		String studentName,
+		Integer rating,
+		String content,
+		LocalDateTime createdAt,
+		LocalDateTime updatedAt
+) {
+
+	public static ReviewResponse from(Review review) {
+		return new ReviewResponse(
+				review.getReviewId(),
+				review.getUser().getName(),
+				review.getRating(),
+				review.getContent(),
+				review.getCreatedAt(),
+				review.getUpdatedAt()
+		);
+	}
+}
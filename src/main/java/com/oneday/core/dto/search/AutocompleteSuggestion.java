@@ -0,0 +1,15 @@
+package com.oneday.core.dto.search;
+
+/**
+ * 자동완성 제안 응답 DTO
+ *
+ * @param type 제안 종류 (클래스, 카테고리)
+ * @param id 클래스 ID 또는 카테고리 ID
+ * @param text 표시 문구
+ */
+public record AutocompleteSuggestion(
+		SuggestionType type,
+		Integer id,
+		String text
+) {
+}
@@ -0,0 +1,38 @@
+package com.oneday.core.dto.search;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 잔여석 검색 요청 DTO (쿼리 파라미터 바인딩)
+ *
+ * @param categoryId 카테고리 ID (없으면 전체)
+ * @param from 검색 시작일
+ * @param to 검색 종료일 (포함)
+ * @param minSeats 최소 잔여석 (기본 1)
+ */
+public record AvailabilitySearchRequest(
+		Integer categoryId,
+
+		@NotNull(message = "검색 시작일은 필수입니다")
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		LocalDate from,
+
+		@NotNull(message = "검색 종료일은 필수입니다")
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		LocalDate to,
+
+		@Min(value = 1, message = "최소 잔여석은 1 이상이어야 합니다")
+		Integer minSeats
+) {
+
+	public AvailabilitySearchRequest {
+		if (minSeats == null) {
+			minSeats = 1;
+		}
+	}
+}
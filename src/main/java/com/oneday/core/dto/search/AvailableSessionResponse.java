@@ -0,0 +1,48 @@
+package com.oneday.core.dto.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔여석이 있는 수업 시간 응답 DTO
+ *
+ * @param classId 클래스 ID
+ * @param className 클래스명
+ * @param categoryId 카테고리 ID
+ * @param category 카테고리명
+ * @param location 장소
+ * @param price 가격
+ * @param representativeImageUrl 대표 이미지 URL (없으면 null)
+ * @param timeId 수업 시간 ID
+ * @param startAt 시작 시각
+ * @param endAt 종료 시각
+ * @param remainingSeats 잔여석
+ */
+public record AvailableSessionResponse(
+		Integer classId,
+		String className,
+		Integer categoryId,
+		String category,
+		String location,
+		Integer price,
+		String representativeImageUrl,
+		Integer timeId,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		Integer remainingSeats
+) {
+
+	/**
+	 * 대표 이미지 없이 생성 (JPQL 생성자 표현식용)
+	 */
+	public AvailableSessionResponse(Integer classId, String className, Integer categoryId, String category,
+			String location, Integer price, Integer timeId, LocalDateTime startAt, LocalDateTime endAt,
+			Integer remainingSeats) {
+		this(classId, className, categoryId, category, location, price, null, timeId, startAt, endAt,
+				remainingSeats);
+	}
+
+	public AvailableSessionResponse withRepresentativeImageUrl(String representativeImageUrl) {
+		return new AvailableSessionResponse(classId, className, categoryId, category, location, price,
+				representativeImageUrl, timeId, startAt, endAt, remainingSeats);
+	}
+}
@@ -0,0 +1,15 @@
+package com.oneday.core.dto.search;
+
+/**
+ * 검색 패싯 항목별 건수
+ *
+ * @param value 필터 값 (카테고리 ID, 가격대 코드, 지역명)
+ * @param label 표시명
+ * @param count 조건에 해당하는 수업 수
+ */
+public record FacetCount(
+		String value,
+		String label,
+		int count
+) {
+}
@@ -0,0 +1,21 @@
+package com.oneday.core.dto.search;
+
+import java.util.List;
+
+/**
+ * 검색 패싯 응답 DTO
+ *
+ * @param categories 카테고리별 건수 (카테고리 조건 제외)
+ * @param priceBands 가격대별 건수
+ * @param regions 지역별 건수
+ */
+public record SearchFacetsResponse(
+		List<FacetCount> categories,
+		List<FacetCount> priceBands,
+		List<FacetCount> regions
+) {
+
+	public static SearchFacetsResponse empty() {
+		return new SearchFacetsResponse(List.of(), List.of(), List.of());
+	}
+}
@@ -0,0 +1,31 @@
+package com.oneday.core.dto.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수업 시간 슬롯 인덱스 적재용 DTO
+ *
+ * @param timeId 수업 시간 ID
+ * @param classId 클래스 ID
+ * @param categoryId 카테고리 ID
+ * @param category 카테고리명
+ * @param startAt 시작 시각
+ * @param endAt 종료 시각
+ * @param capacity 정원
+ * @param reserved 예약 인원
+ * @param price 가격
+ * @param location 장소
+ */
+public record SessionSlotDto(
+		Integer timeId,
+		Integer classId,
+		Integer categoryId,
+		String category,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		Integer capacity,
+		Integer reserved,
+		Integer price,
+		String location
+) {
+}
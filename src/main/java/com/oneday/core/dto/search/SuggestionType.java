@@ -0,0 +1,12 @@
+package com.oneday.core.dto.search;
+
+/**
+ * 자동완성 제안 종류
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public enum SuggestionType {
+	CLASS,
+	CATEGORY
+}
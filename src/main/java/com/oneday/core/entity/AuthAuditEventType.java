@@ -0,0 +1,39 @@
+package com.oneday.core.entity;
+
+/**
+ * 인증 감사 이벤트 종류
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public enum AuthAuditEventType {
+	/**
+	 * 회원가입
+	 */
+	SIGNUP,
+
+	/**
+	 * 로그인 성공
+	 */
+	LOGIN_SUCCESS,
+
+	/**
+	 * 로그인 실패 (존재하지 않는 이메일 또는 비밀번호 불일치)
+	 */
+	LOGIN_FAILURE,
+
+	/**
+	 * 토큰 갱신 성공
+	 */
+	TOKEN_REFRESH,
+
+	/**
+	 * 토큰 갱신 실패 (없거나 만료되었거나 서명이 잘못된 Refresh Token)
+	 */
+	TOKEN_REFRESH_FAILURE,
+
+	/**
+	 * 로그아웃
+	 */
+	LOGOUT
+}
@@ -0,0 +1,58 @@
+package com.oneday.core.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 인증 감사 로그 엔티티
+ * 테이블 정의용이며, 기록은 JPA를 거치지 않고 AuthAuditLogger가 JDBC 배치로 INSERT합니다
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Entity
+@Table(
+		name = "auth_audit_logs",
+		indexes = {
+				@Index(name = "idx_auth_audit_logs_email_occurred_at", columnList = "email, occurred_at"),
+				@Index(name = "idx_auth_audit_logs_occurred_at", columnList = "occurred_at")
+		}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class AuthAuditLog {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false, length = 30)
+	private AuthAuditEventType eventType;
+
+	@Column(length = 100)
+	private String email;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "client_ip", length = 45)
+	private String clientIp;
+
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+}
@@ -0,0 +1,109 @@
+package com.oneday.core.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 클래스 목록 조회 모델 엔티티
+ * classes, categories, users, images, times, class_ratings를 클래스당 한 행으로 펼친 읽기 전용 테이블
+ * <p>
+ * 원본 테이블이 변경되면 커밋 후 비동기로 다시 계산하므로 잠시 늦게 반영될 수 있습니다.
+ * 목록/정렬 조회는 조인 없이 이 테이블만 읽으며, 필터/정렬 컬럼 조합마다 인덱스를 둡니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Entity
+@Table(
+	name = "class_listing",
+	indexes = {
+		@Index(name = "idx_class_listing_next_start_at", columnList = "next_start_at"),
+		@Index(name = "idx_class_listing_price", columnList = "price"),
+		@Index(name = "idx_class_listing_category_next_start_at", columnList = "category_id, next_start_at"),
+		@Index(name = "idx_class_listing_category_price", columnList = "category_id, price"),
+		@Index(name = "idx_class_listing_rating_score", columnList = "rating_score"),
+		@Index(name = "idx_class_listing_category_rating_score", columnList = "category_id, rating_score")
+	}
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class ClassListing {
+
+	@Id
+	@Column(name = "class_id")
+	private Integer classId;
+
+	@Column(name = "class_name", length = 50, nullable = false)
+	private String className;
+
+	@Column(name = "teacher_id", nullable = false)
+	private Long teacherId;
+
+	@Column(name = "teacher_name", length = 50)
+	private String teacherName;
+
+	@Column(name = "category_id", nullable = false)
+	private Integer categoryId;
+
+	@Column(name = "category", length = 100)
+	private String category;
+
+	@Column(name = "location", length = 255)
+	private String location;
+
+	@Column(name = "price")
+	private Integer price;
+
+	@Column(name = "max_capacity")
+	private Integer maxCapacity;
+
+	@Column(name = "representative_image_url", length = 100)
+	private String representativeImageUrl;
+
+	/**
+	 * 잔여석이 있는 가장 가까운 예정 수업 (없으면 null)
+	 */
+	@Column(name = "next_time_id")
+	private Integer nextTimeId;
+
+	@Column(name = "next_start_at")
+	private LocalDateTime nextStartAt;
+
+	@Column(name = "next_remaining_seats")
+	private Integer nextRemainingSeats;
+
+	@Column(name = "upcoming_session_count", nullable = false)
+	private Integer upcomingSessionCount;
+
+	@Column(name = "rating_count", nullable = false)
+	private Integer ratingCount;
+
+	/**
+	 * 평점 단순 평균 (평점이 없으면 null)
+	 */
+	@Column(name = "rating_average")
+	private Double ratingAverage;
+
+	/**
+	 * 평점순 정렬용 베이지안 점수 (평점이 없으면 사전 평균)
+	 */
+	@Column(name = "rating_score", nullable = false)
+	private Double ratingScore;
+
+	@Column(name = "refreshed_at", nullable = false)
+	private LocalDateTime refreshedAt;
+}
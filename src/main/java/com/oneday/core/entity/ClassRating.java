@@ -0,0 +1,45 @@
+package com.oneday.core.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 클래스 평점 집계 엔티티
+ * 리뷰가 작성/수정/삭제될 때마다 같은 트랜잭션에서 증분 갱신 (ClassRatingRepository#applyDelta)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "class_ratings")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class ClassRating {
+
+	@Id
+	@Column(name = "class_id")
+	private Integer classId;
+
+	@Column(name = "rating_count", nullable = false)
+	private Integer ratingCount;
+
+	@Column(name = "rating_sum", nullable = false)
+	private Long ratingSum;
+
+	/**
+	 * 베이지안 평균 점수 ({@link com.oneday.core.service.review.BayesianRating})
+	 */
+	@Column(name = "score", nullable = false)
+	private Double score;
+}
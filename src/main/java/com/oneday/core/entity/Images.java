@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,12 @@ import lombok.ToString;
  * @since 2025-01-26
  */
 @Entity
-@Table(name = "images")
+@Table(
+	name = "images",
+	indexes = {
+		@Index(name = "idx_images_class_representative", columnList = "class_id, is_representative")
+	}
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
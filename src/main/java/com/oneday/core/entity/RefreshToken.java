@@ -2,6 +2,8 @@ package com.oneday.core.entity;
 
 import java.time.LocalDateTime;
 
+import com.oneday.core.util.TokenDigest;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,6 +14,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,24 +25,31 @@ import lombok.ToString;
 @Entity
 @Table(
     name = "refresh_tokens",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash")
+    },
     indexes = {
-        @Index(name = "idx_token", columnList = "token"),
-        @Index(name = "idx_user_id", columnList = "user_id")
+        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
     }
 )
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@ToString(exclude = {"user"})
+@ToString(exclude = {"user", "tokenHash"})
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    /**
+     * Refresh Token의 SHA-256 다이제스트 (원문은 저장하지 않음)
+     * BINARY 컬럼은 길이가 다르면 조용히 0으로 채우거나 잘라 조회가 어긋나므로 저장 전에 길이를 확인합니다.
+     */
+    @Column(name = "token_hash", nullable = false, columnDefinition = "BINARY(" + TokenDigest.LENGTH + ")")
+    private byte[] tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -53,6 +63,7 @@ public class RefreshToken {
 
     @jakarta.persistence.PrePersist
     protected void onCreate() {
+        requireDigestLength(this.tokenHash);
         this.createdAt = LocalDateTime.now();
     }
 
@@ -60,9 +71,16 @@ public class RefreshToken {
         return LocalDateTime.now().isAfter(this.expiresAt);
     }
 
-    public void update(String newToken, LocalDateTime newExpiresAt) {
-        this.token = newToken;
+    public void update(byte[] newTokenHash, LocalDateTime newExpiresAt) {
+        requireDigestLength(newTokenHash);
+        this.tokenHash = newTokenHash;
         this.expiresAt = newExpiresAt;
     }
+
+    private static void requireDigestLength(byte[] tokenHash) {
+        if (tokenHash == null || tokenHash.length != TokenDigest.LENGTH) {
+            throw new IllegalArgumentException("Refresh Token 다이제스트는 " + TokenDigest.LENGTH + "바이트여야 합니다.");
+        }
+    }
 }
 
@@ -0,0 +1,86 @@
+package com.oneday.core.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 클래스 리뷰(평점) 엔티티
+ * 수강생은 클래스마다 리뷰를 하나만 남길 수 있으며, 다시 평가하면 기존 리뷰를 수정합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Entity
+@Table(
+	name = "reviews",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_reviews_class_student", columnNames = {"class_id", "student_id"})
+	},
+	indexes = {
+		@Index(name = "idx_reviews_class_review", columnList = "class_id, review_id")
+	}
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString(exclude = {"classes", "user"})
+public class Review {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "review_id")
+	private Integer reviewId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "class_id", nullable = false)
+	private Classes classes;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "student_id", nullable = false)
+	private User user;
+
+	/**
+	 * 평점 (1 ~ 5)
+	 */
+	@Column(name = "rating", nullable = false)
+	private Integer rating;
+
+	@Column(name = "content", length = 500)
+	private String content;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	@PrePersist
+	protected void onCreate() {
+		this.createdAt = LocalDateTime.now();
+	}
+
+	public void update(Integer rating, String content) {
+		this.rating = rating;
+		this.content = content;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,51 @@
+package com.oneday.core.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 폐기된 Access Token 엔티티
+ * 대상 토큰이 만료되면 더 이상 필요 없으므로 주기적으로 삭제 (AccessTokenRevocationService)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Entity
+@Table(
+		name = "revoked_access_tokens",
+		indexes = {
+				@Index(name = "idx_revoked_access_tokens_revoked_at", columnList = "revoked_at"),
+				@Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expires_at")
+		}
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class RevokedAccessToken {
+
+	/**
+	 * 토큰 ID (jti)
+	 */
+	@Id
+	@Column(name = "token_id", length = 36)
+	private String tokenId;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(name = "revoked_at", nullable = false)
+	private LocalDateTime revokedAt;
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,12 @@ import lombok.ToString;
  * @since 2025-01-26
  */
 @Entity
-@Table(name = "times")
+@Table(
+	name = "times",
+	indexes = {
+		@Index(name = "idx_times_start_at", columnList = "start_at")
+	}
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,5 +53,13 @@ public class Times {
 
 	@Column(name = "end_at", nullable = false)
 	private LocalDateTime endAt;
+
+	/**
+	 * 예약 확정 인원 (reservations 집계를 대신하는 비정규화 카운터)
+	 * 예약 생성/취소 시 조건부 UPDATE로만 변경
+	 */
+	@Builder.Default
+	@Column(name = "reserved_count", nullable = false)
+	private Integer reservedCount = 0;
 }
 
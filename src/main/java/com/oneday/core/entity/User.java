@@ -136,6 +136,14 @@ public class User implements UserDetails {
         return true;
     }
 
+    /**
+     * 비밀번호 해시 교체 (로그인 시 더 높은 cost로 다시 해시한 경우)
+     * @param encodedPassword 새로 암호화된 비밀번호
+     */
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     /**
      * 엔티티 생성 시 자동으로 생성 시간 설정
      */
@@ -0,0 +1,12 @@
+package com.oneday.core.event;
+
+/**
+ * 클래스 변경 이벤트
+ * 클래스 정보, 클래스 이미지, 수업 시간(세션)이 변경되었을 때 발행
+ *
+ * @param classId 변경된 클래스 ID
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record ClassChangedEvent(Integer classId) {
+}
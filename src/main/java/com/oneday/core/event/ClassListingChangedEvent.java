@@ -0,0 +1,12 @@
+package com.oneday.core.event;
+
+/**
+ * 클래스 목록 조회 모델 변경 이벤트
+ * class_listing 행을 다시 계산해 저장했을 때 발행
+ *
+ * @param classId 변경된 클래스 ID (전체 재계산이면 null)
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record ClassListingChangedEvent(Integer classId) {
+}
@@ -0,0 +1,15 @@
+package com.oneday.core.event;
+
+/**
+ * 예약 변경 이벤트
+ * 예약이 생성되거나 취소되어 수업 시간의 예약 인원이 바뀌었을 때 발행
+ *
+ * @param timeId 수업 시간 ID
+ * @param classId 클래스 ID
+ * @param studentId 예약한 수강생 ID
+ * @param seatDelta 예약 인원 변화량 (생성 +1, 취소 -1)
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record ReservationChangedEvent(Integer timeId, Integer classId, Long studentId, int seatDelta) {
+}
@@ -0,0 +1,12 @@
+package com.oneday.core.event;
+
+/**
+ * 리뷰 변경 이벤트
+ * 리뷰가 작성/수정/삭제되어 클래스 평점 집계가 바뀌었을 때 발행
+ *
+ * @param classId 클래스 ID
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record ReviewChangedEvent(Integer classId) {
+}
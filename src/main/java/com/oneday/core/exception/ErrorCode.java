@@ -21,6 +21,7 @@ public enum ErrorCode {
     NOT_FOUND(404, "COMMON004", "요청한 리소스를 찾을 수 없습니다"),
     METHOD_NOT_ALLOWED(405, "COMMON005", "허용되지 않은 HTTP 메서드입니다"),
     CONFLICT(409, "COMMON006", "리소스 충돌이 발생했습니다"),
+    TOO_MANY_REQUESTS(429, "COMMON007", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요"),
 
     // 서버 에러 (500번대)
     INTERNAL_SERVER_ERROR(500, "COMMON999", "서버 내부 오류가 발생했습니다"),
@@ -31,7 +32,14 @@ public enum ErrorCode {
     INVALID_TOKEN(401, "AUTH003", "유효하지 않은 토큰입니다"),
     EXPIRED_TOKEN(401, "AUTH004", "만료된 토큰입니다"),
     USER_NOT_FOUND(404, "AUTH005", "사용자를 찾을 수 없습니다"),
-    INVALID_REFRESH_TOKEN(401, "AUTH006", "유효하지 않은 리프레시 토큰입니다");
+    INVALID_REFRESH_TOKEN(401, "AUTH006", "유효하지 않은 리프레시 토큰입니다"),
+    AUTH_BUSY(503, "AUTH007", "인증 요청이 많습니다. 잠시 후 다시 시도해 주세요"),
+
+    // 이미지 관련 에러
+    IMAGE_NOT_FOUND(404, "IMAGE001", "이미지를 찾을 수 없습니다"),
+    IMAGE_TOO_LARGE(413, "IMAGE002", "이미지 파일 크기가 너무 큽니다"),
+    UNSUPPORTED_IMAGE_TYPE(415, "IMAGE003", "지원하지 않는 이미지 형식입니다"),
+    IMAGE_QUEUE_FULL(503, "IMAGE004", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요");
 
     private final int status;
     private final String code;
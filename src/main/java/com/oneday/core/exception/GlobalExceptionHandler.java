@@ -3,6 +3,7 @@ package com.oneday.core.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -14,12 +15,18 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.oneday.core.dto.common.ApiResponse;
 import com.oneday.core.exception.auth.InvalidRefreshTokenException;
+import com.oneday.core.exception.auth.TooManyRequestsException;
+import com.oneday.core.util.LogRateLimiter;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 전역 예외 처리기
  * 애플리케이션 전체에서 발생하는 예외를 일관된 형식으로 처리
+ * <p>
+ * 로그인 실패, 중복 이메일 같은 4xx 비즈니스 예외는 예상된 결과이므로 DEBUG로만 남기고
+ * (건수는 AuthEvents 카운터로 집계), 5xx 비즈니스 예외와 요청 제한 초과는 초당
+ * {@value #WARNINGS_PER_SECOND}줄까지만 남깁니다 (생략된 줄 수는 다음 줄에 표시).
  *
  * @author zionge2k
  * @since 2025-01-26
@@ -28,15 +35,27 @@ import lombok.extern.slf4j.Slf4j;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final int WARNINGS_PER_SECOND = 5;
+
+    private final LogRateLimiter serverErrorLogLimiter = new LogRateLimiter(WARNINGS_PER_SECOND);
+    private final LogRateLimiter tooManyRequestsLogLimiter = new LogRateLimiter(WARNINGS_PER_SECOND);
+
     /**
      * 커스텀 예외 처리
      * 비즈니스 로직에서 발생하는 예외를 처리
      */
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e) {
-        log.error("CustomException: code={}, message={}", e.getErrorCode().getCode(), e.getMessage());
-
         ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            log.debug("CustomException: code={}, message={}", errorCode.getCode(), e.getMessage());
+        } else {
+            long suppressed = serverErrorLogLimiter.tryAcquire();
+            if (suppressed >= 0) {
+                log.error("CustomException: code={}, message={}, 생략={}", errorCode.getCode(), e.getMessage(),
+                    suppressed);
+            }
+        }
 
         return ResponseEntity
             .status(errorCode.getStatus())
@@ -104,6 +123,23 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(ErrorCode.INVALID_REFRESH_TOKEN, ex.getMessage()));
     }
 
+    /**
+     * 요청 제한 초과 예외 처리
+     * 다시 시도할 수 있는 시간을 Retry-After 헤더로 알림
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException e) {
+        long suppressed = tooManyRequestsLogLimiter.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("TooManyRequestsException: retryAfter={}s, 생략={}", e.getRetryAfterSeconds(), suppressed);
+        }
+
+        return ResponseEntity
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS));
+    }
+
     /**
      * 그 외 모든 예외 처리
      * 예상하지 못한 예외를 처리하여 서버 정보 노출 방지
@@ -0,0 +1,27 @@
+package com.oneday.core.exception.auth;
+
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한 초과 예외
+ * 같은 이메일로 짧은 시간에 너무 많은 인증 요청이 들어왔을 때 발생
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Getter
+public class TooManyRequestsException extends CustomException {
+
+    /**
+     * 다시 시도할 수 있을 때까지 남은 시간 (초, Retry-After 헤더 값)
+     */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,33 @@
+package com.oneday.core.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.oneday.core.entity.ClassListing;
+
+@Repository
+public interface ClassListingRepository extends JpaRepository<ClassListing, Integer> {
+
+	// 전체 count 조회 없이 다음 페이지 존재 여부만 확인 (size + 1건 조회)
+	Slice<ClassListing> findAllBy(Pageable pageable);
+
+	Slice<ClassListing> findByCategoryId(Integer categoryId, Pageable pageable);
+
+	// 다음 수업이 이미 시작된 클래스 (idx_class_listing_next_start_at 범위 스캔)
+	@Query("SELECT l.classId FROM ClassListing l WHERE l.nextStartAt < :now")
+	List<Integer> findClassIdsWithStartedNextSession(@Param("now") LocalDateTime now);
+
+	// 원본 클래스가 삭제된 행 정리
+	@Modifying
+	@Query("DELETE FROM ClassListing l WHERE l.classId NOT IN :classIds")
+	int deleteByClassIdNotIn(@Param("classIds") Collection<Integer> classIds);
+}
@@ -0,0 +1,32 @@
+package com.oneday.core.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.oneday.core.entity.ClassRating;
+
+@Repository
+public interface ClassRatingRepository extends JpaRepository<ClassRating, Integer> {
+
+	// 평점 수/합을 증분 갱신하고 베이지안 점수를 다시 계산 (행이 없으면 생성)
+	// MySQL은 ON DUPLICATE KEY UPDATE의 대입을 왼쪽부터 적용하므로 score는 갱신된 수/합으로 계산됨
+	@Modifying
+	@Query(value = "INSERT INTO class_ratings (class_id, rating_count, rating_sum, score) " +
+			"VALUES (:classId, :countDelta, :sumDelta, " +
+			"(:priorWeight * :priorMean + :sumDelta) / (:priorWeight + :countDelta)) " +
+			"ON DUPLICATE KEY UPDATE " +
+			"rating_count = rating_count + :countDelta, " +
+			"rating_sum = rating_sum + :sumDelta, " +
+			"score = (:priorWeight * :priorMean + rating_sum) / (:priorWeight + rating_count)",
+			nativeQuery = true)
+	int applyDelta(
+			@Param("classId") int classId,
+			@Param("countDelta") int countDelta,
+			@Param("sumDelta") int sumDelta,
+			@Param("priorWeight") int priorWeight,
+			@Param("priorMean") double priorMean
+	);
+}
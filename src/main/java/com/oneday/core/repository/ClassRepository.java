@@ -1,10 +1,27 @@
 package com.oneday.core.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.oneday.core.entity.Classes;
 
 @Repository
 public interface ClassRepository extends JpaRepository<Classes, Integer> {
+
+	// 카테고리/강사 정보를 함께 조회 (응답 DTO 변환 시 N+1 방지)
+	@Query("SELECT c FROM Classes c " +
+			"JOIN FETCH c.category " +
+			"JOIN FETCH c.teacher " +
+			"WHERE c.classId = :classId")
+	Optional<Classes> findWithCategoryAndTeacherById(@Param("classId") int classId);
+
+	@Query("SELECT c FROM Classes c " +
+			"JOIN FETCH c.category " +
+			"JOIN FETCH c.teacher")
+	List<Classes> findAllWithCategoryAndTeacher();
 }
@@ -0,0 +1,38 @@
+package com.oneday.core.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.oneday.core.entity.Images;
+
+@Repository
+public interface ImageRepository extends JpaRepository<Images, Integer> {
+
+	Optional<Images> findByClasses_ClassIdAndImageUrl(Integer classId, String imageUrl);
+
+	boolean existsByClasses_ClassIdAndIsRepresentativeTrue(Integer classId);
+
+	// 여러 클래스의 대표 이미지 URL을 한 번에 조회 (idx_images_class_representative)
+	// 반환: [classId, imageUrl]
+	@Query("SELECT i.classes.classId, i.imageUrl FROM Images i " +
+			"WHERE i.classes.classId IN :classIds " +
+			"AND i.isRepresentative = true")
+	List<Object[]> findRepresentativeImageUrls(@Param("classIds") Collection<Integer> classIds);
+
+	// 클래스의 대표 이미지를 지정한 이미지 하나로 변경
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Images i SET i.isRepresentative = " +
+			"CASE WHEN i.imageId = :imageId THEN true ELSE false END " +
+			"WHERE i.classes.classId = :classId")
+	int updateRepresentative(
+			@Param("classId") int classId,
+			@Param("imageId") int imageId
+	);
+}
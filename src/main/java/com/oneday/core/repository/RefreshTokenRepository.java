@@ -4,7 +4,11 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.oneday.core.entity.RefreshToken;
 import com.oneday.core.entity.User;
@@ -12,11 +16,26 @@ import com.oneday.core.entity.User;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     Optional<RefreshToken> findByUser(User user);
 
-	void deleteByExpiresAtBefore(LocalDateTime dateTime);
+	@Query("SELECT MIN(r.id) FROM RefreshToken r WHERE r.expiresAt < :now")
+	Long findMinIdByExpiresAtBefore(@Param("now") LocalDateTime now);
+
+	@Query("SELECT MAX(r.id) FROM RefreshToken r WHERE r.expiresAt < :now")
+	Long findMaxIdByExpiresAtBefore(@Param("now") LocalDateTime now);
+
+	/**
+	 * PK 구간 [fromId, toId) 안의 만료 토큰 삭제 (구간마다 별도 트랜잭션)
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RefreshToken r WHERE r.id >= :fromId AND r.id < :toId AND r.expiresAt < :now")
+	int deleteExpiredInIdRange(
+			@Param("fromId") long fromId,
+			@Param("toId") long toId,
+			@Param("now") LocalDateTime now);
 
 	void deleteByUser(User user);
 }
@@ -1,5 +1,6 @@
 package com.oneday.core.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -39,4 +40,49 @@ public interface ReservationRepository extends JpaRepository<Reservation, Intege
 			@Param("timeId") int timeId,
 			@Param("confirmedStatusId") int confirmedStatusId
 	);
+
+	// 클래스별 예약 확정 수 집계 (자동완성 인기도 가중치)
+	@Query("SELECT t.classes.classId, COUNT(r.reservationId) " +
+			"FROM Reservation r " +
+			"JOIN r.time t " +
+			"WHERE r.status.statusCode = :confirmedStatusId " +
+			"GROUP BY t.classes.classId")
+	List<Object[]> countConfirmedReservationsByClass(
+			@Param("confirmedStatusId") int confirmedStatusId
+	);
+
+	// 수강생이 클래스의 수업을 예약 확정 상태로 마쳤는지 확인 (리뷰 작성 자격)
+	@Query("SELECT COUNT(r) > 0 " +
+			"FROM Reservation r " +
+			"JOIN r.time t " +
+			"WHERE r.user.id = :studentId " +
+			"AND t.classes.classId = :classId " +
+			"AND r.status.statusCode = :confirmedStatusId " +
+			"AND t.endAt <= :now")
+	boolean existsAttendedReservation(
+			@Param("studentId") long studentId,
+			@Param("classId") int classId,
+			@Param("confirmedStatusId") int confirmedStatusId,
+			@Param("now") LocalDateTime now
+	);
+
+	// 예약 확정 수강생 ID 범위 (추천 행렬 재적재 구간 분할) - 반환: [[min, max]]
+	@Query("SELECT MIN(r.user.id), MAX(r.user.id) " +
+			"FROM Reservation r " +
+			"WHERE r.status.statusCode = :confirmedStatusId")
+	List<Object[]> findConfirmedStudentIdRange(@Param("confirmedStatusId") int confirmedStatusId);
+
+	// 수강생 ID 구간의 수강생별 클래스 예약 확정 수 - 반환: [studentId, classId, count]
+	@Query("SELECT r.user.id, t.classes.classId, COUNT(r.reservationId) " +
+			"FROM Reservation r " +
+			"JOIN r.time t " +
+			"WHERE r.status.statusCode = :confirmedStatusId " +
+			"AND r.user.id >= :fromStudentId " +
+			"AND r.user.id < :toStudentId " +
+			"GROUP BY r.user.id, t.classes.classId")
+	List<Object[]> countConfirmedBookingsByStudent(
+			@Param("fromStudentId") long fromStudentId,
+			@Param("toStudentId") long toStudentId,
+			@Param("confirmedStatusId") int confirmedStatusId
+	);
 }
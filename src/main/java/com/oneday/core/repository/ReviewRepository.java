@@ -0,0 +1,38 @@
+package com.oneday.core.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.oneday.core.entity.Review;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Integer> {
+
+	// 평점 변화량을 이전 평점 기준으로 계산하므로 같은 리뷰의 동시 수정은 직렬화
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Review> findByClasses_ClassIdAndUser_Id(Integer classId, Long studentId);
+
+	// 최신 리뷰 첫 페이지 (idx_reviews_class_review 역순 스캔)
+	@Query("SELECT r FROM Review r " +
+			"JOIN FETCH r.user " +
+			"WHERE r.classes.classId = :classId " +
+			"ORDER BY r.reviewId DESC")
+	List<Review> findLatest(@Param("classId") int classId, Limit limit);
+
+	// 커서(마지막으로 본 reviewId) 이후 페이지
+	@Query("SELECT r FROM Review r " +
+			"JOIN FETCH r.user " +
+			"WHERE r.classes.classId = :classId " +
+			"AND r.reviewId < :cursor " +
+			"ORDER BY r.reviewId DESC")
+	List<Review> findLatestBefore(@Param("classId") int classId, @Param("cursor") int cursor, Limit limit);
+}
@@ -0,0 +1,28 @@
+package com.oneday.core.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.entity.RevokedAccessToken;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+	List<RevokedAccessToken> findByExpiresAtAfter(LocalDateTime now);
+
+	// 기준 시각 이후 폐기되었고 아직 만료되지 않은 토큰 (인스턴스 간 동기화)
+	List<RevokedAccessToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+			LocalDateTime revokedSince, LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
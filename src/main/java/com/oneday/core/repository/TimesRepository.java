@@ -4,12 +4,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.oneday.core.dto.EnrolledStudentDto;
 import com.oneday.core.dto.TeacherScheduleDto;
+import com.oneday.core.dto.search.AvailableSessionResponse;
+import com.oneday.core.dto.search.SessionSlotDto;
 import com.oneday.core.entity.Times;
 
 @Repository
@@ -41,4 +43,65 @@ public interface TimesRepository extends JpaRepository<Times, Integer> {
 			@Param("confirmedStatusId") int confirmedStatusId
 	);
 
+	// 정원 내에서만 예약 인원 증가 (0이면 마감)
+	@Modifying
+	@Query("UPDATE Times t SET t.reservedCount = t.reservedCount + 1 " +
+			"WHERE t.timeId = :timeId " +
+			"AND t.reservedCount < :maxCapacity")
+	int increaseReservedCount(
+			@Param("timeId") int timeId,
+			@Param("maxCapacity") int maxCapacity
+	);
+
+	@Modifying
+	@Query("UPDATE Times t SET t.reservedCount = t.reservedCount - 1 " +
+			"WHERE t.timeId = :timeId " +
+			"AND t.reservedCount > 0")
+	int decreaseReservedCount(@Param("timeId") int timeId);
+
+	// 예정된 수업의 예약 인원을 reservations 기준으로 재계산
+	@Modifying
+	@Query(value = "UPDATE times t SET t.reserved_count = (" +
+			"SELECT COUNT(*) FROM reservations r " +
+			"WHERE r.time_id = t.time_id AND r.status_code = :confirmedStatusId) " +
+			"WHERE t.start_at >= :from",
+			nativeQuery = true)
+	int syncReservedCounts(
+			@Param("from") LocalDateTime from,
+			@Param("confirmedStatusId") int confirmedStatusId
+	);
+
+	// 기간 내 잔여석이 있는 수업 조회 (idx_times_start_at 범위 스캔)
+	@Query("SELECT new com.oneday.core.dto.search.AvailableSessionResponse(" +
+			"c.classId, c.className, cat.categoryId, cat.category, c.location, c.price, " +
+			"t.timeId, t.startAt, t.endAt, c.maxCapacity - t.reservedCount) " +
+			"FROM Times t " +
+			"JOIN t.classes c " +
+			"JOIN c.category cat " +
+			"WHERE t.startAt >= :from " +
+			"AND t.startAt < :to " +
+			"AND (:categoryId IS NULL OR cat.categoryId = :categoryId) " +
+			"AND c.maxCapacity - t.reservedCount >= :minSeats " +
+			"ORDER BY t.startAt ASC")
+	List<AvailableSessionResponse> findAvailableSessions(
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to,
+			@Param("categoryId") Integer categoryId,
+			@Param("minSeats") int minSeats
+	);
+
+	// 슬롯 인덱스 적재용 예정 수업 조회 (classId가 null이면 전체)
+	@Query("SELECT new com.oneday.core.dto.search.SessionSlotDto(" +
+			"t.timeId, c.classId, cat.categoryId, cat.category, t.startAt, t.endAt, " +
+			"c.maxCapacity, t.reservedCount, c.price, c.location) " +
+			"FROM Times t " +
+			"JOIN t.classes c " +
+			"JOIN c.category cat " +
+			"WHERE t.startAt >= :from " +
+			"AND (:classId IS NULL OR c.classId = :classId) " +
+			"ORDER BY t.startAt ASC, t.timeId ASC")
+	List<SessionSlotDto> findUpcomingSlots(
+			@Param("from") LocalDateTime from,
+			@Param("classId") Integer classId
+	);
 }
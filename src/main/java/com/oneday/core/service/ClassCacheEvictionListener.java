@@ -0,0 +1,47 @@
+package com.oneday.core.service;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneday.core.config.cache.CacheNames;
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.event.ClassListingChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클래스 캐시 무효화 리스너
+ * 클래스/이미지/세션 변경 트랜잭션이 커밋된 뒤 해당 클래스 대표 이미지, 상세 캐시와 목록 캐시를 비움
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ClassCacheEvictionListener {
+
+	// 직렬화된 응답 캐시보다 먼저 비워야 재생성된 응답에 이전 데이터가 담기지 않음
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	@Caching(evict = {
+			@CacheEvict(cacheNames = CacheNames.REPRESENTATIVE_IMAGE, key = "#event.classId()"),
+			@CacheEvict(cacheNames = CacheNames.CLASS_DETAIL, key = "#event.classId()"),
+			@CacheEvict(cacheNames = CacheNames.CLASS_CATALOG, allEntries = true)
+	})
+	public void onClassChanged(ClassChangedEvent event) {
+		log.debug("클래스 캐시 무효화: classId={}", event.classId());
+	}
+
+	/**
+	 * 목록 조회 모델은 비동기로 갱신되므로, 갱신이 커밋된 뒤 목록 캐시를 한 번 더 비움
+	 */
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	@CacheEvict(cacheNames = CacheNames.CLASS_CATALOG, allEntries = true)
+	public void onClassListingChanged(ClassListingChangedEvent event) {
+		log.debug("클래스 목록 캐시 무효화: classId={}", event.classId());
+	}
+}
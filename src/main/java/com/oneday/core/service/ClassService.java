@@ -1,27 +1,57 @@
 package com.oneday.core.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Service;
-
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.config.cache.CacheNames;
+import com.oneday.core.dto.classes.ClassResponse;
 import com.oneday.core.entity.Classes;
 import com.oneday.core.repository.ClassRepository;
+import com.oneday.core.service.image.RepresentativeImageService;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ClassService {
 
 	private final ClassRepository classRepository;
-
-	public Classes getClassById(int classId) {
-		return classRepository.findById(classId)
+	private final RepresentativeImageService representativeImageService;
+
+	/**
+	 * 클래스 상세 조회
+	 * 같은 classId에 대한 동시 캐시 미스는 한 번만 DB를 조회 (sync = true)
+	 *
+	 * @param classId 클래스 ID
+	 * @return 클래스 정보
+	 */
+	@Cacheable(cacheNames = CacheNames.CLASS_DETAIL, key = "#classId", sync = true)
+	public ClassResponse getClassById(int classId) {
+		return classRepository.findWithCategoryAndTeacherById(classId)
+				.map(classes -> ClassResponse.from(classes,
+						representativeImageService.getRepresentativeImageUrl(classes.getClassId())))
 				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
 	}
 
-	public List<Classes> getAllClasses() {
-		return classRepository.findAll();
+	/**
+	 * 클래스 전체 목록 조회
+	 * 대표 이미지는 한 번의 일괄 조회로 채움
+	 *
+	 * @return 클래스 목록 (불변 리스트)
+	 */
+	@Cacheable(cacheNames = CacheNames.CLASS_CATALOG, key = "'all'", sync = true)
+	public List<ClassResponse> getAllClasses() {
+		List<Classes> classes = classRepository.findAllWithCategoryAndTeacher();
+		Map<Integer, String> imageUrls = representativeImageService.getRepresentativeImageUrls(
+				classes.stream().map(Classes::getClassId).toList());
+
+		return classes.stream()
+				.map(c -> ClassResponse.from(c, imageUrls.get(c.getClassId())))
+				.toList();
 	}
 }
@@ -1,5 +1,6 @@
 package com.oneday.core.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +10,7 @@ import com.oneday.core.entity.Reservation;
 import com.oneday.core.entity.ReservationStatus;
 import com.oneday.core.entity.Times;
 import com.oneday.core.entity.User;
+import com.oneday.core.event.ReservationChangedEvent;
 import com.oneday.core.repository.ClassRepository;
 import com.oneday.core.repository.ReservationRepository;
 import com.oneday.core.repository.ReservationStatusRepository;
@@ -26,6 +28,7 @@ public class ReservationService {
 	private final TimesRepository timesRepository;
 	private final ReservationStatusRepository reservationStatusRepository;
 	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
 	// 예약 확정 상태 번호
 	// 추후 정해지면 변경 할 수도 안 할 수도
 
@@ -37,6 +40,7 @@ public class ReservationService {
 	 * @return 생성된 예약 정보
 	 * @throws RuntimeException 사용자/시간/상태를 찾을 수 없거나, 중복 예약, 정원 초과 시 발생
 	 */
+	@Transactional
 	public Reservation createReservation(int timeId, long studentId) {
 
 		User targetUser = userRepository.findById(studentId)
@@ -52,25 +56,30 @@ public class ReservationService {
 			throw new RuntimeException("이미 예약한 강의입니다.");
 		}
 
-		long currentCount = reservationRepository.countByTime_TimeIdAndStatus_StatusCode(
+		ReservationStatus confirmedStatus = reservationStatusRepository.findById(CONFIRMED)
+				.orElseThrow(() -> new RuntimeException("예약 상태 코드(ID: " + CONFIRMED + ")를 찾을 수 없습니다."));
+
+		// 정원 확인과 좌석 점유를 하나의 조건부 UPDATE로 처리 (동시 예약 시 초과 방지)
+		int claimed = timesRepository.increaseReservedCount(
 				timeId,
-				CONFIRMED
+				targetTime.getClasses().getMaxCapacity()
 		);
 
-		if (currentCount >= targetTime.getClasses().getMaxCapacity()) {
+		if (claimed == 0) {
 			throw new RuntimeException("정원이 모두 마감되었습니다.");
 		}
 
-		ReservationStatus confirmedStatus = reservationStatusRepository.findById(CONFIRMED)
-				.orElseThrow(() -> new RuntimeException("예약 상태 코드(ID: " + CONFIRMED + ")를 찾을 수 없습니다."));
-
 		Reservation newReservation = Reservation.builder()
 				.user(targetUser)
 				.time(targetTime)
 				.status(confirmedStatus)
 				.build();
 
-		return reservationRepository.save(newReservation);
+		Reservation saved = reservationRepository.save(newReservation);
+		eventPublisher.publishEvent(
+				new ReservationChangedEvent(timeId, targetTime.getClasses().getClassId(), studentId, 1));
+
+		return saved;
 	}
 
 	/**
@@ -104,6 +113,11 @@ public class ReservationService {
 
 		// 4. 상태 변경: 예약 객체의 상태를 "취소"(2)로 업데이트
 		reservation.updateStatus(cancelledStatus);
+		Times time = reservation.getTime();
+		if (timesRepository.decreaseReservedCount(time.getTimeId()) > 0) {
+			eventPublisher.publishEvent(
+					new ReservationChangedEvent(time.getTimeId(), time.getClasses().getClassId(), studentId, -1));
+		}
 
 		// @Transactional -> 메소드가 끝나면
 		// reservation 객체 변경 감지(Dirty Checking)
@@ -0,0 +1,109 @@
+package com.oneday.core.service.auth;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.config.security.AccessTokenRevocationList;
+import com.oneday.core.entity.RevokedAccessToken;
+import com.oneday.core.repository.RevokedAccessTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 폐기 서비스
+ * <p>
+ * 폐기 내역은 revoked_access_tokens에 저장하고, 인증 필터가 조회하는 메모리 목록
+ * ({@link AccessTokenRevocationList})에 반영합니다. 다른 인스턴스에서 폐기된 토큰은
+ * 주기적으로(기본 5초) 새 폐기 내역을 읽어 반영하므로, 그 사이에는 다른 인스턴스에서 통과할 수 있습니다.
+ * 대상 토큰이 만료된 항목은 메모리와 DB에서 모두 지웁니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenRevocationService {
+
+	// 커밋 지연과 인스턴스 간 시계 차이를 고려해 동기화 구간을 겹쳐 읽음
+	private static final long SYNC_OVERLAP_SECONDS = 30;
+
+	private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+	private final AccessTokenRevocationList accessTokenRevocationList;
+
+	// 마지막 동기화 시각 (null이면 아직 전체를 읽지 않음)
+	private volatile LocalDateTime syncedUntil;
+
+	/**
+	 * Access Token 폐기
+	 *
+	 * @param tokenId 토큰 ID (jti, 없으면 무시)
+	 * @param expiresAt 토큰 만료 시각
+	 */
+	@Transactional
+	public void revoke(String tokenId, Instant expiresAt) {
+		if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+			return;
+		}
+
+		revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+				.tokenId(tokenId)
+				.expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+				.revokedAt(LocalDateTime.now())
+				.build());
+		accessTokenRevocationList.revoke(tokenId, expiresAt);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		sync();
+	}
+
+	/**
+	 * 다른 인스턴스에서 폐기된 토큰 반영
+	 */
+	@Scheduled(
+			initialDelayString = "${jwt.revocation.sync-interval-ms:5000}",
+			fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}"
+	)
+	public void sync() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime since = syncedUntil;
+
+		List<RevokedAccessToken> revokedTokens = since == null
+				? revokedAccessTokenRepository.findByExpiresAtAfter(now)
+				: revokedAccessTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+						since.minusSeconds(SYNC_OVERLAP_SECONDS), now);
+		for (RevokedAccessToken revokedToken : revokedTokens) {
+			accessTokenRevocationList.revoke(
+					revokedToken.getTokenId(),
+					revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+		}
+
+		syncedUntil = now;
+		if (!revokedTokens.isEmpty()) {
+			log.debug("폐기 토큰 동기화: count={}, total={}", revokedTokens.size(), accessTokenRevocationList.size());
+		}
+	}
+
+	/**
+	 * 대상 토큰이 만료된 폐기 항목 정리
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.expire-interval-ms:60000}")
+	public void expire() {
+		accessTokenRevocationList.expire(Instant.now());
+		int deleted = revokedAccessTokenRepository.deleteExpired(LocalDateTime.now());
+		if (deleted > 0) {
+			log.debug("만료된 폐기 토큰 삭제: deleted={}", deleted);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.oneday.core.service.auth;
+
+import java.time.LocalDateTime;
+
+import com.oneday.core.entity.AuthAuditEventType;
+
+/**
+ * 기록 대기 중인 인증 감사 이벤트
+ *
+ * @param type 이벤트 종류
+ * @param email 요청 이메일 (없으면 null)
+ * @param userId 사용자 ID (확인되지 않았으면 null)
+ * @param clientIp 클라이언트 IP (요청 밖에서 발생했으면 null)
+ * @param occurredAt 발생 시각
+ * @param enqueuedNanos 버퍼에 넣은 시각 ({@link System#nanoTime()}, 기록 지연 측정용)
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public record AuthAuditEvent(
+		AuthAuditEventType type,
+		String email,
+		Long userId,
+		String clientIp,
+		LocalDateTime occurredAt,
+		long enqueuedNanos
+) {
+}
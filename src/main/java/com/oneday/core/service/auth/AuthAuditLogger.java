@@ -0,0 +1,229 @@
+package com.oneday.core.service.auth;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.oneday.core.config.security.AuthAuditProperties;
+import com.oneday.core.config.security.AuthAuditProperties.OverflowPolicy;
+import com.oneday.core.entity.AuthAuditEventType;
+import com.oneday.core.util.LogRateLimiter;
+import com.oneday.core.util.RingBuffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 감사 로그 기록기 (write-behind)
+ * <p>
+ * 인증 요청마다 INSERT를 기다리지 않도록 이벤트는 잠금 없는 링 버퍼에 넣기만 하고,
+ * 전용 스레드가 batchSize건이 쌓이거나 flushInterval이 지나면 JDBC 배치 INSERT로 auth_audit_logs에 기록합니다.
+ * 버퍼가 가득 차면 overflowPolicy에 따라 버리거나(DROP) 요청 스레드에서 바로 기록합니다(CALLER_RUNS).
+ * 배치 INSERT가 실패하면 해당 배치는 버리고 다음 배치를 계속 기록합니다.
+ * <p>
+ * 메트릭: auth.audit.written (기록 수), auth.audit.dropped (reason=overflow|error, 유실 수),
+ * auth.audit.delay (버퍼에 넣은 뒤 기록되기까지 걸린 시간), auth.audit.flush (배치 INSERT 시간),
+ * auth.audit.buffer (대기 중인 이벤트 수)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class AuthAuditLogger {
+
+	private static final String INSERT_SQL = "INSERT INTO auth_audit_logs "
+			+ "(event_type, email, user_id, client_ip, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+	// auth_audit_logs.email 컬럼 길이 (초과하면 strict 모드에서 배치 전체 INSERT가 실패)
+	private static final int EMAIL_MAX_LENGTH = 100;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AuthAuditProperties properties;
+	private final RingBuffer<AuthAuditEvent> buffer;
+	private final ScheduledExecutorService flusher;
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private final LogRateLimiter overflowLogLimiter = new LogRateLimiter(1);
+
+	private final Counter writtenCounter;
+	private final Counter overflowCounter;
+	private final Counter errorCounter;
+	private final Timer delayTimer;
+	private final Timer flushTimer;
+
+	public AuthAuditLogger(JdbcTemplate jdbcTemplate, AuthAuditProperties properties, MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+		this.buffer = new RingBuffer<>(properties.getBufferCapacity());
+
+		this.writtenCounter = Counter.builder("auth.audit.written").register(meterRegistry);
+		this.overflowCounter = Counter.builder("auth.audit.dropped").tag("reason", "overflow").register(meterRegistry);
+		this.errorCounter = Counter.builder("auth.audit.dropped").tag("reason", "error").register(meterRegistry);
+		this.delayTimer = Timer.builder("auth.audit.delay").register(meterRegistry);
+		this.flushTimer = Timer.builder("auth.audit.flush").register(meterRegistry);
+		Gauge.builder("auth.audit.buffer", buffer, RingBuffer::size).register(meterRegistry);
+
+		this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("auth-audit-"));
+	}
+
+	/**
+	 * 주기 기록 시작 (생성이 끝난 뒤에 this를 flusher 스레드에 넘기도록 생성자와 분리)
+	 */
+	@PostConstruct
+	public void start() {
+		long intervalMillis = properties.getFlushInterval().toMillis();
+		flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 인증 이벤트 기록 (요청 스레드는 버퍼에 넣기만 하고 바로 반환)
+	 *
+	 * @param type 이벤트 종류
+	 * @param email 요청 이메일 (없으면 null)
+	 * @param userId 사용자 ID (확인되지 않았으면 null)
+	 */
+	public void record(AuthAuditEventType type, String email, Long userId) {
+		AuthAuditEvent event = new AuthAuditEvent(type, truncateEmail(email), userId, currentClientIp(),
+				LocalDateTime.now(), System.nanoTime());
+
+		if (!buffer.offer(event)) {
+			handleOverflow(event);
+			return;
+		}
+
+		if (buffer.size() >= properties.getBatchSize()) {
+			requestFlush();
+		}
+	}
+
+	/**
+	 * 버퍼에 쌓인 이벤트를 모두 기록 (flusher 스레드 또는 종료 시에만 호출)
+	 */
+	void flush() {
+		flushRequested.set(false);
+		int batchSize = properties.getBatchSize();
+
+		while (buffer.size() > 0) {
+			List<AuthAuditEvent> batch = new ArrayList<>(batchSize);
+			if (buffer.drain(batch::add, batchSize) == 0) {
+				return;
+			}
+			write(batch);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flusher.shutdown();
+		try {
+			if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+				flusher.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			flusher.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+
+		// 종료 직전까지 쌓인 이벤트 기록 (flusher가 멈췄으므로 이 스레드가 유일한 소비자)
+		flushSafely();
+	}
+
+	private void handleOverflow(AuthAuditEvent event) {
+		if (properties.getOverflowPolicy() == OverflowPolicy.CALLER_RUNS) {
+			write(List.of(event));
+			return;
+		}
+
+		overflowCounter.increment();
+		long suppressed = overflowLogLimiter.tryAcquire();
+		if (suppressed >= 0) {
+			log.warn("인증 감사 로그 버퍼 초과로 이벤트 유실: type={}, 생략={}", event.type(), suppressed);
+		}
+	}
+
+	// 버퍼가 배치 크기만큼 차면 주기를 기다리지 않고 한 번만 예약
+	private void requestFlush() {
+		if (!flushRequested.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			flusher.execute(this::flushSafely);
+		} catch (RejectedExecutionException e) {
+			flushRequested.set(false);
+		}
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.warn("인증 감사 로그 기록 실패", e);
+		}
+	}
+
+	private void write(List<AuthAuditEvent> events) {
+		try {
+			flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), this::bind));
+		} catch (DataAccessException e) {
+			errorCounter.increment(events.size());
+			log.warn("인증 감사 로그 배치 INSERT 실패: {}건 유실", events.size(), e);
+			return;
+		}
+
+		long now = System.nanoTime();
+		for (AuthAuditEvent event : events) {
+			delayTimer.record(now - event.enqueuedNanos(), TimeUnit.NANOSECONDS);
+		}
+		writtenCounter.increment(events.size());
+	}
+
+	private void bind(PreparedStatement statement, AuthAuditEvent event) throws SQLException {
+		statement.setString(1, event.type().name());
+		statement.setString(2, event.email());
+		if (event.userId() != null) {
+			statement.setLong(3, event.userId());
+		} else {
+			statement.setNull(3, Types.BIGINT);
+		}
+		statement.setString(4, event.clientIp());
+		statement.setTimestamp(5, Timestamp.valueOf(event.occurredAt()));
+	}
+
+	// 인증 전 요청의 이메일은 @Email 검증만 거치므로 길이 제한이 없음 (서로게이트 쌍은 나누지 않음)
+	private static String truncateEmail(String email) {
+		if (email == null || email.length() <= EMAIL_MAX_LENGTH) {
+			return email;
+		}
+		int end = Character.isHighSurrogate(email.charAt(EMAIL_MAX_LENGTH - 1)) ? EMAIL_MAX_LENGTH - 1 : EMAIL_MAX_LENGTH;
+		return email.substring(0, end);
+	}
+
+	private static String currentClientIp() {
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			return attributes.getRequest().getRemoteAddr();
+		}
+		return null;
+	}
+}
@@ -4,8 +4,13 @@ import java.time.LocalDateTime;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.oneday.core.config.security.AccessTokenDetails;
+import com.oneday.core.config.security.AuthEvents;
+import com.oneday.core.config.security.AuthEvents.Operation;
 import com.oneday.core.config.security.JwtTokenProvider;
 import com.oneday.core.dto.auth.LoginRequest;
 import com.oneday.core.dto.auth.LoginResponse;
@@ -14,6 +19,7 @@ import com.oneday.core.dto.auth.SignUpRequest;
 import com.oneday.core.dto.auth.SignUpResponse;
 import com.oneday.core.dto.auth.TokenRefreshRequest;
 import com.oneday.core.dto.auth.TokenRefreshResponse;
+import com.oneday.core.entity.AuthAuditEventType;
 import com.oneday.core.entity.RefreshToken;
 import com.oneday.core.entity.Role;
 import com.oneday.core.entity.User;
@@ -22,12 +28,16 @@ import com.oneday.core.exception.auth.InvalidCredentialsException;
 import com.oneday.core.exception.auth.InvalidRefreshTokenException;
 import com.oneday.core.repository.RefreshTokenRepository;
 import com.oneday.core.repository.user.UserRepository;
+import com.oneday.core.util.TokenDigest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 인증 관련 비즈니스 로직 처리
+ * <p>
+ * 회원가입과 로그인은 BCrypt 해시를 계산하는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행합니다.
+ * 조회는 리포지토리 단위의 짧은 트랜잭션으로 끝내고, 쓰기만 해시 계산 뒤에 별도 트랜잭션으로 묶습니다.
  *
  * @author zionge2k
  * @since 2025-01-26
@@ -42,6 +52,10 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final AuthAuditLogger authAuditLogger;
+    private final AuthEvents authEvents;
+    private final TransactionOperations transactionOperations;
 
     /**
      * 회원가입
@@ -49,20 +63,20 @@ public class AuthService {
      * @return 생성된 사용자 정보
      * @throws DuplicateEmailException 이메일이 이미 존재하는 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignUpResponse signUp(SignUpRequest request) {
-        log.info("회원가입 시도: email={}", request.email());
+        log.debug("회원가입 시도: email={}", request.email());
 
         // 1. 이메일 중복 확인
         if (userRepository.existsByEmail(request.email())) {
-            log.warn("중복된 이메일로 회원가입 시도: {}", request.email());
+            authEvents.failed(Operation.SIGNUP, "중복된 이메일", request.email());
             throw new DuplicateEmailException("이미 사용 중인 이메일입니다");
         }
 
-        // 2. 비밀번호 암호화
+        // 2. 비밀번호 암호화 (트랜잭션 밖에서 계산)
         String encodedPassword = passwordEncoder.encode(request.password());
 
-        // 3. 사용자 생성 및 저장
+        // 3. 사용자 생성 및 저장 (save 단독 트랜잭션)
         User user = User.builder()
             .email(request.email())
             .password(encodedPassword)
@@ -71,7 +85,9 @@ public class AuthService {
             .build();
 
         User savedUser = userRepository.save(user);
-        log.info("회원가입 완료: id={}, email={}", savedUser.getId(), savedUser.getEmail());
+        log.debug("회원가입 완료: id={}, email={}", savedUser.getId(), savedUser.getEmail());
+        authEvents.succeeded(Operation.SIGNUP);
+        authAuditLogger.record(AuthAuditEventType.SIGNUP, savedUser.getEmail(), savedUser.getId());
 
         // 4. 응답 반환
         return new SignUpResponse(
@@ -88,31 +104,47 @@ public class AuthService {
      * @return JWT 토큰 (Access Token, Refresh Token)
      * @throws InvalidCredentialsException 이메일 또는 비밀번호가 올바르지 않은 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        log.info("로그인 시도: email={}", request.email());
+        log.debug("로그인 시도: email={}", request.email());
 
         // 1. 사용자 조회
         User user = userRepository.findByEmail(request.email())
             .orElseThrow(() -> {
-                log.warn("로그인 실패 - 존재하지 않는 이메일: {}", request.email());
+                authEvents.failed(Operation.LOGIN, "존재하지 않는 이메일", request.email());
+                authAuditLogger.record(AuthAuditEventType.LOGIN_FAILURE, request.email(), null);
                 return new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다");
             });
 
-        // 2. 비밀번호 검증
+        // 2. 비밀번호 검증 (트랜잭션 밖에서 계산)
         if (!passwordEncoder.matches(request.password(), user.getPassword())) {
-            log.warn("로그인 실패 - 비밀번호 불일치: email={}", request.email());
+            authEvents.failed(Operation.LOGIN, "비밀번호 불일치", request.email());
+            authAuditLogger.record(AuthAuditEventType.LOGIN_FAILURE, request.email(), user.getId());
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
+        // 2-1. 저장된 해시가 현재 cost보다 낮거나 형식이 오래되었으면 다시 해시
+        boolean rehashed = passwordEncoder.upgradeEncoding(user.getPassword());
+        if (rehashed) {
+            user.updatePassword(passwordEncoder.encode(request.password()));
+        }
+
         // 3. JWT 토큰 생성 (User 엔티티가 UserDetails를 구현하므로 직접 전달)
         String accessToken = jwtTokenProvider.generateAccessToken(user);
         String refreshToken = jwtTokenProvider.generateRefreshToken(user);
 
-        // 4. Refresh Token DB에 저장
-        saveOrUpdateRefreshToken(user, refreshToken);
+        // 4. 해시 갱신과 Refresh Token 저장을 짧은 쓰기 트랜잭션으로 처리
+        transactionOperations.executeWithoutResult(status -> {
+            if (rehashed) {
+                userRepository.save(user);
+                log.info("비밀번호 해시 갱신: email={}", request.email());
+            }
+            saveOrUpdateRefreshToken(user, refreshToken);
+        });
 
-        log.info("로그인 성공: email={}", request.email());
+        log.debug("로그인 성공: email={}", request.email());
+        authEvents.succeeded(Operation.LOGIN);
+        authAuditLogger.record(AuthAuditEventType.LOGIN_SUCCESS, user.getEmail(), user.getId());
 
         // 5. 응답 반환
         return new LoginResponse(accessToken, refreshToken);
@@ -128,20 +160,25 @@ public class AuthService {
     public TokenRefreshResponse refreshToken(TokenRefreshRequest request) {
         String refreshToken = request.refreshToken();
 
-        // 1. DB에서 Refresh Token 조회
-        RefreshToken savedToken = refreshTokenRepository.findByToken(refreshToken)
-            .orElseThrow(() -> new InvalidRefreshTokenException(
-                "유효하지 않은 Refresh Token입니다"));
+        // 1. DB에서 Refresh Token 조회 (SHA-256 다이제스트로 조회)
+        RefreshToken savedToken = refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken))
+            .orElseThrow(() -> {
+                authEvents.failed(Operation.REFRESH, "등록되지 않은 토큰", null);
+                authAuditLogger.record(AuthAuditEventType.TOKEN_REFRESH_FAILURE, null, null);
+                return new InvalidRefreshTokenException("유효하지 않은 Refresh Token입니다");
+            });
 
         // 2. 만료 여부 확인
         if (savedToken.isExpired()) {
             refreshTokenRepository.delete(savedToken);
+            recordRefreshFailure(savedToken, "만료된 토큰");
             throw new InvalidRefreshTokenException("만료된 Refresh Token입니다");
         }
 
         // 3. JWT 검증
         if (!jwtTokenProvider.validateToken(refreshToken)) {
             refreshTokenRepository.delete(savedToken);
+            recordRefreshFailure(savedToken, "검증 실패");
             throw new InvalidRefreshTokenException("유효하지 않은 Refresh Token입니다");
         }
 
@@ -157,10 +194,12 @@ public class AuthService {
         LocalDateTime newExpiresAt = LocalDateTime.now()
             .plusSeconds(jwtTokenProvider.getRefreshTokenExpirationTime());
 
-        savedToken.update(newRefreshToken, newExpiresAt);
+        savedToken.update(TokenDigest.sha256(newRefreshToken), newExpiresAt);
         refreshTokenRepository.save(savedToken);
 
-        log.info("토큰 갱신 완료: email={}", email);
+        log.debug("토큰 갱신 완료: email={}", email);
+        authEvents.succeeded(Operation.REFRESH);
+        authAuditLogger.record(AuthAuditEventType.TOKEN_REFRESH, user.getEmail(), user.getId());
 
         return new TokenRefreshResponse(
             newAccessToken,
@@ -171,52 +210,68 @@ public class AuthService {
 
 	/**
 	 * 로그아웃
-	 * Refresh Token을 DB에서 삭제하여 무효화합니다
+	 * Refresh Token을 DB에서 삭제하고, 요청에 사용한 Access Token을 폐기하여 무효화합니다
 	 *
 	 * @param email 로그아웃할 사용자 이메일
+	 * @param accessToken 요청에 사용한 Access Token 정보 (없으면 null)
 	 * @return 로그아웃 응답
 	 */
 	@Transactional
-	public LogoutResponse logout(String email) {
-		log.info("로그아웃 시도: email={}", email);
+	public LogoutResponse logout(String email, AccessTokenDetails accessToken) {
+		log.debug("로그아웃 시도: email={}", email);
 
 		// 사용자 조회
 		User user = userRepository.findByEmail(email)
 				.orElseThrow(() -> {
-					log.warn("로그아웃 실패 - 존재하지 않는 사용자: {}", email);
+					authEvents.failed(Operation.LOGOUT, "존재하지 않는 사용자", email);
 					return new InvalidCredentialsException("사용자를 찾을 수 없습니다");
 				});
 
 		// Refresh Token 삭제 (멱등성: 없어도 에러 발생하지 않음)
 		refreshTokenRepository.deleteByUser(user);
 
-		log.info("로그아웃 완료: email={}", email);
+		// 요청에 사용한 Access Token 폐기 (만료 전까지 다른 요청에 사용 불가)
+		if (accessToken != null) {
+			accessTokenRevocationService.revoke(accessToken.tokenId(), accessToken.expiresAt());
+		}
+
+		log.debug("로그아웃 완료: email={}", email);
+		authEvents.succeeded(Operation.LOGOUT);
+		authAuditLogger.record(AuthAuditEventType.LOGOUT, user.getEmail(), user.getId());
 
 		return LogoutResponse.success();
 	}
 
+	private void recordRefreshFailure(RefreshToken savedToken, String reason) {
+		User user = savedToken.getUser();
+		authEvents.failed(Operation.REFRESH, reason, user.getEmail());
+		authAuditLogger.record(AuthAuditEventType.TOKEN_REFRESH_FAILURE, user.getEmail(), user.getId());
+	}
+
 	/**
 	 * Refresh Token 저장 또는 업데이트
+	 * 원문 대신 SHA-256 다이제스트만 저장합니다
 	 */
 	private void saveOrUpdateRefreshToken(User user, String token) {
+		byte[] tokenHash = TokenDigest.sha256(token);
 		LocalDateTime expiresAt = LocalDateTime.now()
 				.plusSeconds(jwtTokenProvider.getRefreshTokenExpirationTime());
 
         refreshTokenRepository.findByUser(user)
             .ifPresentOrElse(
                 existingToken -> {
-                    existingToken.update(token, expiresAt);
+                    existingToken.update(tokenHash, expiresAt);
                     refreshTokenRepository.save(existingToken);
-                    log.info("기존 Refresh Token 업데이트: userId={}", user.getId());
+                    log.debug("기존 Refresh Token 업데이트: userId={}", user.getId());
                 },
                 () -> {
                     RefreshToken newToken = RefreshToken.builder()
-                        .token(token)
+                        .tokenHash(tokenHash)
                         .user(user)
                         .expiresAt(expiresAt)
                         .build();
                     refreshTokenRepository.save(newToken);
-                    log.info("새로운 Refresh Token 저장: userId={}", user.getId());
+                    log.debug("새로운 Refresh Token 저장: userId={}", user.getId());
                 }
             );
     }
@@ -0,0 +1,146 @@
+package com.oneday.core.service.auth;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.oneday.core.config.security.RefreshTokenPurgeProperties;
+import com.oneday.core.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 Refresh Token 정리 작업
+ * <p>
+ * 한 번의 DELETE로 지우면 테이블 전체를 오래 잠그므로, 만료 행의 PK 범위를 expires_at 인덱스로 구한 뒤
+ * PK 구간 단위로 나누어 각각 별도 트랜잭션으로 삭제합니다. 행을 삭제한 배치 사이에는 잠시 쉬어
+ * 로그인/토큰 갱신 쿼리가 끼어들 수 있게 합니다.
+ * <p>
+ * 대기 시간이 스케줄러 스레드를 붙잡지 않도록 전용 스레드에서 실행하며, 이전 실행이 끝나지 않았으면 건너뜁니다.
+ * 메트릭: auth.refresh-token.purged (삭제 행 수), auth.refresh-token.purge.batch (배치별 소요 시간)
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final RefreshTokenPurgeProperties properties;
+	private final Counter purgedCounter;
+	private final Timer batchTimer;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final ExecutorService worker = Executors.newSingleThreadExecutor(
+			new CustomizableThreadFactory("refresh-token-purge-"));
+
+	public RefreshTokenPurgeService(
+			RefreshTokenRepository refreshTokenRepository,
+			RefreshTokenPurgeProperties properties,
+			MeterRegistry meterRegistry) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.properties = properties;
+		this.purgedCounter = Counter.builder("auth.refresh-token.purged").register(meterRegistry);
+		this.batchTimer = Timer.builder("auth.refresh-token.purge.batch").register(meterRegistry);
+	}
+
+	@Scheduled(
+			initialDelayString = "${auth.refresh-token.purge.interval-ms:3600000}",
+			fixedDelayString = "${auth.refresh-token.purge.interval-ms:3600000}"
+	)
+	public void schedulePurge() {
+		if (!running.compareAndSet(false, true)) {
+			log.debug("이전 만료 Refresh Token 정리가 진행 중이므로 생략");
+			return;
+		}
+
+		try {
+			worker.execute(() -> {
+				try {
+					purgeExpired(LocalDateTime.now());
+				} catch (Exception e) {
+					log.warn("만료 Refresh Token 정리 실패", e);
+				} finally {
+					running.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			running.set(false);
+			log.debug("종료 중이므로 만료 Refresh Token 정리 생략");
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		worker.shutdownNow();
+	}
+
+	/**
+	 * 기준 시각 이전에 만료된 Refresh Token을 PK 구간 단위로 삭제
+	 *
+	 * @param now 기준 시각
+	 * @return 삭제한 행 수
+	 */
+	public long purgeExpired(LocalDateTime now) {
+		Long minId = refreshTokenRepository.findMinIdByExpiresAtBefore(now);
+		if (minId == null) {
+			return 0;
+		}
+		// 두 조회 사이에 다른 인스턴스가 먼저 지웠을 수 있음
+		Long maxId = refreshTokenRepository.findMaxIdByExpiresAtBefore(now);
+		if (maxId == null) {
+			return 0;
+		}
+
+		int batchSize = properties.getBatchSize();
+		long startedAt = System.nanoTime();
+		long purged = 0;
+		int batches = 0;
+
+		for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+			long toId = fromId + batchSize;
+
+			long batchStartedAt = System.nanoTime();
+			int deleted = refreshTokenRepository.deleteExpiredInIdRange(fromId, toId, now);
+			long batchNanos = System.nanoTime() - batchStartedAt;
+
+			batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+			purgedCounter.increment(deleted);
+			purged += deleted;
+			batches++;
+			log.debug("만료 Refresh Token 배치 삭제: id=[{}, {}), deleted={}, elapsedMs={}",
+					fromId, toId, deleted, TimeUnit.NANOSECONDS.toMillis(batchNanos));
+
+			if (deleted > 0 && toId <= maxId && !pause()) {
+				break;
+			}
+		}
+
+		log.info("만료 Refresh Token 정리 완료: deleted={}, batches={}, elapsedMs={}",
+				purged, batches, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		return purged;
+	}
+
+	// 인터럽트(종료)되면 false
+	private boolean pause() {
+		try {
+			TimeUnit.NANOSECONDS.sleep(properties.getPause().toNanos());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
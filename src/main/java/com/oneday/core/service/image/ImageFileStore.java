@@ -0,0 +1,246 @@
+package com.oneday.core.service.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oneday.core.config.storage.ImageStorageProperties;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 파일 저장소
+ * 저장 디렉터리의 이미지 파일을 열어 두고 크기, 콘텐츠 해시 ETag와 함께 재사용
+ * <p>
+ * 파일은 한 번 저장되면 바뀌지 않는다고 가정합니다(파일명에 콘텐츠 해시 사용).
+ * 열린 파일 핸들은 크기 제한 캐시에 보관하며, 캐시에서 밀려난 핸들은 사용 중인 요청이 끝난 뒤 닫습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class ImageFileStore {
+
+	// 경로 구분자나 ".."이 들어갈 수 없는 파일명만 허용
+	private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]{0,127}\\.[A-Za-z0-9]{1,8}");
+	private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+	private final Path rootDirectory;
+	private final Cache<String, OpenImage> openImages;
+
+	public ImageFileStore(ImageStorageProperties properties) {
+		this.rootDirectory = properties.getRootDirectory().toAbsolutePath().normalize();
+		this.openImages = Caffeine.newBuilder()
+				.maximumSize(properties.getOpenFileCacheSize())
+				.expireAfterAccess(properties.getOpenFileIdleTimeout())
+				.<String, OpenImage>removalListener((fileName, image, cause) -> {
+					if (image != null) {
+						image.release();
+					}
+				})
+				.build();
+	}
+
+	public Path getRootDirectory() {
+		return rootDirectory;
+	}
+
+	/**
+	 * 이미지 파일 핸들 획득
+	 * 사용 후 반드시 {@link Handle#close()}로 반납해야 합니다.
+	 *
+	 * @param fileName 저장된 파일명
+	 * @return 열린 이미지 핸들
+	 * @throws CustomException 파일명이 올바르지 않거나 파일이 없는 경우
+	 */
+	public Handle acquire(String fileName) {
+		MediaType contentType = resolveContentType(fileName);
+
+		while (true) {
+			OpenImage image;
+			try {
+				image = openImages.get(fileName, name -> open(name, contentType));
+			} catch (UncheckedIOException e) {
+				if (e.getCause() instanceof NoSuchFileException) {
+					throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+				}
+				throw e;
+			}
+
+			// 캐시에서 밀려나 닫히는 중인 핸들이면 다시 연다
+			if (image.retain()) {
+				return new Handle(image);
+			}
+			openImages.asMap().remove(fileName, image);
+		}
+	}
+
+	/**
+	 * 파일 저장 경로 조회 (저장 디렉터리 밖의 경로는 허용하지 않음)
+	 *
+	 * @param fileName 파일명
+	 * @return 저장 경로
+	 * @throws CustomException 파일명이 올바르지 않은 경우
+	 */
+	public Path resolve(String fileName) {
+		if (!FILE_NAME.matcher(fileName).matches()) {
+			throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+		}
+		return rootDirectory.resolve(fileName);
+	}
+
+	private MediaType resolveContentType(String fileName) {
+		MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(null);
+		if (contentType == null || !"image".equals(contentType.getType())) {
+			throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+		}
+		return contentType;
+	}
+
+	private OpenImage open(String fileName, MediaType contentType) {
+		Path path = resolve(fileName);
+		try {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+			try {
+				long size = channel.size();
+				return new OpenImage(path, channel, size, etag(channel, size), contentType);
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// 파일 내용의 SHA-256 해시로 강한 ETag 생성 (위치 지정 읽기로 채널 위치를 바꾸지 않음)
+	private static String etag(FileChannel channel, long size) throws IOException {
+		MessageDigest digest = sha256();
+		ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+		long position = 0;
+
+		while (position < size) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				break;
+			}
+			position += read;
+			buffer.flip();
+			digest.update(buffer);
+			buffer.clear();
+		}
+
+		return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 요청 동안 사용하는 이미지 핸들
+	 * 파일 채널은 위치 지정 전송(transferTo)만 사용하므로 여러 요청이 동시에 공유할 수 있습니다.
+	 */
+	public static final class Handle implements AutoCloseable {
+
+		private final OpenImage image;
+		private boolean closed;
+
+		private Handle(OpenImage image) {
+			this.image = image;
+		}
+
+		public Path path() {
+			return image.path;
+		}
+
+		public FileChannel channel() {
+			return image.channel;
+		}
+
+		public long size() {
+			return image.size;
+		}
+
+		public String etag() {
+			return image.etag;
+		}
+
+		public MediaType contentType() {
+			return image.contentType;
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				image.release();
+			}
+		}
+	}
+
+	// 캐시와 사용 중인 요청이 함께 참조하는 열린 파일 (참조 수가 0이 되면 닫음)
+	private static final class OpenImage {
+
+		private final Path path;
+		private final FileChannel channel;
+		private final long size;
+		private final String etag;
+		private final MediaType contentType;
+
+		// 캐시가 보유한 참조 1개로 시작
+		private final AtomicInteger references = new AtomicInteger(1);
+
+		private OpenImage(Path path, FileChannel channel, long size, String etag, MediaType contentType) {
+			this.path = path;
+			this.channel = channel;
+			this.size = size;
+			this.etag = etag;
+			this.contentType = contentType;
+		}
+
+		private boolean retain() {
+			int current;
+			do {
+				current = references.get();
+				if (current == 0) {
+					return false;
+				}
+			} while (!references.compareAndSet(current, current + 1));
+			return true;
+		}
+
+		private void release() {
+			if (references.decrementAndGet() == 0) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					log.warn("이미지 파일 핸들 닫기 실패: {}", path, e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.oneday.core.service.image;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.entity.Images;
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.repository.ClassRepository;
+import com.oneday.core.repository.ImageRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클래스 이미지 등록 서비스
+ * 썸네일 생성이 끝난 이미지를 images 테이블에 등록하고 대표 이미지를 지정
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageRegistrationService {
+
+	private final ImageRepository imageRepository;
+	private final ClassRepository classRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 이미지 등록 (같은 클래스에 같은 이미지가 있으면 기존 행을 사용)
+	 * 대표 이미지 요청이거나 클래스에 대표 이미지가 없으면 대표 이미지로 지정합니다.
+	 *
+	 * @param classId 클래스 ID
+	 * @param imageUrl 원본 이미지 URL
+	 * @param representative 대표 이미지 지정 여부
+	 * @return 등록된 이미지 ID
+	 */
+	@Transactional
+	public int register(int classId, String imageUrl, boolean representative) {
+		Images image = imageRepository.findByClasses_ClassIdAndImageUrl(classId, imageUrl)
+				.orElseGet(() -> imageRepository.save(Images.builder()
+						.classes(classRepository.getReferenceById(classId))
+						.imageUrl(imageUrl)
+						.build()));
+
+		if (representative || !imageRepository.existsByClasses_ClassIdAndIsRepresentativeTrue(classId)) {
+			imageRepository.updateRepresentative(classId, image.getImageId());
+		}
+
+		eventPublisher.publishEvent(new ClassChangedEvent(classId));
+		return image.getImageId();
+	}
+}
@@ -0,0 +1,218 @@
+package com.oneday.core.service.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.oneday.core.config.storage.ImageStorageProperties;
+import com.oneday.core.dto.image.ImageUploadResponse;
+import com.oneday.core.entity.Classes;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.repository.ClassRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클래스 이미지 업로드 서비스
+ * <p>
+ * 요청 본문을 메모리에 모으지 않고 고정 크기 버퍼로 임시 파일에 바로 쓰면서 SHA-256 해시를 계산하고,
+ * 크기 제한을 넘으면 즉시 중단합니다. 저장 파일명은 콘텐츠 해시이므로 같은 이미지는 한 번만 저장됩니다.
+ * <p>
+ * 썸네일 생성과 images 등록은 크기가 제한된 작업 풀에서 처리하며, 대기열이 가득 차면 업로드를 거절합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class ImageUploadService {
+
+	public static final String IMAGE_URL_PREFIX = "/images/";
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+	private static final String TEMP_DIRECTORY = ".upload";
+
+	// 지원 형식별 저장 확장자와 파일 시그니처
+	private static final Map<String, String> EXTENSIONS = Map.of(
+			"image/jpeg", "jpg",
+			"image/png", "png",
+			"image/gif", "gif"
+	);
+	private static final Map<String, byte[]> SIGNATURES = Map.of(
+			"jpg", new byte[] {(byte)0xFF, (byte)0xD8, (byte)0xFF},
+			"png", new byte[] {(byte)0x89, 'P', 'N', 'G'},
+			"gif", new byte[] {'G', 'I', 'F', '8'}
+	);
+
+	private final ImageStorageProperties properties;
+	private final ImageFileStore imageFileStore;
+	private final ThumbnailGenerator thumbnailGenerator;
+	private final ImageRegistrationService imageRegistrationService;
+	private final ClassRepository classRepository;
+	private final ThreadPoolExecutor workers;
+
+	public ImageUploadService(
+			ImageStorageProperties properties,
+			ImageFileStore imageFileStore,
+			ThumbnailGenerator thumbnailGenerator,
+			ImageRegistrationService imageRegistrationService,
+			ClassRepository classRepository) {
+		this.properties = properties;
+		this.imageFileStore = imageFileStore;
+		this.thumbnailGenerator = thumbnailGenerator;
+		this.imageRegistrationService = imageRegistrationService;
+		this.classRepository = classRepository;
+		this.workers = new ThreadPoolExecutor(
+				properties.getWorkerThreads(),
+				properties.getWorkerThreads(),
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(properties.getWorkerQueueCapacity()),
+				new CustomizableThreadFactory("image-worker-"),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * 클래스 이미지 업로드
+	 * 원본 저장 후 썸네일 생성을 예약하고 즉시 반환합니다.
+	 * images 등록과 대표 이미지 지정은 썸네일이 준비된 뒤에 이루어집니다.
+	 *
+	 * @param classId 클래스 ID
+	 * @param teacherId 업로드하는 강사 ID
+	 * @param contentType 요청 Content-Type
+	 * @param contentLength 요청 Content-Length (모르면 -1)
+	 * @param body 요청 본문
+	 * @param representative 대표 이미지 지정 여부
+	 * @return 원본/썸네일 URL
+	 * @throws CustomException 형식이나 크기가 허용되지 않거나, 본인 클래스가 아니거나, 처리 대기열이 가득 찬 경우
+	 */
+	public ImageUploadResponse upload(int classId, long teacherId, String contentType, long contentLength,
+			InputStream body, boolean representative) throws IOException {
+
+		String extension = extensionOf(contentType);
+		if (contentLength > properties.getMaxUploadBytes()) {
+			throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+		}
+		verifyOwner(classId, teacherId);
+
+		String fileName = store(body, extension);
+
+		try {
+			workers.execute(() -> process(classId, fileName, representative));
+		} catch (RejectedExecutionException e) {
+			throw new CustomException(ErrorCode.IMAGE_QUEUE_FULL);
+		}
+
+		List<String> thumbnailUrls = properties.getThumbnailWidths().stream()
+				.sorted()
+				.map(width -> IMAGE_URL_PREFIX + ThumbnailGenerator.thumbnailFileName(fileName, width))
+				.toList();
+		return new ImageUploadResponse(IMAGE_URL_PREFIX + fileName, thumbnailUrls);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdown();
+	}
+
+	private void process(int classId, String fileName, boolean representative) {
+		try {
+			thumbnailGenerator.generate(fileName);
+			imageRegistrationService.register(classId, IMAGE_URL_PREFIX + fileName, representative);
+		} catch (Exception e) {
+			log.warn("이미지 처리 실패: classId={}, file={}", classId, fileName, e);
+		}
+	}
+
+	private void verifyOwner(int classId, long teacherId) {
+		Classes classes = classRepository.findById(classId)
+				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 강의입니다."));
+
+		if (classes.getTeacher().getId() != teacherId) {
+			throw new CustomException(ErrorCode.FORBIDDEN, "본인의 강의에만 이미지를 등록할 수 있습니다.");
+		}
+	}
+
+	// 본문을 임시 파일로 스트리밍한 뒤 콘텐츠 해시 파일명으로 이동 (이미 있으면 중복 제거)
+	private String store(InputStream body, String extension) throws IOException {
+		Path tempDirectory = Files.createDirectories(imageFileStore.getRootDirectory().resolve(TEMP_DIRECTORY));
+		Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+
+		try {
+			MessageDigest digest = sha256();
+			byte[] signature = SIGNATURES.get(extension);
+			byte[] head = new byte[signature.length];
+			int headLength = 0;
+			long total = 0;
+
+			try (InputStream in = new DigestInputStream(body, digest);
+				 OutputStream out = Files.newOutputStream(temp)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					total += read;
+					if (total > properties.getMaxUploadBytes()) {
+						throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+					}
+					if (headLength < head.length) {
+						int copied = Math.min(read, head.length - headLength);
+						System.arraycopy(buffer, 0, head, headLength, copied);
+						headLength += copied;
+					}
+					out.write(buffer, 0, read);
+				}
+			}
+
+			if (headLength < head.length || !Arrays.equals(head, signature)) {
+				throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "파일 내용이 이미지 형식과 일치하지 않습니다.");
+			}
+
+			String fileName = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+			Path target = imageFileStore.resolve(fileName);
+			if (!Files.exists(target)) {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			}
+			return fileName;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static String extensionOf(String contentType) {
+		if (contentType == null) {
+			throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+		}
+
+		String extension = EXTENSIONS.get(contentType.split(";", 2)[0].trim().toLowerCase());
+		if (extension == null) {
+			throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+		}
+		return extension;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.oneday.core.service.image;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.oneday.core.config.cache.CacheNames;
+import com.oneday.core.repository.ImageRepository;
+
+/**
+ * 클래스 대표 이미지 일괄 조회 서비스
+ * <p>
+ * 카드 목록을 만들 때 클래스마다 이미지를 조회하지 않도록, 여러 클래스의 대표 이미지를
+ * 한 번의 IN 조회로 가져오고 classId별로 캐시합니다. 캐시에 없는 classId만 모아서 조회하므로
+ * 카드 한 페이지에 이미지 조회는 최대 1회입니다.
+ * 대표 이미지가 없는 클래스도 빈 값으로 캐시하며, 캐시는 클래스 변경 이벤트로 비워집니다
+ * ({@link com.oneday.core.service.ClassCacheEvictionListener}).
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Service
+public class RepresentativeImageService {
+
+	// 대표 이미지가 없는 클래스 표시
+	private static final String NO_IMAGE = "";
+
+	private final ImageRepository imageRepository;
+	private final Cache<Object, Object> cache;
+
+	public RepresentativeImageService(ImageRepository imageRepository, CacheManager cacheManager) {
+		this.imageRepository = imageRepository;
+		this.cache = ((CaffeineCache)cacheManager.getCache(CacheNames.REPRESENTATIVE_IMAGE)).getNativeCache();
+	}
+
+	/**
+	 * 클래스별 대표 이미지 URL 일괄 조회
+	 *
+	 * @param classIds 클래스 ID 목록 (중복 허용)
+	 * @return classId → 대표 이미지 URL (대표 이미지가 없는 클래스는 포함하지 않음)
+	 */
+	public Map<Integer, String> getRepresentativeImageUrls(Collection<Integer> classIds) {
+		if (classIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Object, Object> cached = cache.getAll(classIds, this::load);
+
+		Map<Integer, String> imageUrls = new HashMap<>(cached.size() * 2);
+		cached.forEach((classId, imageUrl) -> {
+			if (!NO_IMAGE.equals(imageUrl)) {
+				imageUrls.put((Integer)classId, (String)imageUrl);
+			}
+		});
+		return imageUrls;
+	}
+
+	/**
+	 * 클래스 대표 이미지 URL 조회
+	 *
+	 * @param classId 클래스 ID
+	 * @return 대표 이미지 URL (없으면 null)
+	 */
+	public String getRepresentativeImageUrl(int classId) {
+		return getRepresentativeImageUrls(List.of(classId)).get(classId);
+	}
+
+	// 캐시에 없는 classId를 한 번에 조회하고, 대표 이미지가 없는 classId는 빈 값으로 채움
+	private Map<Object, Object> load(Set<?> missingClassIds) {
+		List<Integer> classIds = missingClassIds.stream()
+				.map(Integer.class::cast)
+				.toList();
+
+		Map<Object, Object> loaded = new HashMap<>(classIds.size() * 2);
+		for (Object[] row : imageRepository.findRepresentativeImageUrls(classIds)) {
+			loaded.put(row[0], row[1]);
+		}
+		for (Integer classId : classIds) {
+			loaded.putIfAbsent(classId, NO_IMAGE);
+		}
+		return loaded;
+	}
+}
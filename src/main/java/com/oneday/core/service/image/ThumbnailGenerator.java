@@ -0,0 +1,123 @@
+package com.oneday.core.service.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.oneday.core.config.storage.ImageStorageProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 썸네일 생성기
+ * 원본 이미지를 고정 가로 크기로 축소해 저장 디렉터리에 함께 저장
+ * <p>
+ * 썸네일 파일명은 원본 파일명에서 만들어지므로({@link #thumbnailFileName}) 같은 원본은 한 번만 생성합니다.
+ * 원본보다 큰 크기로는 확대하지 않으며, 투명도를 유지해야 하는 PNG/GIF는 PNG로, 그 외는 JPEG로 저장합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailGenerator {
+
+	private final ImageStorageProperties properties;
+	private final ImageFileStore imageFileStore;
+
+	/**
+	 * 썸네일 파일명 (예: abc.jpg, 320 -> abc_w320.jpg)
+	 */
+	public static String thumbnailFileName(String fileName, int width) {
+		int dot = fileName.lastIndexOf('.');
+		String baseName = fileName.substring(0, dot);
+		String extension = fileName.substring(dot + 1);
+		return baseName + "_w" + width + "." + ("jpg".equals(extension) ? "jpg" : "png");
+	}
+
+	/**
+	 * 원본 이미지의 썸네일을 모두 생성 (이미 있는 크기는 건너뜀)
+	 *
+	 * @param fileName 저장된 원본 파일명
+	 * @throws IOException 이미지를 읽을 수 없거나 해상도 제한을 넘는 경우
+	 */
+	public void generate(String fileName) throws IOException {
+		List<Integer> widths = properties.getThumbnailWidths();
+		if (widths.stream().allMatch(width -> Files.exists(imageFileStore.resolve(thumbnailFileName(fileName, width))))) {
+			return;
+		}
+
+		BufferedImage original = read(imageFileStore.resolve(fileName));
+
+		for (int width : widths) {
+			String thumbnailName = thumbnailFileName(fileName, width);
+			Path target = imageFileStore.resolve(thumbnailName);
+			if (Files.exists(target)) {
+				continue;
+			}
+
+			boolean png = thumbnailName.endsWith(".png");
+			BufferedImage scaled = scale(original, width, png);
+
+			// 쓰는 도중의 파일이 제공되지 않도록 임시 파일에 쓴 뒤 이동
+			Path temp = Files.createTempFile(imageFileStore.getRootDirectory(), ".thumb-", ".part");
+			try {
+				ImageIO.write(scaled, png ? "png" : "jpg", temp.toFile());
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	// 디코딩 전에 해상도를 확인해 압축 폭탄으로 인한 메모리 고갈을 막음
+	private BufferedImage read(Path source) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+			Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+			if (readers == null || !readers.hasNext()) {
+				throw new IOException("이미지를 읽을 수 없습니다: " + source.getFileName());
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				long pixels = (long)reader.getWidth(0) * reader.getHeight(0);
+				if (pixels > properties.getMaxPixels()) {
+					throw new IOException("이미지 해상도가 너무 큽니다: " + source.getFileName());
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	private static BufferedImage scale(BufferedImage original, int targetWidth, boolean keepAlpha) {
+		int width = Math.min(targetWidth, original.getWidth());
+		int height = Math.max(1, (int)Math.round((double)original.getHeight() * width / original.getWidth()));
+
+		BufferedImage scaled = new BufferedImage(width, height,
+				keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = scaled.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(original, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return scaled;
+	}
+}
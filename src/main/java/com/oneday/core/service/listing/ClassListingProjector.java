@@ -0,0 +1,114 @@
+package com.oneday.core.service.listing;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.event.ReservationChangedEvent;
+import com.oneday.core.event.ReviewChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클래스 목록 조회 모델 갱신기
+ * 클래스/이미지/세션/예약/리뷰 변경 이벤트를 받아 커밋 이후 class_listing 행을 비동기로 다시 계산
+ * <p>
+ * 모든 갱신은 단일 작업 스레드에서 순서대로 실행하므로 같은 행을 동시에 쓰지 않습니다.
+ * 대기 중인 클래스에 대한 이벤트는 하나로 합쳐지므로, 예약이 몰리는 클래스도 한 번만 다시 계산합니다.
+ * 다음 수업이 시작된 클래스는 1분마다, 전체 행은 1시간마다 다시 계산해 누락된 이벤트를 보정합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassListingProjector {
+
+	private final ClassListingService classListingService;
+
+	private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+	private final ExecutorService worker = Executors.newSingleThreadExecutor(
+			new CustomizableThreadFactory("class-listing-"));
+
+	@Order(3)
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		submit(classListingService::rebuild);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClassChanged(ClassChangedEvent event) {
+		schedule(event.classId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservationChanged(ReservationChangedEvent event) {
+		schedule(event.classId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReviewChanged(ReviewChangedEvent event) {
+		schedule(event.classId());
+	}
+
+	/**
+	 * 다음 수업이 시작된 클래스의 다음 수업 다시 계산
+	 */
+	@Scheduled(fixedDelayString = "${catalog.listing.refresh-interval-ms:60000}")
+	public void refreshStartedSessions() {
+		classListingService.findClassIdsWithStartedNextSession().forEach(this::schedule);
+	}
+
+	@Scheduled(
+			initialDelayString = "${catalog.listing.rebuild-interval-ms:3600000}",
+			fixedDelayString = "${catalog.listing.rebuild-interval-ms:3600000}"
+	)
+	public void rebuild() {
+		submit(classListingService::rebuild);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		worker.shutdown();
+	}
+
+	// 이미 대기 중인 클래스면 합침 (실행 직전에 대기 표시를 지워, 실행 중 들어온 변경은 다시 예약)
+	private void schedule(Integer classId) {
+		if (classId == null || !pending.add(classId)) {
+			return;
+		}
+
+		submit(() -> {
+			pending.remove(classId);
+			classListingService.refresh(classId);
+		});
+	}
+
+	private void submit(Runnable task) {
+		try {
+			worker.execute(() -> {
+				try {
+					task.run();
+				} catch (Exception e) {
+					log.warn("클래스 목록 조회 모델 갱신 실패", e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.debug("종료 중이므로 클래스 목록 조회 모델 갱신 생략");
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package com.oneday.core.service.listing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.config.cache.CacheNames;
+import com.oneday.core.dto.classes.ClassListingPageResponse;
+import com.oneday.core.dto.classes.ClassListingResponse;
+import com.oneday.core.dto.search.SessionSlotDto;
+import com.oneday.core.entity.ClassListing;
+import com.oneday.core.entity.ClassRating;
+import com.oneday.core.entity.Classes;
+import com.oneday.core.event.ClassListingChangedEvent;
+import com.oneday.core.repository.ClassListingRepository;
+import com.oneday.core.repository.ClassRatingRepository;
+import com.oneday.core.repository.ClassRepository;
+import com.oneday.core.repository.ImageRepository;
+import com.oneday.core.repository.TimesRepository;
+import com.oneday.core.service.review.BayesianRating;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클래스 목록 조회 모델 서비스
+ * <p>
+ * 조회는 class_listing 한 테이블만 읽고, 갱신은 정규화된 원본 테이블에서 클래스 단위로 다시 계산합니다.
+ * 갱신 요청은 {@link ClassListingProjector}가 커밋 이후 비동기로 보냅니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClassListingService {
+
+	public static final int MAX_PAGE_SIZE = 50;
+
+	private final ClassListingRepository classListingRepository;
+	private final ClassRepository classRepository;
+	private final ImageRepository imageRepository;
+	private final TimesRepository timesRepository;
+	private final ClassRatingRepository classRatingRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 클래스 목록 페이지 조회
+	 * 정렬 기준이 여러 컬럼이고 다음 수업 시각처럼 null을 포함하므로 키셋 대신 페이지 번호를 사용합니다.
+	 * 클래스당 한 행이라 페이지 깊이가 클래스 수로 제한되고, 각 페이지는 (category_id, 정렬 컬럼) 인덱스로 읽습니다.
+	 *
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param sort 정렬 기준
+	 * @param page 페이지 번호 (0부터)
+	 * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE})
+	 * @return 클래스 목록과 다음 페이지 번호
+	 */
+	@Cacheable(cacheNames = CacheNames.CLASS_CATALOG,
+			key = "#categoryId + ':' + #sort + ':' + #page + ':' + #size", sync = true)
+	public ClassListingPageResponse getListings(Integer categoryId, ClassListingSort sort, int page, int size) {
+		Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+				sort.toSort());
+		Slice<ClassListing> listings = categoryId == null
+				? classListingRepository.findAllBy(pageable)
+				: classListingRepository.findByCategoryId(categoryId, pageable);
+
+		return new ClassListingPageResponse(
+				listings.map(ClassListingResponse::from).getContent(),
+				listings.hasNext() ? listings.getNumber() + 1 : null);
+	}
+
+	/**
+	 * 여러 클래스의 목록 정보를 한 번에 조회
+	 *
+	 * @param classIds 클래스 ID 목록 (중복 허용)
+	 * @return classId → 목록 정보 (아직 반영되지 않은 클래스는 포함하지 않음)
+	 */
+	public Map<Integer, ClassListingResponse> getListingsByIds(Collection<Integer> classIds) {
+		if (classIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Integer, ClassListingResponse> listings = new HashMap<>();
+		for (ClassListing listing : classListingRepository.findAllById(classIds.stream().distinct().toList())) {
+			listings.put(listing.getClassId(), ClassListingResponse.from(listing));
+		}
+		return listings;
+	}
+
+	/**
+	 * 다음 수업이 이미 시작되어 다시 계산해야 하는 클래스 조회
+	 */
+	public List<Integer> findClassIdsWithStartedNextSession() {
+		return classListingRepository.findClassIdsWithStartedNextSession(LocalDateTime.now());
+	}
+
+	/**
+	 * 클래스 한 개의 목록 행을 다시 계산 (클래스가 삭제되었으면 행 삭제)
+	 *
+	 * @param classId 클래스 ID
+	 */
+	@Transactional
+	public void refresh(int classId) {
+		Classes classes = classRepository.findWithCategoryAndTeacherById(classId).orElse(null);
+
+		if (classes == null) {
+			if (classListingRepository.existsById(classId)) {
+				classListingRepository.deleteById(classId);
+			}
+		} else {
+			LocalDateTime now = LocalDateTime.now();
+			String imageUrl = null;
+			for (Object[] row : imageRepository.findRepresentativeImageUrls(List.of(classId))) {
+				imageUrl = (String)row[1];
+			}
+			classListingRepository.save(project(classes, imageUrl, classRatingRepository.findById(classId).orElse(null),
+					timesRepository.findUpcomingSlots(now, classId), now));
+		}
+
+		eventPublisher.publishEvent(new ClassListingChangedEvent(classId));
+	}
+
+	/**
+	 * 전체 목록 행을 다시 계산 (누락된 이벤트와 삭제된 클래스 보정)
+	 */
+	@Transactional
+	public void rebuild() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Classes> classes = classRepository.findAllWithCategoryAndTeacher();
+		List<Integer> classIds = classes.stream().map(Classes::getClassId).toList();
+
+		Map<Integer, String> imageUrls = new HashMap<>();
+		if (!classIds.isEmpty()) {
+			for (Object[] row : imageRepository.findRepresentativeImageUrls(classIds)) {
+				imageUrls.put((Integer)row[0], (String)row[1]);
+			}
+		}
+
+		Map<Integer, ClassRating> ratings = new HashMap<>();
+		for (ClassRating rating : classRatingRepository.findAll()) {
+			ratings.put(rating.getClassId(), rating);
+		}
+
+		Map<Integer, List<SessionSlotDto>> slotsByClass = new HashMap<>();
+		for (SessionSlotDto slot : timesRepository.findUpcomingSlots(now, null)) {
+			slotsByClass.computeIfAbsent(slot.classId(), id -> new ArrayList<>()).add(slot);
+		}
+
+		List<ClassListing> listings = classes.stream()
+				.map(c -> project(c, imageUrls.get(c.getClassId()), ratings.get(c.getClassId()),
+						slotsByClass.getOrDefault(c.getClassId(), List.of()), now))
+				.toList();
+		classListingRepository.saveAll(listings);
+
+		int deleted = classIds.isEmpty()
+				? deleteAll()
+				: classListingRepository.deleteByClassIdNotIn(classIds);
+
+		eventPublisher.publishEvent(new ClassListingChangedEvent(null));
+		log.info("클래스 목록 조회 모델 재계산 완료: {}건 (삭제 {}건)", listings.size(), deleted);
+	}
+
+	/**
+	 * 원본 클래스, 평점 집계와 예정 수업으로 목록 행 계산
+	 * 다음 수업은 잔여석이 있는 가장 가까운 예정 수업입니다.
+	 *
+	 * @param rating 평점 집계 (리뷰가 없으면 null)
+	 * @param slots 시작 시각 순으로 정렬된 예정 수업
+	 */
+	static ClassListing project(Classes classes, String imageUrl, ClassRating rating, List<SessionSlotDto> slots,
+			LocalDateTime now) {
+		SessionSlotDto next = null;
+		for (SessionSlotDto slot : slots) {
+			if (slot.capacity() - slot.reserved() > 0) {
+				next = slot;
+				break;
+			}
+		}
+
+		int ratingCount = rating != null ? rating.getRatingCount() : 0;
+		long ratingSum = rating != null ? rating.getRatingSum() : 0;
+
+		return ClassListing.builder()
+				.classId(classes.getClassId())
+				.className(classes.getClassName())
+				.teacherId(classes.getTeacher().getId())
+				.teacherName(classes.getTeacher().getName())
+				.categoryId(classes.getCategory().getCategoryId())
+				.category(classes.getCategory().getCategory())
+				.location(classes.getLocation())
+				.price(classes.getPrice())
+				.maxCapacity(classes.getMaxCapacity())
+				.representativeImageUrl(imageUrl)
+				.nextTimeId(next != null ? next.timeId() : null)
+				.nextStartAt(next != null ? next.startAt() : null)
+				.nextRemainingSeats(next != null ? next.capacity() - next.reserved() : null)
+				.upcomingSessionCount(slots.size())
+				.ratingCount(ratingCount)
+				.ratingAverage(ratingCount > 0 ? (double)ratingSum / ratingCount : null)
+				.ratingScore(BayesianRating.score(ratingCount, ratingSum))
+				.refreshedAt(now)
+				.build();
+	}
+
+	private int deleteAll() {
+		int count = (int)classListingRepository.count();
+		classListingRepository.deleteAllInBatch();
+		return count;
+	}
+}
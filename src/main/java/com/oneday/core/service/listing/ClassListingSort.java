@@ -0,0 +1,61 @@
+package com.oneday.core.service.listing;
+
+import org.springframework.data.domain.Sort;
+
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+
+/**
+ * 클래스 목록 정렬 기준
+ * 각 정렬은 class_listing의 (category_id, 정렬 컬럼) 인덱스를 사용합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public enum ClassListingSort {
+
+	/**
+	 * 다음 수업이 가까운 순 (예정 수업이 없는 클래스는 마지막)
+	 */
+	NEXT_SESSION(Sort.by(Sort.Order.asc("nextStartAt").nullsLast(), Sort.Order.asc("classId"))),
+
+	PRICE_ASC(Sort.by(Sort.Order.asc("price"), Sort.Order.asc("classId"))),
+
+	PRICE_DESC(Sort.by(Sort.Order.desc("price"), Sort.Order.asc("classId"))),
+
+	/**
+	 * 평점 순 (베이지안 점수 기준이므로 평점 수가 적은 클래스는 사전 평균 쪽으로 보정됨)
+	 */
+	RATING(Sort.by(Sort.Order.desc("ratingScore"), Sort.Order.asc("classId"))),
+
+	/**
+	 * 최근 등록 순
+	 */
+	LATEST(Sort.by(Sort.Order.desc("classId")));
+
+	private final Sort sort;
+
+	ClassListingSort(Sort sort) {
+		this.sort = sort;
+	}
+
+	public Sort toSort() {
+		return sort;
+	}
+
+	/**
+	 * 요청 파라미터로 정렬 기준 조회 (없으면 {@link #NEXT_SESSION})
+	 *
+	 * @throws CustomException 지원하지 않는 정렬 기준인 경우
+	 */
+	public static ClassListingSort from(String value) {
+		if (value == null || value.isBlank()) {
+			return NEXT_SESSION;
+		}
+		try {
+			return valueOf(value.strip().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "지원하지 않는 정렬 기준입니다: " + value);
+		}
+	}
+}
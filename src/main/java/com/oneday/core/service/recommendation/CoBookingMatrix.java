@@ -0,0 +1,172 @@
+package com.oneday.core.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oneday.core.util.IntIntHashMap;
+
+/**
+ * 클래스 간 함께 예약 행렬
+ * <p>
+ * 행렬은 희소하므로 classId를 인덱스로 하는 배열에 행마다 {@link IntIntHashMap}(다른 classId → 함께 예약한 수강생 수)을 둡니다.
+ * 수강생별 예약 클래스도 함께 보관해 예약 생성/취소마다 해당 수강생의 다른 클래스와의 칸만 증감합니다.
+ * 같은 클래스를 여러 번 예약해도 수강생 한 명으로 셉니다.
+ * <p>
+ * 유사도는 함께 예약한 수강생 수를 두 클래스 수강생 수의 기하평균으로 나눈 코사인 유사도로,
+ * 수강생이 많은 인기 클래스가 모든 클래스의 추천 상위를 차지하지 않게 합니다.
+ * 스레드 안전하지 않으므로 외부에서 동기화해야 합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class CoBookingMatrix {
+
+	private static final int INITIAL_ROW_CAPACITY = 8;
+
+	// classId → (다른 classId → 함께 예약한 수강생 수)
+	private IntIntHashMap[] rows = new IntIntHashMap[64];
+
+	// classId → 예약한 수강생 수
+	private final IntIntHashMap studentCounts = new IntIntHashMap(64);
+
+	// studentId → (classId → 확정 예약 수)
+	private final Map<Long, IntIntHashMap> bookings = new HashMap<>();
+
+	/**
+	 * 유사 클래스
+	 *
+	 * @param classId 클래스 ID
+	 * @param coBookingCount 함께 예약한 수강생 수
+	 * @param score 코사인 유사도
+	 */
+	public record Similar(int classId, int coBookingCount, double score) {
+	}
+
+	/**
+	 * 수강생별 클래스 예약 수 목록으로 행렬 생성
+	 *
+	 * @param rows [studentId(Long), classId(Integer), 예약 수(Long)]
+	 */
+	public static CoBookingMatrix of(List<Object[]> rows) {
+		CoBookingMatrix matrix = new CoBookingMatrix();
+		for (Object[] row : rows) {
+			matrix.addBookings((Long)row[0], (Integer)row[1], ((Number)row[2]).intValue());
+		}
+		return matrix;
+	}
+
+	/**
+	 * 예약 추가 (수강생이 처음 예약한 클래스면 기존 예약 클래스들과의 칸을 1씩 증가)
+	 *
+	 * @param count 추가할 예약 수 (1 이상)
+	 */
+	public void addBookings(long studentId, int classId, int count) {
+		IntIntHashMap classes = bookings.computeIfAbsent(studentId, id -> new IntIntHashMap(INITIAL_ROW_CAPACITY));
+		int before = classes.get(classId, 0);
+
+		if (before <= 0) {
+			classes.forEach((other, otherCount) -> {
+				if (other != classId && otherCount > 0) {
+					increment(classId, other, 1);
+					increment(other, classId, 1);
+				}
+			});
+			studentCounts.addTo(classId, 1);
+		}
+		classes.put(classId, Math.max(before, 0) + count);
+	}
+
+	/**
+	 * 예약 한 건 취소 (수강생의 마지막 예약이었으면 기존 예약 클래스들과의 칸을 1씩 감소)
+	 */
+	public void removeBooking(long studentId, int classId) {
+		IntIntHashMap classes = bookings.get(studentId);
+		if (classes == null) {
+			return;
+		}
+
+		int before = classes.get(classId, 0);
+		if (before <= 0) {
+			return;
+		}
+
+		classes.put(classId, before - 1);
+		if (before == 1) {
+			classes.forEach((other, otherCount) -> {
+				if (other != classId && otherCount > 0) {
+					increment(classId, other, -1);
+					increment(other, classId, -1);
+				}
+			});
+			studentCounts.addTo(classId, -1);
+		}
+	}
+
+	/**
+	 * 다른 행렬의 값을 더함 (수강생이 겹치지 않는 부분 행렬끼리만 사용)
+	 */
+	public void merge(CoBookingMatrix other) {
+		for (int classId = 0; classId < other.rows.length; classId++) {
+			IntIntHashMap row = other.rows[classId];
+			if (row != null) {
+				int from = classId;
+				row.forEach((to, count) -> increment(from, to, count));
+			}
+		}
+		other.studentCounts.forEach(studentCounts::addTo);
+		bookings.putAll(other.bookings);
+	}
+
+	/**
+	 * 함께 예약된 클래스 상위 조회
+	 *
+	 * @param classId 기준 클래스 ID
+	 * @param limit 최대 결과 수
+	 * @return 유사도 내림차순 클래스 목록
+	 */
+	public List<Similar> similar(int classId, int limit) {
+		IntIntHashMap row = classId >= 0 && classId < rows.length ? rows[classId] : null;
+		if (row == null || limit <= 0) {
+			return List.of();
+		}
+
+		int students = studentCounts.get(classId, 0);
+		List<Similar> candidates = new ArrayList<>(row.size());
+		row.forEach((other, count) -> {
+			int otherStudents = studentCounts.get(other, 0);
+			if (count > 0 && students > 0 && otherStudents > 0) {
+				candidates.add(new Similar(other, count, count / Math.sqrt((double)students * otherStudents)));
+			}
+		});
+
+		candidates.sort(Comparator.comparingDouble(Similar::score).reversed()
+				.thenComparing(Comparator.comparingInt(Similar::coBookingCount).reversed())
+				.thenComparingInt(Similar::classId));
+		return candidates.size() > limit ? List.copyOf(candidates.subList(0, limit)) : candidates;
+	}
+
+	/**
+	 * 함께 예약한 수강생 수
+	 */
+	public int coBookingCount(int classId, int otherClassId) {
+		IntIntHashMap row = classId >= 0 && classId < rows.length ? rows[classId] : null;
+		return row == null ? 0 : row.get(otherClassId, 0);
+	}
+
+	private void increment(int from, int to, int delta) {
+		if (from >= rows.length) {
+			rows = Arrays.copyOf(rows, Math.max(from + 1, rows.length * 2));
+		}
+
+		IntIntHashMap row = rows[from];
+		if (row == null) {
+			row = new IntIntHashMap(INITIAL_ROW_CAPACITY);
+			rows[from] = row;
+		}
+		row.addTo(to, delta);
+	}
+}
@@ -0,0 +1,203 @@
+package com.oneday.core.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneday.core.dto.classes.ClassListingResponse;
+import com.oneday.core.dto.classes.RecommendedClassResponse;
+import com.oneday.core.event.ReservationChangedEvent;
+import com.oneday.core.repository.ReservationRepository;
+import com.oneday.core.service.listing.ClassListingService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 함께 예약한 클래스 추천 서비스
+ * "이 클래스를 예약한 수강생이 함께 예약한 클래스"를 메모리의 {@link CoBookingMatrix}에서 조회
+ * <p>
+ * - 예약 생성/취소: 커밋 후 해당 수강생의 칸만 증감<br>
+ * - 주기 재적재: reservations를 수강생 ID 구간으로 나누어 병렬로 부분 행렬을 만든 뒤 합치고 교체
+ * <p>
+ * 재적재 중에 들어온 예약 이벤트는 모아 두었다가 새 행렬에 다시 적용합니다.
+ * 재적재 조회에 이미 반영된 예약이 한 번 더 더해질 수 있지만 다음 재적재에서 보정됩니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+	public static final int MAX_LIMIT = 20;
+
+	// 예약 확정 상태 코드 (status_code = 1)
+	private static final int CONFIRMED_STATUS_ID = 1;
+	private static final long STUDENT_CHUNK_SIZE = 5_000;
+	private static final int REBUILD_THREADS = 4;
+
+	private final ReservationRepository reservationRepository;
+	private final ClassListingService classListingService;
+
+	// 이벤트 반영(쓰기 잠금)과 추천 조회(읽기 잠금, 동시 허용)를 분리
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private CoBookingMatrix matrix;
+	private List<ReservationChangedEvent> pendingEvents;
+
+	/**
+	 * 함께 예약한 클래스 추천 조회
+	 *
+	 * @param classId 기준 클래스 ID
+	 * @param limit 최대 결과 수 (1 ~ {@value #MAX_LIMIT})
+	 * @return 유사도 순 클래스 목록 (적재 전이면 빈 목록)
+	 */
+	public List<RecommendedClassResponse> getRecommendations(int classId, int limit) {
+		List<CoBookingMatrix.Similar> similar;
+
+		lock.readLock().lock();
+		try {
+			if (matrix == null) {
+				return List.of();
+			}
+			similar = matrix.similar(classId, Math.max(1, Math.min(limit, MAX_LIMIT)));
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		Map<Integer, ClassListingResponse> listings = classListingService.getListingsByIds(
+				similar.stream().map(CoBookingMatrix.Similar::classId).toList());
+
+		List<RecommendedClassResponse> recommendations = new ArrayList<>(similar.size());
+		for (CoBookingMatrix.Similar item : similar) {
+			ClassListingResponse listing = listings.get(item.classId());
+			// 삭제된 클래스는 제외
+			if (listing != null) {
+				recommendations.add(RecommendedClassResponse.of(listing, item.coBookingCount()));
+			}
+		}
+		return recommendations;
+	}
+
+	@Order(4)
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		rebuild();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservationChanged(ReservationChangedEvent event) {
+		if (event.studentId() == null) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (matrix != null) {
+				apply(matrix, event);
+			}
+			if (pendingEvents != null) {
+				pendingEvents.add(event);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * reservations에서 행렬 재적재 (수강생 ID 구간별 병렬 조회)
+	 */
+	@Scheduled(
+			initialDelayString = "${recommendation.rebuild-interval-ms:21600000}",
+			fixedDelayString = "${recommendation.rebuild-interval-ms:21600000}"
+	)
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			pendingEvents = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		CoBookingMatrix rebuilt;
+		try {
+			rebuilt = load();
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingEvents = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			pendingEvents.forEach(event -> apply(rebuilt, event));
+			pendingEvents = null;
+			matrix = rebuilt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private CoBookingMatrix load() {
+		List<Object[]> range = reservationRepository.findConfirmedStudentIdRange(CONFIRMED_STATUS_ID);
+		CoBookingMatrix merged = new CoBookingMatrix();
+
+		if (range.isEmpty() || range.get(0)[0] == null) {
+			log.info("추천 행렬 적재 완료: 예약 없음");
+			return merged;
+		}
+
+		long minStudentId = ((Number)range.get(0)[0]).longValue();
+		long maxStudentId = ((Number)range.get(0)[1]).longValue();
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+				REBUILD_THREADS, new CustomizableThreadFactory("recommendation-rebuild-"));
+		try {
+			// 수강생 한 명의 예약은 한 구간에만 속하므로 구간별 부분 행렬을 더하면 전체 행렬이 됨
+			List<CompletableFuture<CoBookingMatrix>> chunks = new ArrayList<>();
+			for (long from = minStudentId; from <= maxStudentId; from += STUDENT_CHUNK_SIZE) {
+				long chunkFrom = from;
+				chunks.add(CompletableFuture.supplyAsync(() -> CoBookingMatrix.of(
+						reservationRepository.countConfirmedBookingsByStudent(
+								chunkFrom, chunkFrom + STUDENT_CHUNK_SIZE, CONFIRMED_STATUS_ID)), executor));
+			}
+
+			for (CompletableFuture<CoBookingMatrix> chunk : chunks) {
+				merged.merge(chunk.join());
+			}
+			log.info("추천 행렬 적재 완료: 구간 {}개", chunks.size());
+			return merged;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static void apply(CoBookingMatrix target, ReservationChangedEvent event) {
+		if (event.seatDelta() > 0) {
+			target.addBookings(event.studentId(), event.classId(), event.seatDelta());
+		} else {
+			for (int i = 0; i < -event.seatDelta(); i++) {
+				target.removeBooking(event.studentId(), event.classId());
+			}
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.oneday.core.service.review;
+
+/**
+ * 베이지안 평균 평점
+ * <p>
+ * 평점 수가 적은 클래스가 높은 단순 평균으로 상위를 차지하지 않도록,
+ * 평균 {@value #PRIOR_MEAN}점 리뷰 {@value #PRIOR_WEIGHT}개를 미리 더한 것으로 보고 계산합니다.
+ * score = (PRIOR_WEIGHT × PRIOR_MEAN + 평점 합) / (PRIOR_WEIGHT + 평점 수)
+ * <p>
+ * 같은 식을 class_ratings 갱신 SQL에서도 사용하므로 두 곳의 값이 항상 일치해야 합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class BayesianRating {
+
+	public static final double PRIOR_MEAN = 3.5;
+	public static final int PRIOR_WEIGHT = 5;
+
+	private BayesianRating() {
+	}
+
+	public static double score(long ratingCount, long ratingSum) {
+		return (PRIOR_WEIGHT * PRIOR_MEAN + ratingSum) / (PRIOR_WEIGHT + ratingCount);
+	}
+}
@@ -0,0 +1,145 @@
+package com.oneday.core.service.review;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.dto.review.ReviewPageResponse;
+import com.oneday.core.dto.review.ReviewRequest;
+import com.oneday.core.dto.review.ReviewResponse;
+import com.oneday.core.entity.Review;
+import com.oneday.core.event.ReviewChangedEvent;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.repository.ClassRatingRepository;
+import com.oneday.core.repository.ClassRepository;
+import com.oneday.core.repository.ReservationRepository;
+import com.oneday.core.repository.ReviewRepository;
+import com.oneday.core.repository.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클래스 리뷰 서비스
+ * <p>
+ * 리뷰를 쓰거나 지울 때마다 같은 트랜잭션에서 class_ratings의 평점 수/합/베이지안 점수를 증분 갱신하므로,
+ * 평점 조회와 평점순 정렬에 리뷰 전체를 집계하지 않습니다.
+ * 리뷰 목록은 reviewId 기준 키셋 페이지네이션으로 조회합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewService {
+
+	public static final int MAX_PAGE_SIZE = 50;
+
+	// 예약 확정 상태 코드 (status_code = 1)
+	private static final int CONFIRMED_STATUS_ID = 1;
+
+	private final ReviewRepository reviewRepository;
+	private final ClassRatingRepository classRatingRepository;
+	private final ClassRepository classRepository;
+	private final ReservationRepository reservationRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 리뷰 작성 (이미 작성한 리뷰가 있으면 수정)
+	 *
+	 * @param classId 클래스 ID
+	 * @param studentId 수강생 ID
+	 * @param request 평점과 내용
+	 * @return 저장된 리뷰
+	 * @throws CustomException 클래스가 없거나, 해당 클래스 수업을 마친 예약이 없거나, 동시에 작성된 경우
+	 */
+	@Transactional
+	public ReviewResponse writeReview(int classId, long studentId, ReviewRequest request) {
+		if (!classRepository.existsById(classId)) {
+			throw new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 강의입니다.");
+		}
+		if (!reservationRepository.existsAttendedReservation(studentId, classId, CONFIRMED_STATUS_ID,
+				LocalDateTime.now())) {
+			throw new CustomException(ErrorCode.FORBIDDEN, "수업을 마친 수강생만 평가할 수 있습니다.");
+		}
+
+		Review review = reviewRepository.findByClasses_ClassIdAndUser_Id(classId, studentId).orElse(null);
+
+		if (review != null) {
+			int sumDelta = request.rating() - review.getRating();
+			review.update(request.rating(), request.content());
+			applyRatingDelta(classId, 0, sumDelta);
+			return ReviewResponse.from(review);
+		}
+
+		try {
+			review = reviewRepository.saveAndFlush(Review.builder()
+					.classes(classRepository.getReferenceById(classId))
+					.user(userRepository.getReferenceById(studentId))
+					.rating(request.rating())
+					.content(request.content())
+					.build());
+		} catch (DataIntegrityViolationException e) {
+			// 같은 수강생의 리뷰가 동시에 작성된 경우 (uk_reviews_class_student)
+			throw new CustomException(ErrorCode.CONFLICT, "이미 작성 중인 리뷰가 있습니다. 다시 시도해 주세요.");
+		}
+
+		applyRatingDelta(classId, 1, request.rating());
+		return ReviewResponse.from(review);
+	}
+
+	/**
+	 * 본인 리뷰 삭제
+	 *
+	 * @param classId 클래스 ID
+	 * @param studentId 수강생 ID
+	 * @throws CustomException 작성한 리뷰가 없는 경우
+	 */
+	@Transactional
+	public void deleteReview(int classId, long studentId) {
+		Review review = reviewRepository.findByClasses_ClassIdAndUser_Id(classId, studentId)
+				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "작성한 리뷰가 없습니다."));
+
+		reviewRepository.delete(review);
+		applyRatingDelta(classId, -1, -review.getRating());
+	}
+
+	/**
+	 * 클래스 리뷰 목록 조회 (최신순)
+	 *
+	 * @param classId 클래스 ID
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE})
+	 * @return 리뷰 목록과 다음 페이지 커서
+	 */
+	public ReviewPageResponse getReviews(int classId, Integer cursor, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+		// 한 건 더 조회해 다음 페이지 존재 여부 판단
+		Limit limit = Limit.of(pageSize + 1);
+		List<Review> reviews = cursor == null
+				? reviewRepository.findLatest(classId, limit)
+				: reviewRepository.findLatestBefore(classId, cursor, limit);
+
+		boolean hasNext = reviews.size() > pageSize;
+		List<ReviewResponse> page = reviews.stream()
+				.limit(pageSize)
+				.map(ReviewResponse::from)
+				.toList();
+
+		return new ReviewPageResponse(page, hasNext ? page.get(page.size() - 1).reviewId() : null);
+	}
+
+	private void applyRatingDelta(int classId, int countDelta, int sumDelta) {
+		classRatingRepository.applyDelta(classId, countDelta, sumDelta,
+				BayesianRating.PRIOR_WEIGHT, BayesianRating.PRIOR_MEAN);
+		eventPublisher.publishEvent(new ReviewChangedEvent(classId));
+	}
+}
@@ -0,0 +1,218 @@
+package com.oneday.core.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.oneday.core.dto.search.AutocompleteSuggestion;
+import com.oneday.core.dto.search.SuggestionType;
+import com.oneday.core.util.HangulJamo;
+
+/**
+ * 자동완성용 압축 트라이 (radix trie)
+ * <p>
+ * 클래스명/카테고리명을 자모 분해한 키({@link HangulJamo#toSearchKey})로 적재하며,
+ * 이름 전체뿐 아니라 각 단어 시작 위치부터의 접미사도 키로 넣어 중간 단어로도 찾을 수 있습니다.
+ * 각 노드에 인기도 기준 상위 K개 항목을 미리 계산해 두므로, 조회는 접두사 길이만큼 트라이를 내려간 뒤
+ * 해당 노드의 목록을 그대로 반환합니다.
+ * <p>
+ * 생성 후 불변이며, 여러 스레드에서 동시에 조회할 수 있습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class AutocompleteIndex {
+
+	private static final int[] NO_ENTRIES = new int[0];
+
+	private final Entry[] entries;
+	private final Node root;
+
+	private AutocompleteIndex(Entry[] entries, Node root) {
+		this.entries = entries;
+		this.root = root;
+	}
+
+	/**
+	 * 항목 목록으로 트라이 생성
+	 *
+	 * @param entries 자동완성 항목
+	 * @param topK 노드별로 보관할 최대 항목 수
+	 */
+	public static AutocompleteIndex build(List<Entry> entries, int topK) {
+		Entry[] sorted = entries.stream()
+				.sorted(RANKING)
+				.toArray(Entry[]::new);
+
+		// 정렬된 순서가 곧 순위이므로, 이후에는 배열 위치(작을수록 우선)만 비교
+		BuildNode buildRoot = new BuildNode();
+		for (int rank = 0; rank < sorted.length; rank++) {
+			String key = HangulJamo.toSearchKey(sorted[rank].text());
+			for (int start = 0; start < key.length(); start++) {
+				if (start == 0 || key.charAt(start - 1) == ' ') {
+					buildRoot.insert(key, start, rank);
+				}
+			}
+		}
+
+		return new AutocompleteIndex(sorted, buildRoot.compress(new char[0], topK, false));
+	}
+
+	/**
+	 * 접두사로 시작하는 항목을 인기순으로 조회
+	 *
+	 * @param prefix 입력 중인 검색어 (자모 단위 부분 입력 허용)
+	 * @param limit 최대 결과 수
+	 * @return 자동완성 제안 목록
+	 */
+	public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+		String key = HangulJamo.toSearchKey(prefix);
+		if (key.isEmpty()) {
+			return List.of();
+		}
+
+		int[] ranks = find(key);
+		int count = Math.min(limit, ranks.length);
+		List<AutocompleteSuggestion> suggestions = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			Entry entry = entries[ranks[i]];
+			suggestions.add(new AutocompleteSuggestion(entry.type(), entry.id(), entry.text()));
+		}
+		return suggestions;
+	}
+
+	public int size() {
+		return entries.length;
+	}
+
+	private int[] find(String key) {
+		Node node = root;
+		int i = 0;
+
+		while (i < key.length()) {
+			int childIndex = Arrays.binarySearch(node.firstChars, key.charAt(i));
+			if (childIndex < 0) {
+				return NO_ENTRIES;
+			}
+
+			Node child = node.children[childIndex];
+			for (int j = 0; j < child.label.length && i < key.length(); j++, i++) {
+				if (child.label[j] != key.charAt(i)) {
+					return NO_ENTRIES;
+				}
+			}
+			node = child;
+		}
+
+		return node.top;
+	}
+
+	private static final Comparator<Entry> RANKING = Comparator
+			.comparingLong(Entry::weight).reversed()
+			.thenComparingInt(entry -> entry.text().length())
+			.thenComparing(Entry::text);
+
+	/**
+	 * 자동완성 항목
+	 *
+	 * @param type 항목 종류
+	 * @param id 클래스 ID 또는 카테고리 ID
+	 * @param text 표시 문구 (검색 키의 원문)
+	 * @param weight 인기도 가중치 (클수록 우선)
+	 */
+	public record Entry(SuggestionType type, int id, String text, long weight) {
+	}
+
+	// 조회용 노드: 들어오는 간선의 라벨과 자식의 첫 글자 배열(정렬), 상위 K개 항목 순위
+	private static final class Node {
+
+		private final char[] label;
+		private final char[] firstChars;
+		private final Node[] children;
+		private final int[] top;
+
+		private Node(char[] label, char[] firstChars, Node[] children, int[] top) {
+			this.label = label;
+			this.firstChars = firstChars;
+			this.children = children;
+			this.top = top;
+		}
+	}
+
+	// 생성 전용 노드 (글자 단위 트라이)
+	private static final class BuildNode {
+
+		private final Map<Character, BuildNode> children = new TreeMap<>();
+		private final List<Integer> terminals = new ArrayList<>(1);
+
+		private void insert(String key, int from, int rank) {
+			BuildNode node = this;
+			for (int i = from; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+			}
+			node.terminals.add(rank);
+		}
+
+		/**
+		 * 자식이 하나이고 끝나는 항목이 없는 노드를 간선 라벨로 합쳐 압축 노드 생성
+		 * 합쳐지는 노드의 상위 K개는 자식과 같으므로 정보 손실이 없습니다.
+		 * 루트는 빈 라벨을 유지해야 하므로 합치지 않습니다 (mergeChain = false).
+		 */
+		private Node compress(char[] label, int topK, boolean mergeChain) {
+			StringBuilder path = new StringBuilder().append(label);
+			BuildNode node = this;
+
+			while (mergeChain && node.children.size() == 1 && node.terminals.isEmpty()) {
+				Map.Entry<Character, BuildNode> only = node.children.entrySet().iterator().next();
+				path.append(only.getKey().charValue());
+				node = only.getValue();
+			}
+
+			char[] firstChars = new char[node.children.size()];
+			Node[] compressedChildren = new Node[node.children.size()];
+			int index = 0;
+
+			for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+				firstChars[index] = child.getKey();
+				compressedChildren[index] = child.getValue().compress(new char[] {child.getKey()}, topK, true);
+				index++;
+			}
+
+			return new Node(path.toString().toCharArray(), firstChars, compressedChildren,
+					mergeTop(node.terminals, compressedChildren, topK));
+		}
+
+		// 순위(작을수록 우선)를 중복 없이 K개까지 병합
+		private static int[] mergeTop(List<Integer> terminals, Node[] children, int topK) {
+			int total = terminals.size();
+			for (Node child : children) {
+				total += child.top.length;
+			}
+
+			int[] candidates = new int[total];
+			int filled = 0;
+			for (int rank : terminals) {
+				candidates[filled++] = rank;
+			}
+			for (Node child : children) {
+				System.arraycopy(child.top, 0, candidates, filled, child.top.length);
+				filled += child.top.length;
+			}
+
+			Arrays.sort(candidates);
+
+			int[] top = new int[Math.min(topK, total)];
+			int size = 0;
+			for (int i = 0; i < candidates.length && size < top.length; i++) {
+				if (size == 0 || top[size - 1] != candidates[i]) {
+					top[size++] = candidates[i];
+				}
+			}
+			return size == top.length ? top : Arrays.copyOf(top, size);
+		}
+	}
+}
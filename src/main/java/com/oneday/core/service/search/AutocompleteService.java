@@ -0,0 +1,125 @@
+package com.oneday.core.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneday.core.dto.classes.ClassResponse;
+import com.oneday.core.dto.search.AutocompleteSuggestion;
+import com.oneday.core.dto.search.SuggestionType;
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.repository.ReservationRepository;
+import com.oneday.core.service.ClassService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 서비스
+ * 클래스명과 카테고리명을 {@link AutocompleteIndex}로 적재해 SQL 없이 접두사 조회
+ * <p>
+ * 인기도 가중치는 클래스별 예약 확정 수이며, 카테고리는 소속 클래스 수와 예약 확정 수의 합입니다.
+ * 클래스가 변경되면 다음 갱신 주기에 다시 적재하고, 가중치는 주기적으로 전체 재적재하며 반영합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+	// 예약 확정 상태 코드 (status_code = 1)
+	private static final int CONFIRMED_STATUS_ID = 1;
+	private static final int TOP_K = 10;
+	private static final int MAX_QUERY_LENGTH = 50;
+
+	private final ClassService classService;
+	private final ReservationRepository reservationRepository;
+
+	private volatile AutocompleteIndex index;
+	private volatile boolean dirty;
+
+	/**
+	 * 입력 중인 검색어로 자동완성 제안 조회
+	 *
+	 * @param query 검색어 (부분 입력된 자모 포함)
+	 * @param limit 최대 결과 수 (1 ~ {@value #TOP_K})
+	 * @return 인기순 제안 목록 (적재 전이면 빈 목록)
+	 */
+	public List<AutocompleteSuggestion> suggest(String query, int limit) {
+		AutocompleteIndex current = index;
+		if (current == null || query == null || query.length() > MAX_QUERY_LENGTH) {
+			return List.of();
+		}
+		return current.suggest(query, Math.max(1, Math.min(limit, TOP_K)));
+	}
+
+	@Order(2)
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		rebuild();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClassChanged(ClassChangedEvent event) {
+		dirty = true;
+	}
+
+	/**
+	 * 클래스 변경이 있었으면 재적재 (변경이 몰려도 주기당 한 번만 재적재)
+	 */
+	@Scheduled(fixedDelayString = "${search.autocomplete.refresh-interval-ms:10000}")
+	public void refreshIfDirty() {
+		if (dirty) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * 클래스/카테고리 목록과 인기도 가중치로 자동완성 인덱스 재적재
+	 */
+	@Scheduled(
+			initialDelayString = "${search.autocomplete.rebuild-interval-ms:3600000}",
+			fixedDelayString = "${search.autocomplete.rebuild-interval-ms:3600000}"
+	)
+	public void rebuild() {
+		dirty = false;
+
+		Map<Integer, Long> reservationCounts = new HashMap<>();
+		for (Object[] row : reservationRepository.countConfirmedReservationsByClass(CONFIRMED_STATUS_ID)) {
+			reservationCounts.put((Integer)row[0], (Long)row[1]);
+		}
+
+		List<AutocompleteIndex.Entry> entries = new ArrayList<>();
+		Map<Integer, String> categoryNames = new LinkedHashMap<>();
+		Map<Integer, Long> categoryWeights = new HashMap<>();
+
+		for (ClassResponse classInfo : classService.getAllClasses()) {
+			long weight = reservationCounts.getOrDefault(classInfo.classId(), 0L);
+			entries.add(new AutocompleteIndex.Entry(
+					SuggestionType.CLASS, classInfo.classId(), classInfo.className(), weight));
+
+			if (classInfo.categoryId() != null) {
+				categoryNames.putIfAbsent(classInfo.categoryId(), classInfo.category());
+				categoryWeights.merge(classInfo.categoryId(), weight + 1, Long::sum);
+			}
+		}
+
+		categoryNames.forEach((categoryId, category) -> entries.add(new AutocompleteIndex.Entry(
+				SuggestionType.CATEGORY, categoryId, category, categoryWeights.get(categoryId))));
+
+		AutocompleteIndex rebuilt = AutocompleteIndex.build(entries, TOP_K);
+		index = rebuilt;
+		log.info("자동완성 인덱스 적재 완료: {}건", rebuilt.size());
+	}
+}
@@ -0,0 +1,211 @@
+package com.oneday.core.service.search;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oneday.core.dto.classes.ClassListingResponse;
+import com.oneday.core.dto.search.AvailabilitySearchRequest;
+import com.oneday.core.dto.search.AvailableSessionResponse;
+import com.oneday.core.dto.search.FacetCount;
+import com.oneday.core.dto.search.SearchFacetsResponse;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.repository.TimesRepository;
+import com.oneday.core.service.image.RepresentativeImageService;
+import com.oneday.core.service.listing.ClassListingService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잔여석 검색 서비스
+ * 메모리 슬롯 인덱스({@link SlotIndex})로 잔여석이 있는 수업을 조회
+ * <p>
+ * 슬롯 검색과 패싯 건수 계산은 인덱스에서 처리하고, 클래스 정보와 대표 이미지는
+ * 목록 조회 모델(class_listing)에서 결과 전체에 대해 한 번에 채웁니다.
+ * 인덱스 적재 전에는 times.reserved_count 카운터와 시작 시각 인덱스로 DB에서 조회합니다.
+ * 지난 수업은 검색 시작 시각을 현재 시각 이후로 당겨 제외하고,
+ * 마감된 수업은 (정원 - 예약 인원) 조건으로 제외합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+	// 예약 확정 상태 코드 (status_code = 1)
+	private static final int CONFIRMED_STATUS_ID = 1;
+	private static final long MAX_SEARCH_DAYS = 92;
+	private static final int MAX_RESULTS = 500;
+
+	private final TimesRepository timesRepository;
+	private final SlotIndexService slotIndexService;
+	private final ClassListingService classListingService;
+	private final RepresentativeImageService representativeImageService;
+
+	/**
+	 * 기간 내 잔여석이 있는 수업 조회
+	 *
+	 * @param request 검색 조건 (카테고리, 기간, 최소 잔여석)
+	 * @return 시작 시각 순으로 정렬된 수업 목록 (최대 {@value #MAX_RESULTS}건)
+	 * @throws CustomException 검색 기간이 올바르지 않은 경우
+	 */
+	public List<AvailableSessionResponse> searchAvailableSessions(AvailabilitySearchRequest request) {
+		validatePeriod(request);
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime from = request.from().atStartOfDay();
+		LocalDateTime to = request.to().plusDays(1).atStartOfDay();
+
+		if (!to.isAfter(now)) {
+			return List.of();
+		}
+
+		LocalDateTime effectiveFrom = from.isAfter(now) ? from : now;
+		SlotIndex index = slotIndexService.current();
+
+		if (index == null) {
+			List<AvailableSessionResponse> sessions = timesRepository.findAvailableSessions(
+					effectiveFrom,
+					to,
+					request.categoryId(),
+					request.minSeats()
+			);
+			if (sessions.size() > MAX_RESULTS) {
+				sessions = sessions.subList(0, MAX_RESULTS);
+			}
+
+			Map<Integer, String> imageUrls = representativeImageService.getRepresentativeImageUrls(
+					sessions.stream().map(AvailableSessionResponse::classId).distinct().toList());
+			return sessions.stream()
+					.map(session -> session.withRepresentativeImageUrl(imageUrls.get(session.classId())))
+					.toList();
+		}
+
+		int[] positions = index.search(
+				SlotIndexService.toEpochSecond(effectiveFrom),
+				SlotIndexService.toEpochSecond(to),
+				request.categoryId() == null ? SlotIndex.ANY_CATEGORY : request.categoryId(),
+				request.minSeats(),
+				MAX_RESULTS
+		);
+
+		List<Integer> classIds = new ArrayList<>(positions.length);
+		for (int pos : positions) {
+			classIds.add(index.classId(pos));
+		}
+		Map<Integer, ClassListingResponse> listings = classListingService.getListingsByIds(classIds);
+
+		List<AvailableSessionResponse> sessions = new ArrayList<>(positions.length);
+		for (int pos : positions) {
+			ClassListingResponse classInfo = listings.get(index.classId(pos));
+			if (classInfo == null) {
+				// 목록 조회 모델에 아직 반영되지 않은 클래스
+				continue;
+			}
+			sessions.add(new AvailableSessionResponse(
+					classInfo.classId(),
+					classInfo.className(),
+					classInfo.categoryId(),
+					classInfo.category(),
+					classInfo.location(),
+					classInfo.price(),
+					classInfo.representativeImageUrl(),
+					index.timeId(pos),
+					SlotIndexService.toLocalDateTime(index.startEpochSecond(pos)),
+					SlotIndexService.toLocalDateTime(index.endEpochSecond(pos)),
+					index.remainingSeats(pos)
+			));
+		}
+		return sessions;
+	}
+
+	/**
+	 * 검색 조건에 대한 패싯(카테고리/가격대/지역) 건수 조회
+	 * 인덱스 적재 전에는 빈 패싯을 반환합니다.
+	 *
+	 * @param request 검색 조건 (카테고리, 기간, 최소 잔여석)
+	 * @return 패싯별 수업 수 (건수가 0인 항목 제외)
+	 * @throws CustomException 검색 기간이 올바르지 않은 경우
+	 */
+	public SearchFacetsResponse countFacets(AvailabilitySearchRequest request) {
+		validatePeriod(request);
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime from = request.from().atStartOfDay();
+		LocalDateTime to = request.to().plusDays(1).atStartOfDay();
+		SlotIndex index = slotIndexService.current();
+
+		if (!to.isAfter(now) || index == null) {
+			return SearchFacetsResponse.empty();
+		}
+
+		SlotIndex.Facets facets = index.countFacets(
+				SlotIndexService.toEpochSecond(from.isAfter(now) ? from : now),
+				SlotIndexService.toEpochSecond(to),
+				request.categoryId() == null ? SlotIndex.ANY_CATEGORY : request.categoryId(),
+				request.minSeats()
+		);
+
+		List<FacetCount> categories = new ArrayList<>();
+		for (int id = 0; id < facets.categoryCounts().length; id++) {
+			if (facets.categoryCounts()[id] > 0) {
+				categories.add(new FacetCount(String.valueOf(id), facets.categoryNames().get(id),
+						facets.categoryCounts()[id]));
+			}
+		}
+
+		List<FacetCount> priceBands = new ArrayList<>();
+		for (int band = 0; band < facets.priceBandCounts().length; band++) {
+			if (facets.priceBandCounts()[band] > 0) {
+				PriceBand priceBand = PriceBand.ofOrdinal(band);
+				priceBands.add(new FacetCount(priceBand.name(), priceBand.getLabel(),
+						facets.priceBandCounts()[band]));
+			}
+		}
+
+		List<FacetCount> regions = new ArrayList<>();
+		for (int id = 0; id < facets.regionCounts().length; id++) {
+			if (facets.regionCounts()[id] > 0) {
+				String region = facets.regionNames().get(id);
+				regions.add(new FacetCount(region, region, facets.regionCounts()[id]));
+			}
+		}
+
+		return new SearchFacetsResponse(categories, priceBands, regions);
+	}
+
+	/**
+	 * 애플리케이션 시작 시 예정된 수업의 예약 인원 카운터를 보정
+	 * 카운터 도입 이전에 생성된 예약과 외부에서 변경된 예약을 반영
+	 */
+	@Order(0)
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void syncReservedCounts() {
+		int updated = timesRepository.syncReservedCounts(LocalDateTime.now(), CONFIRMED_STATUS_ID);
+		log.info("예정된 수업 예약 인원 보정 완료: {}건", updated);
+	}
+
+	private void validatePeriod(AvailabilitySearchRequest request) {
+		if (request.to().isBefore(request.from())) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "검색 종료일은 시작일 이후여야 합니다");
+		}
+
+		if (ChronoUnit.DAYS.between(request.from(), request.to()) > MAX_SEARCH_DAYS) {
+			throw new CustomException(ErrorCode.INVALID_INPUT,
+					"검색 기간은 최대 " + MAX_SEARCH_DAYS + "일입니다");
+		}
+	}
+}
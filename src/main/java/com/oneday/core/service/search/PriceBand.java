@@ -0,0 +1,52 @@
+package com.oneday.core.service.search;
+
+/**
+ * 검색 패싯용 가격대 구간
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public enum PriceBand {
+
+	UNDER_30000("3만원 미만", 0, 30_000),
+	FROM_30000_TO_50000("3만원 ~ 5만원", 30_000, 50_000),
+	FROM_50000_TO_100000("5만원 ~ 10만원", 50_000, 100_000),
+	OVER_100000("10만원 이상", 100_000, Integer.MAX_VALUE);
+
+	private static final PriceBand[] BANDS = values();
+
+	private final String label;
+	private final int minInclusive;
+	private final int maxExclusive;
+
+	PriceBand(String label, int minInclusive, int maxExclusive) {
+		this.label = label;
+		this.minInclusive = minInclusive;
+		this.maxExclusive = maxExclusive;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * 가격이 속한 구간 (가격이 없으면 가장 낮은 구간)
+	 */
+	public static PriceBand of(Integer price) {
+		int value = price == null ? 0 : Math.max(0, price);
+		for (PriceBand band : BANDS) {
+			if (value >= band.minInclusive && value < band.maxExclusive) {
+				return band;
+			}
+		}
+		return OVER_100000;
+	}
+
+	public static PriceBand ofOrdinal(int ordinal) {
+		return BANDS[ordinal];
+	}
+
+	public static int count() {
+		return BANDS.length;
+	}
+}
@@ -0,0 +1,475 @@
+package com.oneday.core.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.oneday.core.util.IntIntHashMap;
+
+/**
+ * 예정된 수업 시간(슬롯)의 컬럼형 메모리 인덱스
+ * <p>
+ * 슬롯을 시작 시각 순으로 정렬해 컬럼별 원시 배열(timeId, classId, categoryId, 시작/종료 epoch 초,
+ * 정원, 예약 인원, 가격대, 지역)에 담고, 카테고리별 BitSet으로 필터링합니다. 기간 조건은 시작 시각 배열의 이진 탐색으로 범위를 자르고,
+ * 카테고리 조건은 BitSet의 nextSetBit로 건너뛰므로 검색 중 객체 생성이나 박싱이 없습니다.
+ * <p>
+ * 패싯(카테고리/가격대/지역) 건수는 위치 순으로 {@value #BUCKET_SIZE}개씩 나눈 구간마다 잔여석이 있는 슬롯 수를
+ * 미리 집계해 두고, 검색 범위에 온전히 포함된 구간은 집계값을 더하고 양 끝 구간만 컬럼을 훑습니다.
+ * 구간 집계는 생성 시 계산하고 예약 인원 변화로 마감/해제될 때만 갱신하며,
+ * 최소 잔여석이 2 이상인 조회는 구간 집계로 답할 수 없으므로 범위 전체를 훑습니다.
+ * <p>
+ * 예약 인원 컬럼만 {@link AtomicIntegerArray}로 제자리 갱신하고, 나머지 컬럼은 불변입니다.
+ * 슬롯 구성이 바뀌면 {@link #withClassReplaced}로 새 인덱스를 만들어 교체합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class SlotIndex {
+
+	/** 카테고리 조건 없음 */
+	public static final int ANY_CATEGORY = -1;
+
+	private static final int NOT_FOUND = -1;
+	private static final int BUCKET_SHIFT = 8;
+	private static final int BUCKET_SIZE = 1 << BUCKET_SHIFT;
+	private static final int[] NO_POSITIONS = new int[0];
+
+	private final int size;
+	private final int[] timeIds;
+	private final int[] classIds;
+	private final int[] categoryIds;
+	private final long[] startEpochSeconds;
+	private final long[] endEpochSeconds;
+	private final int[] capacities;
+	private final AtomicIntegerArray reserved;
+	private final int[] priceBands;
+	private final int[] regionIds;
+	private final List<String> regionNames;
+	private final List<String> categoryNames;
+	private final BitSet[] categoryBitmaps;
+	private final IntIntHashMap positionByTimeId;
+
+	// 구간별 잔여석 있는 슬롯 수: [카테고리별][전체 가격대별, 지역별][카테고리마다 가격대별, 지역별]
+	private final int facetGroupWidth;
+	private final int facetStride;
+	private final AtomicIntegerArray openFacetCounts;
+
+	private SlotIndex(Builder builder) {
+		this.size = builder.size;
+		this.timeIds = Arrays.copyOf(builder.timeIds, size);
+		this.classIds = Arrays.copyOf(builder.classIds, size);
+		this.categoryIds = Arrays.copyOf(builder.categoryIds, size);
+		this.startEpochSeconds = Arrays.copyOf(builder.startEpochSeconds, size);
+		this.endEpochSeconds = Arrays.copyOf(builder.endEpochSeconds, size);
+		this.capacities = Arrays.copyOf(builder.capacities, size);
+		this.reserved = new AtomicIntegerArray(Arrays.copyOf(builder.reserved, size));
+		this.priceBands = Arrays.copyOf(builder.priceBands, size);
+		this.regionIds = Arrays.copyOf(builder.regionIds, size);
+		this.regionNames = List.copyOf(builder.regionNames);
+
+		int maxCategoryId = -1;
+		for (int i = 0; i < size; i++) {
+			maxCategoryId = Math.max(maxCategoryId, categoryIds[i]);
+		}
+
+		this.categoryBitmaps = new BitSet[maxCategoryId + 1];
+		String[] names = new String[maxCategoryId + 1];
+		builder.categoryNames.forEach((id, name) -> {
+			if (id < names.length) {
+				names[id] = name;
+			}
+		});
+		this.categoryNames = Collections.unmodifiableList(Arrays.asList(names));
+		this.positionByTimeId = new IntIntHashMap(size);
+
+		for (int i = 0; i < size; i++) {
+			BitSet bitmap = categoryBitmaps[categoryIds[i]];
+			if (bitmap == null) {
+				bitmap = new BitSet(size);
+				categoryBitmaps[categoryIds[i]] = bitmap;
+			}
+			bitmap.set(i);
+			positionByTimeId.put(timeIds[i], i);
+		}
+
+		this.facetGroupWidth = PriceBand.count() + regionNames.size();
+		this.facetStride = categoryBitmaps.length + (categoryBitmaps.length + 1) * facetGroupWidth;
+		int buckets = (size + BUCKET_SIZE - 1) >>> BUCKET_SHIFT;
+		this.openFacetCounts = new AtomicIntegerArray(buckets * facetStride);
+		for (int i = 0; i < size; i++) {
+			if (capacities[i] - reserved.get(i) >= 1) {
+				countOpenSlot(i, 1);
+			}
+		}
+	}
+
+	/**
+	 * 슬롯 목록으로 인덱스 생성
+	 *
+	 * @param slots 슬롯 목록 (순서 무관)
+	 */
+	public static SlotIndex of(List<Slot> slots) {
+		Builder builder = new Builder(slots.size(), List.of());
+		slots.stream()
+				.sorted(SLOT_ORDER)
+				.forEach(builder::add);
+		return new SlotIndex(builder);
+	}
+
+	public static SlotIndex empty() {
+		return new SlotIndex(new Builder(0, List.of()));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 기간/카테고리/잔여석 조건으로 슬롯 검색
+	 *
+	 * @param fromEpochSecond 시작 시각 하한 (포함)
+	 * @param toEpochSecond 시작 시각 상한 (미포함)
+	 * @param categoryId 카테고리 ID ({@link #ANY_CATEGORY}이면 전체)
+	 * @param minSeats 최소 잔여석
+	 * @param limit 최대 결과 수
+	 * @return 조건을 만족하는 슬롯 위치 (시작 시각 순)
+	 */
+	public int[] search(long fromEpochSecond, long toEpochSecond, int categoryId, int minSeats, int limit) {
+		int lo = lowerBound(fromEpochSecond);
+		int hi = lowerBound(toEpochSecond);
+
+		if (lo >= hi || limit <= 0) {
+			return NO_POSITIONS;
+		}
+
+		BitSet bitmap = null;
+		if (categoryId != ANY_CATEGORY) {
+			if (categoryId < 0 || categoryId >= categoryBitmaps.length || categoryBitmaps[categoryId] == null) {
+				return NO_POSITIONS;
+			}
+			bitmap = categoryBitmaps[categoryId];
+		}
+
+		int[] positions = new int[Math.min(hi - lo, limit)];
+		int found = 0;
+		int pos = bitmap == null ? lo : bitmap.nextSetBit(lo);
+
+		while (pos >= 0 && pos < hi && found < positions.length) {
+			if (capacities[pos] - reserved.get(pos) >= minSeats) {
+				positions[found++] = pos;
+			}
+			pos = bitmap == null ? pos + 1 : bitmap.nextSetBit(pos + 1);
+		}
+
+		return found == positions.length ? positions : Arrays.copyOf(positions, found);
+	}
+
+	/**
+	 * 검색 조건에 해당하는 슬롯의 패싯 건수 계산
+	 * <p>
+	 * 카테고리 건수는 카테고리 조건을 제외한 나머지 조건(기간, 잔여석)으로 집계해
+	 * 다른 카테고리로 바꿨을 때의 결과 수를 보여주고,
+	 * 가격대/지역 건수는 카테고리 조건까지 모두 적용해 집계합니다.
+	 *
+	 * @param fromEpochSecond 시작 시각 하한 (포함)
+	 * @param toEpochSecond 시작 시각 상한 (미포함)
+	 * @param categoryId 카테고리 ID ({@link #ANY_CATEGORY}이면 전체)
+	 * @param minSeats 최소 잔여석
+	 * @return 패싯별 슬롯 수
+	 */
+	public Facets countFacets(long fromEpochSecond, long toEpochSecond, int categoryId, int minSeats) {
+		int[] categoryCounts = new int[categoryBitmaps.length];
+		int[] priceBandCounts = new int[PriceBand.count()];
+		int[] regionCounts = new int[regionNames.size()];
+
+		int lo = lowerBound(fromEpochSecond);
+		int hi = lowerBound(toEpochSecond);
+		int firstBucket = (lo + BUCKET_SIZE - 1) >>> BUCKET_SHIFT;
+		int endBucket = hi >>> BUCKET_SHIFT;
+
+		if (minSeats != 1 || firstBucket >= endBucket) {
+			scanFacets(lo, hi, categoryId, minSeats, categoryCounts, priceBandCounts, regionCounts);
+		} else {
+			scanFacets(lo, firstBucket << BUCKET_SHIFT, categoryId, minSeats,
+					categoryCounts, priceBandCounts, regionCounts);
+			for (int bucket = firstBucket; bucket < endBucket; bucket++) {
+				addBucketFacets(bucket, categoryId, categoryCounts, priceBandCounts, regionCounts);
+			}
+			scanFacets(endBucket << BUCKET_SHIFT, hi, categoryId, minSeats,
+					categoryCounts, priceBandCounts, regionCounts);
+		}
+
+		return new Facets(categoryCounts, priceBandCounts, regionCounts, categoryNames, regionNames);
+	}
+
+	/**
+	 * 예약 인원 변화 반영 (인덱스에 없는 슬롯이면 무시)
+	 *
+	 * @return 반영 여부
+	 */
+	public boolean applyReservationDelta(int timeId, int seatDelta) {
+		int pos = positionByTimeId.get(timeId, NOT_FOUND);
+		if (pos == NOT_FOUND) {
+			return false;
+		}
+
+		int before = reserved.getAndAccumulate(pos, seatDelta, (current, delta) -> Math.max(0, current + delta));
+		int after = Math.max(0, before + seatDelta);
+
+		// 마감되거나 다시 열린 경우에만 구간 패싯 집계 갱신
+		boolean wasOpen = capacities[pos] - before >= 1;
+		boolean isOpen = capacities[pos] - after >= 1;
+		if (wasOpen != isOpen) {
+			countOpenSlot(pos, isOpen ? 1 : -1);
+		}
+		return true;
+	}
+
+	/**
+	 * 특정 클래스의 슬롯을 교체한 새 인덱스 생성
+	 * 기존 인덱스는 시작 순서가 유지되므로 새 슬롯과 병합만 하며, 지난 슬롯은 함께 제거합니다.
+	 *
+	 * @param classId 교체할 클래스 ID
+	 * @param classSlots 클래스의 새 슬롯 목록 (비어 있으면 제거)
+	 * @param pruneBeforeEpochSecond 이 시각 이전에 시작하는 슬롯은 제외
+	 */
+	public SlotIndex withClassReplaced(int classId, List<Slot> classSlots, long pruneBeforeEpochSecond) {
+		List<Slot> incoming = classSlots.stream()
+				.filter(slot -> slot.startEpochSecond() >= pruneBeforeEpochSecond)
+				.sorted(SLOT_ORDER)
+				.toList();
+
+		// 지역 ID를 그대로 복사할 수 있도록 기존 지역 사전을 이어서 사용
+		Builder builder = new Builder(size + incoming.size(), regionNames);
+		for (int id = 0; id < categoryNames.size(); id++) {
+			if (categoryNames.get(id) != null) {
+				builder.categoryNames.put(id, categoryNames.get(id));
+			}
+		}
+		int next = 0;
+
+		for (int pos = lowerBound(pruneBeforeEpochSecond); pos < size; pos++) {
+			if (classIds[pos] == classId) {
+				continue;
+			}
+
+			while (next < incoming.size() && precedes(incoming.get(next), pos)) {
+				builder.add(incoming.get(next++));
+			}
+
+			builder.add(timeIds[pos], classIds[pos], categoryIds[pos], startEpochSeconds[pos],
+					endEpochSeconds[pos], capacities[pos], reserved.get(pos), priceBands[pos], regionIds[pos]);
+		}
+
+		while (next < incoming.size()) {
+			builder.add(incoming.get(next++));
+		}
+
+		return new SlotIndex(builder);
+	}
+
+	public int timeId(int pos) {
+		return timeIds[pos];
+	}
+
+	public int classId(int pos) {
+		return classIds[pos];
+	}
+
+	public int categoryId(int pos) {
+		return categoryIds[pos];
+	}
+
+	public long startEpochSecond(int pos) {
+		return startEpochSeconds[pos];
+	}
+
+	public long endEpochSecond(int pos) {
+		return endEpochSeconds[pos];
+	}
+
+	public int remainingSeats(int pos) {
+		return Math.max(0, capacities[pos] - reserved.get(pos));
+	}
+
+	private void scanFacets(int from, int to, int categoryId, int minSeats,
+			int[] categoryCounts, int[] priceBandCounts, int[] regionCounts) {
+		for (int pos = from; pos < to; pos++) {
+			if (capacities[pos] - reserved.get(pos) < minSeats) {
+				continue;
+			}
+
+			categoryCounts[categoryIds[pos]]++;
+
+			if (categoryId == ANY_CATEGORY || categoryIds[pos] == categoryId) {
+				priceBandCounts[priceBands[pos]]++;
+				regionCounts[regionIds[pos]]++;
+			}
+		}
+	}
+
+	private void addBucketFacets(int bucket, int categoryId,
+			int[] categoryCounts, int[] priceBandCounts, int[] regionCounts) {
+		int base = bucket * facetStride;
+		for (int id = 0; id < categoryCounts.length; id++) {
+			categoryCounts[id] += openFacetCounts.get(base + id);
+		}
+
+		// 없는 카테고리로 조회하면 가격대/지역 건수는 0
+		if (categoryId != ANY_CATEGORY && (categoryId < 0 || categoryId >= categoryBitmaps.length)) {
+			return;
+		}
+		int group = groupOffset(base, categoryId);
+		for (int band = 0; band < priceBandCounts.length; band++) {
+			priceBandCounts[band] += openFacetCounts.get(group + band);
+		}
+		for (int id = 0; id < regionCounts.length; id++) {
+			regionCounts[id] += openFacetCounts.get(group + priceBandCounts.length + id);
+		}
+	}
+
+	private void countOpenSlot(int pos, int delta) {
+		int base = (pos >>> BUCKET_SHIFT) * facetStride;
+		openFacetCounts.addAndGet(base + categoryIds[pos], delta);
+		countOpenSlotInGroup(groupOffset(base, ANY_CATEGORY), pos, delta);
+		countOpenSlotInGroup(groupOffset(base, categoryIds[pos]), pos, delta);
+	}
+
+	private void countOpenSlotInGroup(int group, int pos, int delta) {
+		openFacetCounts.addAndGet(group + priceBands[pos], delta);
+		openFacetCounts.addAndGet(group + PriceBand.count() + regionIds[pos], delta);
+	}
+
+	// 전체(ANY_CATEGORY) 묶음 다음에 카테고리 ID 순으로 가격대/지역 묶음이 이어짐
+	private int groupOffset(int base, int categoryId) {
+		return base + categoryBitmaps.length + (categoryId + 1) * facetGroupWidth;
+	}
+
+	// 시작 시각이 key 이상인 첫 위치
+	private int lowerBound(long key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (startEpochSeconds[mid] < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private boolean precedes(Slot slot, int pos) {
+		if (slot.startEpochSecond() != startEpochSeconds[pos]) {
+			return slot.startEpochSecond() < startEpochSeconds[pos];
+		}
+		return slot.timeId() < timeIds[pos];
+	}
+
+	private static final Comparator<Slot> SLOT_ORDER = Comparator
+			.comparingLong(Slot::startEpochSecond)
+			.thenComparingInt(Slot::timeId);
+
+	/**
+	 * 인덱스 적재 단위
+	 */
+	public record Slot(
+			int timeId,
+			int classId,
+			int categoryId,
+			String category,
+			long startEpochSecond,
+			long endEpochSecond,
+			int capacity,
+			int reserved,
+			Integer price,
+			String region
+	) {
+	}
+
+	/**
+	 * 패싯 건수 (배열 인덱스: 카테고리 ID, {@link PriceBand} 순서, 지역 ID)
+	 *
+	 * @param categoryCounts 카테고리별 슬롯 수
+	 * @param priceBandCounts 가격대별 슬롯 수
+	 * @param regionCounts 지역별 슬롯 수
+	 * @param categoryNames 카테고리 ID별 카테고리명 (인덱스에 없는 ID는 null)
+	 * @param regionNames 지역 ID별 지역명
+	 */
+	public record Facets(
+			int[] categoryCounts,
+			int[] priceBandCounts,
+			int[] regionCounts,
+			List<String> categoryNames,
+			List<String> regionNames
+	) {
+	}
+
+	private static final class Builder {
+
+		private int size;
+		private int[] timeIds;
+		private int[] classIds;
+		private int[] categoryIds;
+		private long[] startEpochSeconds;
+		private long[] endEpochSeconds;
+		private int[] capacities;
+		private int[] reserved;
+		private int[] priceBands;
+		private int[] regionIds;
+		private final List<String> regionNames;
+		private final Map<String, Integer> regionIdByName = new HashMap<>();
+		private final Map<Integer, String> categoryNames = new HashMap<>();
+
+		private Builder(int capacity, List<String> regionNames) {
+			timeIds = new int[capacity];
+			classIds = new int[capacity];
+			categoryIds = new int[capacity];
+			startEpochSeconds = new long[capacity];
+			endEpochSeconds = new long[capacity];
+			capacities = new int[capacity];
+			reserved = new int[capacity];
+			priceBands = new int[capacity];
+			regionIds = new int[capacity];
+			this.regionNames = new ArrayList<>(regionNames);
+			for (int i = 0; i < regionNames.size(); i++) {
+				regionIdByName.put(regionNames.get(i), i);
+			}
+		}
+
+		private void add(Slot slot) {
+			categoryNames.put(slot.categoryId(), slot.category());
+			add(slot.timeId(), slot.classId(), slot.categoryId(), slot.startEpochSecond(),
+					slot.endEpochSecond(), slot.capacity(), slot.reserved(),
+					PriceBand.of(slot.price()).ordinal(), regionId(slot.region()));
+		}
+
+		private void add(int timeId, int classId, int categoryId, long start, long end, int capacity,
+				int reservedCount, int priceBand, int regionId) {
+			timeIds[size] = timeId;
+			classIds[size] = classId;
+			categoryIds[size] = categoryId;
+			startEpochSeconds[size] = start;
+			endEpochSeconds[size] = end;
+			capacities[size] = capacity;
+			reserved[size] = reservedCount;
+			priceBands[size] = priceBand;
+			regionIds[size] = regionId;
+			size++;
+		}
+
+		private int regionId(String region) {
+			return regionIdByName.computeIfAbsent(region, name -> {
+				regionNames.add(name);
+				return regionNames.size() - 1;
+			});
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package com.oneday.core.service.search;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneday.core.dto.search.SessionSlotDto;
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.event.ReservationChangedEvent;
+import com.oneday.core.repository.TimesRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 슬롯 인덱스 관리 서비스
+ * 예정된 수업 시간을 {@link SlotIndex}로 적재하고 이벤트로 증분 갱신
+ * <p>
+ * - 예약 생성/취소: 커밋 후 해당 슬롯의 예약 인원만 제자리 갱신<br>
+ * - 클래스(세션) 변경: 해당 클래스 슬롯만 다시 조회해 새 인덱스로 교체<br>
+ * - 주기 재적재: 지난 슬롯을 정리하고 누락된 이벤트로 생긴 오차를 보정
+ * <p>
+ * DB 조회는 잠금 밖에서 하므로, 조회하는 동안 들어온 예약 변경과 클래스 변경은 따로 모아 두었다가
+ * 새 인덱스로 교체할 때 다시 반영합니다. 조회 직전 커밋의 이벤트가 겹쳐 생기는 작은 오차는 주기 재적재가 보정합니다.
+ * <p>
+ * 인덱스는 검색용이며, 실제 좌석 확보는 예약 시 조건부 UPDATE가 판정합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotIndexService {
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+	private static final String UNKNOWN_REGION = "기타";
+
+	private final TimesRepository timesRepository;
+
+	// 예약 인원 갱신(읽기 잠금, 동시 허용)과 인덱스 교체(쓰기 잠금)를 분리
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 진행 중인 적재(재적재/클래스 갱신)마다 조회 이후 들어온 변경을 모으는 버퍼
+	private final List<PendingChanges> pendingLoads = new CopyOnWriteArrayList<>();
+
+	private volatile SlotIndex index;
+
+	/**
+	 * 현재 인덱스 조회
+	 *
+	 * @return 적재 전이면 null
+	 */
+	public SlotIndex current() {
+		return index;
+	}
+
+	/**
+	 * 애플리케이션 시작 시 인덱스 적재 (예약 인원 보정 이후)
+	 */
+	@Order(1)
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reload();
+	}
+
+	/**
+	 * 예정된 전체 슬롯으로 인덱스 재적재
+	 */
+	@Scheduled(
+			initialDelayString = "${search.slot-index.reload-interval-ms:3600000}",
+			fixedDelayString = "${search.slot-index.reload-interval-ms:3600000}"
+	)
+	public void reload() {
+		PendingChanges pending = beginLoad();
+		try {
+			SlotIndex loaded = SlotIndex.of(toSlots(timesRepository.findUpcomingSlots(LocalDateTime.now(), null)));
+
+			lock.writeLock().lock();
+			try {
+				pending.reservations().forEach(event -> loaded.applyReservationDelta(event.timeId(), event.seatDelta()));
+				index = loaded;
+			} finally {
+				lock.writeLock().unlock();
+			}
+
+			log.info("슬롯 인덱스 적재 완료: {}건", loaded.size());
+		} finally {
+			pendingLoads.remove(pending);
+		}
+
+		// 적재 중에 바뀐 클래스는 전체 조회 결과가 이전 상태일 수 있으므로 다시 조회
+		pending.classIds().forEach(this::replaceClass);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservationChanged(ReservationChangedEvent event) {
+		lock.readLock().lock();
+		try {
+			SlotIndex current = index;
+			if (current != null) {
+				current.applyReservationDelta(event.timeId(), event.seatDelta());
+			}
+			pendingLoads.forEach(pending -> pending.reservations().add(event));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClassChanged(ClassChangedEvent event) {
+		pendingLoads.forEach(pending -> pending.classIds().add(event.classId()));
+		replaceClass(event.classId());
+	}
+
+	private void replaceClass(Integer classId) {
+		PendingChanges pending = beginLoad();
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			List<SlotIndex.Slot> classSlots = toSlots(timesRepository.findUpcomingSlots(now, classId));
+
+			lock.writeLock().lock();
+			try {
+				SlotIndex current = index;
+				if (current != null) {
+					SlotIndex replaced = current.withClassReplaced(classId, classSlots, toEpochSecond(now));
+					// 다른 클래스 슬롯은 기존 인덱스의 예약 인원을 복사하므로 이 클래스의 변경만 다시 반영
+					pending.reservations().stream()
+							.filter(change -> classId.equals(change.classId()))
+							.forEach(change -> replaced.applyReservationDelta(change.timeId(), change.seatDelta()));
+					index = replaced;
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		} finally {
+			pendingLoads.remove(pending);
+		}
+	}
+
+	// 조회 전에 버퍼를 등록해 두면, 교체(쓰기 잠금) 전까지의 변경은 빠짐없이 버퍼에 남음
+	private PendingChanges beginLoad() {
+		PendingChanges pending = new PendingChanges(new ConcurrentLinkedQueue<>(), ConcurrentHashMap.newKeySet());
+		pendingLoads.add(pending);
+		return pending;
+	}
+
+	public static long toEpochSecond(LocalDateTime dateTime) {
+		return dateTime.atZone(ZONE).toEpochSecond();
+	}
+
+	public static LocalDateTime toLocalDateTime(long epochSecond) {
+		return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZONE);
+	}
+
+	private List<SlotIndex.Slot> toSlots(List<SessionSlotDto> rows) {
+		return rows.stream()
+				.map(row -> new SlotIndex.Slot(
+						row.timeId(),
+						row.classId(),
+						row.categoryId(),
+						row.category(),
+						toEpochSecond(row.startAt()),
+						toEpochSecond(row.endAt()),
+						row.capacity(),
+						row.reserved(),
+						row.price(),
+						regionOf(row.location())))
+				.toList();
+	}
+
+	// 주소의 첫 토큰(시/도)을 지역으로 사용 (예: "서울 강남구 ..." -> "서울")
+	private static String regionOf(String location) {
+		if (location == null || location.isBlank()) {
+			return UNKNOWN_REGION;
+		}
+		return location.strip().split("\\s+", 2)[0];
+	}
+
+	private record PendingChanges(Queue<ReservationChangedEvent> reservations, Set<Integer> classIds) {
+	}
+}
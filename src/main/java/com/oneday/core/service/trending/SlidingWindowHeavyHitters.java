@@ -0,0 +1,219 @@
+package com.oneday.core.service.trending;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬라이딩 윈도우 빈발 항목(heavy hitters) 추정기
+ * <p>
+ * 윈도우를 시간 버킷으로 나누고 버킷마다 count-min sketch를 두어 항목별 빈도를 추정합니다.
+ * 윈도우 빈도는 모든 버킷 추정치의 합이며, 가장 오래된 버킷을 비우는 방식으로 윈도우를 밀어냅니다.
+ * 상위 항목 후보는 추정치 기준 최소 힙(고정 크기 배열)으로 유지하고, 후보가 가득 차면 루트(추정치가 가장 낮은 후보)와만 비교해 교체합니다.
+ * 버킷이 밀려 추정치가 줄어드는 시점에만 전체 후보를 다시 추정해 힙을 재구성하고,
+ * 그 사이에는 추정치가 늘기만 하므로(해시 충돌 포함) 비교 직전에 루트만 다시 추정하면 됩니다.
+ * <p>
+ * 메모리 사용량은 (버킷 수 × 깊이 × 너비) 카운터와 후보 배열로 항목 수와 무관하게 고정됩니다.
+ * count-min sketch는 과대 추정만 하므로 순위는 실제 빈도와 거의 같고, 빈도는 실제보다 약간 클 수 있습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class SlidingWindowHeavyHitters {
+
+	private static final int DEPTH = 4;
+	private static final int[] SEEDS = {0x5BD1E995, 0x27D4EB2F, 0x165667B1, 0x9E3779B1};
+
+	private final int mask;
+	private final long bucketMillis;
+	private final int[][][] sketches;
+	private final LongSupplier clock;
+
+	private final int[] candidateIds;
+	private final long[] candidateCounts;
+	private int candidateSize;
+
+	private long currentBucket;
+
+	/**
+	 * @param bucketCount 윈도우를 구성하는 버킷 수
+	 * @param bucketMillis 버킷 하나의 길이 (밀리초)
+	 * @param width 스케치 너비 (2의 거듭제곱으로 올림)
+	 * @param candidateCapacity 추적할 상위 항목 후보 수
+	 * @param clock 현재 시각 (밀리초)
+	 */
+	public SlidingWindowHeavyHitters(int bucketCount, long bucketMillis, int width, int candidateCapacity,
+			LongSupplier clock) {
+		int tableWidth = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+		this.mask = tableWidth - 1;
+		this.bucketMillis = bucketMillis;
+		this.sketches = new int[bucketCount][DEPTH][tableWidth];
+		this.clock = clock;
+		this.candidateIds = new int[candidateCapacity];
+		this.candidateCounts = new long[candidateCapacity];
+		this.currentBucket = clock.getAsLong() / bucketMillis;
+	}
+
+	/**
+	 * 항목 발생 기록
+	 *
+	 * @param item 항목 ID
+	 */
+	public synchronized void record(int item) {
+		advance();
+
+		int[][] sketch = sketches[(int)(currentBucket % sketches.length)];
+		for (int row = 0; row < DEPTH; row++) {
+			sketch[row][index(item, row)]++;
+		}
+
+		offerCandidate(item, windowEstimate(item));
+	}
+
+	/**
+	 * 윈도우 내 빈도 상위 항목 조회
+	 *
+	 * @param limit 최대 결과 수
+	 * @return 빈도 내림차순 [항목 ID, 추정 빈도] 쌍 (빈도가 0인 항목 제외)
+	 */
+	public synchronized long[][] top(int limit) {
+		advance();
+
+		long[][] ranked = new long[candidateSize][];
+		int size = 0;
+		for (int i = 0; i < candidateSize; i++) {
+			long count = windowEstimate(candidateIds[i]);
+			candidateCounts[i] = count;
+			if (count > 0) {
+				ranked[size++] = new long[] {candidateIds[i], count};
+			}
+		}
+		heapify();
+
+		long[][] result = Arrays.copyOf(ranked, size);
+		Arrays.sort(result, (a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+		return result.length > limit ? Arrays.copyOf(result, limit) : result;
+	}
+
+	/**
+	 * 윈도우 내 항목 빈도 추정치
+	 */
+	public synchronized long estimate(int item) {
+		advance();
+		return windowEstimate(item);
+	}
+
+	private long windowEstimate(int item) {
+		long total = 0;
+		for (int[][] sketch : sketches) {
+			int min = Integer.MAX_VALUE;
+			for (int row = 0; row < DEPTH; row++) {
+				min = Math.min(min, sketch[row][index(item, row)]);
+			}
+			total += min;
+		}
+		return total;
+	}
+
+	// 현재 시각까지 지나간 버킷을 비움
+	private void advance() {
+		long bucket = clock.getAsLong() / bucketMillis;
+		if (bucket <= currentBucket) {
+			return;
+		}
+
+		long expired = Math.min(bucket - currentBucket, sketches.length);
+		for (long i = 1; i <= expired; i++) {
+			for (int[] row : sketches[(int)((currentBucket + i) % sketches.length)]) {
+				Arrays.fill(row, 0);
+			}
+		}
+		currentBucket = bucket;
+
+		// 비운 버킷만큼 추정치가 줄었으므로 후보 추정치를 다시 계산해 힙 재구성
+		for (int i = 0; i < candidateSize; i++) {
+			candidateCounts[i] = windowEstimate(candidateIds[i]);
+		}
+		heapify();
+	}
+
+	private void offerCandidate(int item, long count) {
+		for (int i = 0; i < candidateSize; i++) {
+			if (candidateIds[i] == item) {
+				candidateCounts[i] = count;
+				siftDown(i);
+				return;
+			}
+		}
+
+		if (candidateSize < candidateIds.length) {
+			candidateIds[candidateSize] = item;
+			candidateCounts[candidateSize] = count;
+			siftUp(candidateSize++);
+			return;
+		}
+
+		// 다른 항목 기록으로 루트 추정치가 늘었을 수 있으므로(해시 충돌) 루트가 바뀌지 않을 때까지 다시 추정
+		long rootCount = windowEstimate(candidateIds[0]);
+		while (rootCount != candidateCounts[0]) {
+			candidateCounts[0] = rootCount;
+			siftDown(0);
+			rootCount = windowEstimate(candidateIds[0]);
+		}
+
+		if (count > candidateCounts[0]) {
+			candidateIds[0] = item;
+			candidateCounts[0] = count;
+			siftDown(0);
+		}
+	}
+
+	private void heapify() {
+		for (int i = candidateSize / 2 - 1; i >= 0; i--) {
+			siftDown(i);
+		}
+	}
+
+	private void siftUp(int i) {
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (candidateCounts[parent] <= candidateCounts[i]) {
+				return;
+			}
+			swap(i, parent);
+			i = parent;
+		}
+	}
+
+	private void siftDown(int i) {
+		while (true) {
+			int smallest = i;
+			int left = 2 * i + 1;
+			int right = left + 1;
+			if (left < candidateSize && candidateCounts[left] < candidateCounts[smallest]) {
+				smallest = left;
+			}
+			if (right < candidateSize && candidateCounts[right] < candidateCounts[smallest]) {
+				smallest = right;
+			}
+			if (smallest == i) {
+				return;
+			}
+			swap(i, smallest);
+			i = smallest;
+		}
+	}
+
+	private void swap(int a, int b) {
+		int id = candidateIds[a];
+		candidateIds[a] = candidateIds[b];
+		candidateIds[b] = id;
+		long count = candidateCounts[a];
+		candidateCounts[a] = candidateCounts[b];
+		candidateCounts[b] = count;
+	}
+
+	private int index(int item, int row) {
+		int h = (item ^ SEEDS[row]) * 0x9E3779B9;
+		return (h ^ (h >>> 15)) & mask;
+	}
+}
@@ -0,0 +1,76 @@
+package com.oneday.core.service.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oneday.core.dto.classes.ClassListingResponse;
+import com.oneday.core.dto.classes.TrendingClassResponse;
+import com.oneday.core.event.ReservationChangedEvent;
+import com.oneday.core.service.listing.ClassListingService;
+
+/**
+ * 인기 급상승 클래스 서비스
+ * 최근 1시간 예약 생성 이벤트를 {@link SlidingWindowHeavyHitters}로 집계해 상위 클래스를 제공
+ * <p>
+ * reservations 테이블을 집계하지 않고 메모리에서만 계산하므로, 재시작 후에는 빈 상태에서 다시 쌓입니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+@Service
+public class TrendingService {
+
+	public static final int MAX_LIMIT = 100;
+
+	// 5분 버킷 12개 = 1시간 윈도우
+	private static final int BUCKET_COUNT = 12;
+	private static final long BUCKET_MILLIS = 5 * 60 * 1000L;
+	private static final int SKETCH_WIDTH = 4096;
+	private static final int CANDIDATE_CAPACITY = MAX_LIMIT * 2;
+
+	private final ClassListingService classListingService;
+	private final SlidingWindowHeavyHitters heavyHitters;
+
+	public TrendingService(ClassListingService classListingService) {
+		this.classListingService = classListingService;
+		this.heavyHitters = new SlidingWindowHeavyHitters(
+				BUCKET_COUNT, BUCKET_MILLIS, SKETCH_WIDTH, CANDIDATE_CAPACITY, System::currentTimeMillis);
+	}
+
+	/**
+	 * 예약 생성 시 해당 클래스 빈도 증가 (취소는 반영하지 않음)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservationChanged(ReservationChangedEvent event) {
+		if (event.seatDelta() > 0) {
+			heavyHitters.record(event.classId());
+		}
+	}
+
+	/**
+	 * 최근 예약이 많은 클래스 조회
+	 *
+	 * @param limit 최대 결과 수 (1 ~ {@value #MAX_LIMIT})
+	 * @return 최근 예약 수 내림차순 클래스 목록
+	 */
+	public List<TrendingClassResponse> getTrendingClasses(int limit) {
+		long[][] top = heavyHitters.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+		Map<Integer, ClassListingResponse> listings = classListingService.getListingsByIds(
+				Arrays.stream(top).map(entry -> (int)entry[0]).toList());
+
+		List<TrendingClassResponse> trending = new ArrayList<>(top.length);
+		for (long[] entry : top) {
+			ClassListingResponse listing = listings.get((int)entry[0]);
+			// 집계 이후 삭제된 클래스는 제외
+			if (listing != null) {
+				trending.add(TrendingClassResponse.of(listing, entry[1]));
+			}
+		}
+		return trending;
+	}
+}
@@ -0,0 +1,82 @@
+package com.oneday.core.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터
+ * 포함하지 않은 값은 거의 항상 false를 돌려주고(거짓 양성률 지정), 포함한 값은 항상 true를 돌려줌
+ * <p>
+ * 비트 배열은 {@link AtomicLongArray}이므로 여러 스레드가 잠금 없이 조회할 수 있고,
+ * 추가된 값은 추가가 끝난 직후부터 모든 스레드에서 보입니다.
+ * 해시는 64비트 FNV-1a 값을 둘로 나누어 k개의 위치를 만듭니다 (Kirsch–Mitzenmacher).
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class BloomFilter {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 예상 추가 개수
+	 * @param falsePositiveRate 목표 거짓 양성률 (0 초과 1 미만)
+	 */
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("expectedInsertions는 양수, falsePositiveRate는 (0, 1) 범위여야 합니다.");
+		}
+
+		long bits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int)Math.max(1, (bits + 63) / 64);
+		this.words = new AtomicLongArray(wordCount);
+		this.bitCount = (long)wordCount * 64;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitCount / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash = fnv1a(value);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = index(h1 + i * h2);
+			int word = (int)(bit >>> 6);
+			long mask = 1L << bit;
+			if ((words.get(word) & mask) == 0) {
+				words.getAndAccumulate(word, mask, (current, added) -> current | added);
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = fnv1a(value);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = index(h1 + i * h2);
+			if ((words.get((int)(bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long index(int combined) {
+		return (combined & 0x7fffffffL) % bitCount;
+	}
+
+	private static long fnv1a(String value) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,108 @@
+package com.oneday.core.util;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * 완성형 음절을 초성/중성/종성 호환 자모로 분해하고, 겹모음과 겹받침은 입력 순서대로 나눔
+ * <p>
+ * 입력 중인 글자(예: "갑" 입력 도중의 "가", "ㄱ")도 접두사로 일치하도록 검색 키를 만들 때 사용합니다.
+ * 예) "과자" -> "ㄱㅗㅏㅈㅏ", "닭" -> "ㄷㅏㄹㄱ"
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final char COMPAT_JAMO_BASE = 0x3131;
+	private static final char COMPAT_JAMO_LAST = 0x318E;
+
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+	private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+	private static final String JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+	// 호환 자모 -> 입력 순서 분해 (겹모음, 겹받침)
+	private static final String[] COMPOUND = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_BASE + 1];
+
+	static {
+		compound('ㄳ', "ㄱㅅ");
+		compound('ㄵ', "ㄴㅈ");
+		compound('ㄶ', "ㄴㅎ");
+		compound('ㄺ', "ㄹㄱ");
+		compound('ㄻ', "ㄹㅁ");
+		compound('ㄼ', "ㄹㅂ");
+		compound('ㄽ', "ㄹㅅ");
+		compound('ㄾ', "ㄹㅌ");
+		compound('ㄿ', "ㄹㅍ");
+		compound('ㅀ', "ㄹㅎ");
+		compound('ㅄ', "ㅂㅅ");
+		compound('ㅘ', "ㅗㅏ");
+		compound('ㅙ', "ㅗㅐ");
+		compound('ㅚ', "ㅗㅣ");
+		compound('ㅝ', "ㅜㅓ");
+		compound('ㅞ', "ㅜㅔ");
+		compound('ㅟ', "ㅜㅣ");
+		compound('ㅢ', "ㅡㅣ");
+	}
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 검색 키로 정규화
+	 * 한글은 자모로 분해하고, 영문은 소문자로 바꾸고, 연속 공백은 공백 하나로 줄임
+	 *
+	 * @param text 원문
+	 * @return 정규화된 키 (앞뒤 공백 제거)
+	 */
+	public static String toSearchKey(CharSequence text) {
+		StringBuilder key = new StringBuilder(text.length() * 3);
+		boolean pendingSpace = false;
+
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+
+			if (Character.isWhitespace(c)) {
+				pendingSpace = key.length() > 0;
+				continue;
+			}
+
+			if (pendingSpace) {
+				key.append(' ');
+				pendingSpace = false;
+			}
+
+			if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+				int offset = c - SYLLABLE_BASE;
+				int jong = offset % JONG_COUNT;
+				appendJamo(key, CHO.charAt(offset / (JUNG_COUNT * JONG_COUNT)));
+				appendJamo(key, JUNG.charAt((offset / JONG_COUNT) % JUNG_COUNT));
+				if (jong != 0) {
+					appendJamo(key, JONG.charAt(jong));
+				}
+			} else if (c >= COMPAT_JAMO_BASE && c <= COMPAT_JAMO_LAST) {
+				appendJamo(key, c);
+			} else {
+				key.append(Character.toLowerCase(c));
+			}
+		}
+
+		return key.toString();
+	}
+
+	private static void appendJamo(StringBuilder key, char jamo) {
+		String split = COMPOUND[jamo - COMPAT_JAMO_BASE];
+		if (split != null) {
+			key.append(split);
+		} else {
+			key.append(jamo);
+		}
+	}
+
+	private static void compound(char jamo, String split) {
+		COMPOUND[jamo - COMPAT_JAMO_BASE] = split;
+	}
+}
@@ -0,0 +1,137 @@
+package com.oneday.core.util;
+
+import java.util.Arrays;
+
+/**
+ * int → int 오픈 어드레싱 해시맵
+ * 메모리 인덱스에서 Integer 박싱 없이 ID를 조회하기 위해 사용
+ * <p>
+ * 키로 {@link Integer#MIN_VALUE}는 사용할 수 없으며(빈 슬롯 표시), 삭제는 지원하지 않습니다.
+ * 스레드 안전하지 않으므로 생성 후 불변으로 공유하거나 외부에서 동기화해야 합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class IntIntHashMap {
+
+	private static final int EMPTY_KEY = Integer.MIN_VALUE;
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int size;
+
+	public IntIntHashMap(int expectedSize) {
+		allocate(tableSizeFor(Math.max(4, expectedSize * 2)));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 값 조회
+	 *
+	 * @param key 키
+	 * @param defaultValue 키가 없을 때 반환할 값
+	 * @return 저장된 값 또는 defaultValue
+	 */
+	public int get(int key, int defaultValue) {
+		int slot = findSlot(keys, mask, key);
+		return keys[slot] == key ? values[slot] : defaultValue;
+	}
+
+	public void put(int key, int value) {
+		checkKey(key);
+		int slot = findSlot(keys, mask, key);
+		if (keys[slot] != key) {
+			keys[slot] = key;
+			size++;
+		}
+		values[slot] = value;
+		ensureCapacity();
+	}
+
+	/**
+	 * 값에 delta를 더함 (키가 없으면 0에서 시작)
+	 *
+	 * @return 더한 뒤의 값
+	 */
+	public int addTo(int key, int delta) {
+		checkKey(key);
+		int slot = findSlot(keys, mask, key);
+		if (keys[slot] != key) {
+			keys[slot] = key;
+			values[slot] = 0;
+			size++;
+		}
+		int updated = values[slot] + delta;
+		values[slot] = updated;
+		ensureCapacity();
+		return updated;
+	}
+
+	public void forEach(EntryConsumer consumer) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY_KEY) {
+				consumer.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * 박싱 없이 키/값을 전달받는 콜백
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(int key, int value);
+	}
+
+	private void ensureCapacity() {
+		if (size * 2 <= keys.length) {
+			return;
+		}
+
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(keys.length * 2);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY_KEY) {
+				int slot = findSlot(keys, mask, oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		Arrays.fill(keys, EMPTY_KEY);
+		values = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	private static int findSlot(int[] keys, int mask, int key) {
+		int slot = mix(key) & mask;
+		while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private static int mix(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static int tableSizeFor(int capacity) {
+		return Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	private static void checkKey(int key) {
+		if (key == EMPTY_KEY) {
+			throw new IllegalArgumentException("Integer.MIN_VALUE는 키로 사용할 수 없습니다.");
+		}
+	}
+}
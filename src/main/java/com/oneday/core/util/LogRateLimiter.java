@@ -0,0 +1,56 @@
+package com.oneday.core.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 로그 줄 수 제한기
+ * <p>
+ * 같은 종류의 로그를 1초에 permitsPerSecond줄까지만 허용하고 나머지는 개수만 셉니다.
+ * 허용된 줄에는 직전 허용 이후 생략된 줄 수를 함께 돌려주므로, 공격이나 장애로 같은 경고가 폭주해도
+ * 로그 비용은 요청 수가 아니라 초 단위로 제한되고 발생 규모는 잃지 않습니다.
+ * 잠금 없이 동작하며, 초가 바뀌는 순간에는 허용 수가 조금 넘칠 수 있습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class LogRateLimiter {
+
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final int permitsPerSecond;
+	private final LongSupplier clock;
+	private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+	private final AtomicInteger permitted = new AtomicInteger();
+	private final AtomicLong suppressed = new AtomicLong();
+
+	public LogRateLimiter(int permitsPerSecond) {
+		this(permitsPerSecond, System::nanoTime);
+	}
+
+	LogRateLimiter(int permitsPerSecond, LongSupplier clock) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.clock = clock;
+	}
+
+	/**
+	 * 로그 한 줄 허용 여부 확인
+	 *
+	 * @return 허용되면 직전 허용 이후 생략된 줄 수 (0 이상), 생략해야 하면 -1
+	 */
+	public long tryAcquire() {
+		long now = Math.floorDiv(clock.getAsLong(), WINDOW_NANOS);
+		long current = window.get();
+		if (now != current && window.compareAndSet(current, now)) {
+			permitted.set(0);
+		}
+
+		if (permitted.incrementAndGet() <= permitsPerSecond) {
+			return suppressed.getAndSet(0);
+		}
+		suppressed.incrementAndGet();
+		return -1;
+	}
+}
@@ -0,0 +1,102 @@
+package com.oneday.core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 크기가 고정된 다중 생산자/단일 소비자 링 버퍼
+ * <p>
+ * 칸마다 시퀀스 번호를 두고 생산자는 쓰기 위치를 CAS로 예약하므로 잠금 없이 동작합니다 (Vyukov 방식).
+ * 가득 차면 기다리지 않고 {@link #offer}가 false를 돌려주므로, 넘친 값의 처리는 호출자가 정합니다.
+ * {@link #drain}은 한 스레드에서만 호출해야 합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class RingBuffer<T> {
+
+	private final int mask;
+	private final AtomicReferenceArray<T> slots;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * @param capacity 최대 보관 개수 (2의 거듭제곱으로 올림)
+	 */
+	public RingBuffer(int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("capacity는 1 이상 2^30 이하여야 합니다.");
+		}
+
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.mask = size - 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 값 추가
+	 *
+	 * @return 추가되면 true, 가득 찼으면 false
+	 */
+	public boolean offer(T value) {
+		while (true) {
+			long position = tail.get();
+			int index = (int)(position & mask);
+			long difference = sequences.get(index) - position;
+
+			if (difference < 0) {
+				return false;
+			}
+			if (difference == 0 && tail.compareAndSet(position, position + 1)) {
+				slots.set(index, value);
+				sequences.set(index, position + 1);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 최대 maxElements개를 꺼내 consumer에 전달
+	 *
+	 * @return 꺼낸 개수
+	 */
+	public int drain(Consumer<? super T> consumer, int maxElements) {
+		long position = head.get();
+		int drained = 0;
+
+		while (drained < maxElements) {
+			int index = (int)(position & mask);
+			// 쓰기 위치만 예약하고 아직 값을 쓰지 않은 칸에서 멈춤
+			if (sequences.get(index) != position + 1) {
+				break;
+			}
+
+			T value = slots.get(index);
+			slots.set(index, null);
+			sequences.set(index, position + mask + 1);
+			position++;
+			head.set(position);
+			consumer.accept(value);
+			drained++;
+		}
+		return drained;
+	}
+
+	public int size() {
+		return (int)Math.max(0, tail.get() - head.get());
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,81 @@
+package com.oneday.core.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 키별 토큰 버킷 요청 제한기
+ * <p>
+ * 버킷마다 "다음 토큰이 채워지는 이론상 시각" 하나만 {@link AtomicLong}에 두고 CAS로 갱신하는 GCRA 방식이므로,
+ * 잠금 없이 동작하고 키당 메모리는 long 하나입니다. 용량(capacity)만큼 연속 요청을 허용하고,
+ * 이후에는 refillPeriod / capacity 마다 토큰 하나가 채워집니다.
+ * <p>
+ * refillPeriod 동안 요청이 없던 키는 버킷이 가득 찬 상태와 같으므로 그 시간이 지나면 제거하고,
+ * 키 수는 maximumKeys로 제한합니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class TokenBucketRateLimiter {
+
+	private final long emissionIntervalNanos;
+	private final long burstNanos;
+	private final LongSupplier clock;
+	private final Cache<String, AtomicLong> buckets;
+
+	/**
+	 * @param capacity 연속으로 허용하는 최대 요청 수
+	 * @param refillPeriod 빈 버킷이 가득 차는 데 걸리는 시간
+	 * @param maximumKeys 유지하는 최대 키 수
+	 */
+	public TokenBucketRateLimiter(int capacity, Duration refillPeriod, long maximumKeys) {
+		this(capacity, refillPeriod, maximumKeys, System::nanoTime);
+	}
+
+	TokenBucketRateLimiter(int capacity, Duration refillPeriod, long maximumKeys, LongSupplier clock) {
+		if (capacity <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+			throw new IllegalArgumentException("capacity와 refillPeriod는 양수여야 합니다.");
+		}
+
+		this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+		this.burstNanos = emissionIntervalNanos * capacity;
+		this.clock = clock;
+		this.buckets = Caffeine.newBuilder()
+				.expireAfterAccess(refillPeriod.toNanos(), TimeUnit.NANOSECONDS)
+				.maximumSize(maximumKeys)
+				.build();
+	}
+
+	/**
+	 * 토큰 하나 사용
+	 *
+	 * @param key 제한 대상 키
+	 * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+	 */
+	public long tryAcquire(String key) {
+		AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+		while (true) {
+			long now = clock.getAsLong();
+			long current = theoreticalArrival.get();
+			long next = Math.max(current == Long.MIN_VALUE ? now : current, now) + emissionIntervalNanos;
+			long retryAfter = next - now - burstNanos;
+
+			if (retryAfter > 0) {
+				return retryAfter;
+			}
+			if (theoreticalArrival.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	public long size() {
+		return buckets.estimatedSize();
+	}
+}
@@ -0,0 +1,42 @@
+package com.oneday.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 다이제스트 유틸리티
+ * 토큰 원문 대신 저장/비교/캐시 키로 쓰는 SHA-256 다이제스트(32바이트)를 계산
+ * <p>
+ * MySQL의 {@code UNHEX(SHA2(token, 256))}과 같은 값이므로 기존 데이터 이관에도 사용할 수 있습니다.
+ *
+ * @author zionge2k
+ * @since 2026-10-18
+ */
+public final class TokenDigest {
+
+	/** 다이제스트 길이 (바이트, refresh_tokens.token_hash 컬럼 크기) */
+	public static final int LENGTH = 32;
+
+	// MessageDigest는 스레드 안전하지 않으므로 스레드마다 재사용
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	});
+
+	private TokenDigest() {
+	}
+
+	/**
+	 * 토큰의 SHA-256 다이제스트
+	 *
+	 * @param token 토큰 원문
+	 * @return 32바이트 다이제스트
+	 */
+	public static byte[] sha256(String token) {
+		return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+	}
+}
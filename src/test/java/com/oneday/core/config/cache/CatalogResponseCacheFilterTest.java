@@ -0,0 +1,139 @@
+package com.oneday.core.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.oneday.core.event.ClassChangedEvent;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * 카탈로그 응답 캐시 필터 테스트
+ */
+@DisplayName("카탈로그 응답 캐시 필터 테스트")
+class CatalogResponseCacheFilterTest {
+
+	private static final String BODY = "{\"success\":true,\"data\":[" + "{\"classId\":1},".repeat(200)
+			+ "{\"classId\":2}],\"error\":null}";
+
+	private EncodedResponseCache encodedResponseCache;
+	private CatalogResponseCacheFilter filter;
+	private AtomicInteger controllerCalls;
+	private FilterChain controllerChain;
+
+	@BeforeEach
+	void setUp() {
+		encodedResponseCache = new EncodedResponseCache(new CatalogCacheProperties());
+		filter = new CatalogResponseCacheFilter(encodedResponseCache);
+		controllerCalls = new AtomicInteger();
+		controllerChain = (request, response) -> {
+			controllerCalls.incrementAndGet();
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+		};
+	}
+
+	@Test
+	@DisplayName("두 번째 요청은 컨트롤러를 거치지 않고 캐시된 본문 반환")
+	void secondRequestServedFromCache() throws ServletException, IOException {
+		// Given
+		MockHttpServletResponse first = perform(get("/api/classes"));
+
+		// When
+		MockHttpServletResponse second = perform(get("/api/classes"));
+
+		// Then
+		assertThat(controllerCalls.get()).isEqualTo(1);
+		assertThat(first.getContentAsString()).isEqualTo(BODY);
+		assertThat(second.getContentAsString()).isEqualTo(BODY);
+		assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+	}
+
+	@Test
+	@DisplayName("If-None-Match가 ETag와 일치하면 304 반환")
+	void notModifiedWhenEtagMatches() throws ServletException, IOException {
+		// Given
+		String etag = perform(get("/api/classes")).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = get("/api/classes");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+		// When
+		MockHttpServletResponse response = perform(request);
+
+		// Then
+		assertThat(response.getStatus()).isEqualTo(304);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("gzip을 허용하면 압축 본문과 별도 ETag 반환")
+	void gzipVariantWhenAccepted() throws ServletException, IOException {
+		// Given
+		String identityEtag = perform(get("/api/classes")).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = get("/api/classes");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+		// When
+		MockHttpServletResponse response = perform(request);
+
+		// Then
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(identityEtag);
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+		}
+	}
+
+	@Test
+	@DisplayName("클래스 변경 이벤트 후에는 다시 컨트롤러 호출")
+	void invalidatedByClassChangedEvent() throws ServletException, IOException {
+		// Given
+		perform(get("/api/classes/1"));
+		perform(get("/api/classes/2"));
+
+		// When
+		encodedResponseCache.onClassChanged(new ClassChangedEvent(1));
+		perform(get("/api/classes/1"));
+		perform(get("/api/classes/2"));
+
+		// Then: 변경된 클래스만 다시 생성
+		assertThat(controllerCalls.get()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("카탈로그 경로가 아니면 캐시하지 않음")
+	void ignoreNonCatalogPath() throws ServletException, IOException {
+		// When
+		perform(get("/api/classes/1/reviews"));
+		perform(get("/api/classes/1/reviews"));
+
+		// Then
+		assertThat(controllerCalls.get()).isEqualTo(2);
+	}
+
+	private MockHttpServletRequest get(String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setRequestURI(uri);
+		return request;
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequest request) throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, controllerChain);
+		return response;
+	}
+}
@@ -0,0 +1,80 @@
+package com.oneday.core.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.oneday.core.event.ClassChangedEvent;
+
+/**
+ * 직렬화된 카탈로그 응답 캐시 테스트
+ */
+@DisplayName("직렬화 응답 캐시 테스트")
+class EncodedResponseCacheTest {
+
+	private static final String KEY = EncodedResponseCache.CATALOG_PATH;
+	private static final byte[] BODY = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+
+	private EncodedResponseCache encodedResponseCache;
+
+	@BeforeEach
+	void setUp() {
+		encodedResponseCache = new EncodedResponseCache(new CatalogCacheProperties());
+	}
+
+	@Test
+	@DisplayName("무효화 이전 세대로 만든 응답은 저장하지 않음")
+	void putWithStaleGenerationIsDiscarded() {
+		// Given
+		long generation = encodedResponseCache.currentGeneration();
+		encodedResponseCache.onClassChanged(new ClassChangedEvent(1));
+
+		// When
+		EncodedResponse encoded = encodedResponseCache.put(KEY, BODY, generation);
+
+		// Then
+		assertThat(encoded).isNotNull();
+		assertThat(encodedResponseCache.get(KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("저장과 무효화가 동시에 실행되어도 이전 세대 응답이 남지 않음")
+	void concurrentPutAndInvalidationNeverLeavesStaleEntry() throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			// Given - 무효화 전에 세대를 읽은 요청
+			long generation = encodedResponseCache.currentGeneration();
+			CountDownLatch start = new CountDownLatch(1);
+			Thread writer = new Thread(() -> {
+				await(start);
+				encodedResponseCache.put(KEY, BODY, generation);
+			});
+			Thread invalidator = new Thread(() -> {
+				await(start);
+				encodedResponseCache.onClassChanged(new ClassChangedEvent(1));
+			});
+			writer.start();
+			invalidator.start();
+
+			// When
+			start.countDown();
+			writer.join();
+			invalidator.join();
+
+			// Then - 저장이 먼저면 무효화가 지우고, 무효화가 먼저면 저장되지 않아야 함
+			assertThat(encodedResponseCache.get(KEY)).isNull();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.oneday.core.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 폐기된 Access Token 목록 테스트
+ */
+@DisplayName("폐기된 Access Token 목록 테스트")
+class AccessTokenRevocationListTest {
+
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRevocationExpectedInsertions(100);
+        revocationList = new AccessTokenRevocationList(jwtProperties);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단한다")
+    void isRevoked_OnlyRevokedTokens() {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        revocationList.revoke("revoked", expiresAt);
+
+        // when & then
+        assertThat(revocationList.isRevoked("revoked")).isTrue();
+        assertThat(revocationList.isRevoked("other")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 항목 수를 넘어도 거짓 음성 없이 모두 폐기된 것으로 판단한다")
+    void isRevoked_BeyondExpectedInsertions() {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        String[] tokenIds = new String[1_000];
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenIds[i] = UUID.randomUUID().toString();
+            revocationList.revoke(tokenIds[i], expiresAt);
+        }
+
+        // when & then
+        assertThat(tokenIds).allMatch(revocationList::isRevoked);
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    @DisplayName("대상 토큰이 만료된 항목은 정리되고, 이미 만료된 토큰은 추가하지 않는다")
+    void expire_RemovesExpiredEntries() {
+        // given
+        Instant now = Instant.now();
+        revocationList.revoke("short", now.plusSeconds(60));
+        revocationList.revoke("long", now.plusSeconds(3600));
+        revocationList.revoke("expired", now.minusSeconds(1));
+
+        // when
+        int removed = revocationList.expire(now.plusSeconds(120));
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(revocationList.isRevoked("short")).isFalse();
+        assertThat(revocationList.isRevoked("long")).isTrue();
+        assertThat(revocationList.isRevoked("expired")).isFalse();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+}
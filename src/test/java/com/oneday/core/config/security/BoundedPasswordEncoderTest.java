@@ -0,0 +1,118 @@
+package com.oneday.core.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 크기가 제한된 비밀번호 해시 작업 풀 테스트
+ */
+@DisplayName("크기가 제한된 비밀번호 해시 작업 풀 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 풀에서 해시/검증을 실행하고 실행 시간을 기록한다")
+    void encodeAndMatches() {
+        // given
+        encoder = new BoundedPasswordEncoder(new ReversingEncoder(null), properties(1, 1, 5), meterRegistry);
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertThat(encoded).isEqualTo("drowssap");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차면 기다리지 않고 503으로 거절한다")
+    void rejectWhenSaturated() throws InterruptedException {
+        // given - 스레드 1개, 대기열 1개를 모두 점유
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new ReversingEncoder(started), properties(1, 1, 5), meterRegistry);
+        callers.submit(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> encoder.encode("second"));
+        waitForQueued(1);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("third", "driht"))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.AUTH_BUSY);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("auth.password.hash.queue").gauge().value() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private PasswordHashingProperties properties(int threads, int queueCapacity, long timeoutSeconds) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(Duration.ofSeconds(timeoutSeconds));
+        return properties;
+    }
+
+    /**
+     * 문자열을 뒤집는 테스트용 인코더 (started가 있으면 해제될 때까지 대기)
+     */
+    private class ReversingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+
+        ReversingEncoder(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (started != null) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -5,7 +5,11 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,10 +23,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.oneday.core.exception.auth.ExpiredTokenException;
 import com.oneday.core.exception.auth.InvalidTokenException;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 
@@ -44,12 +52,19 @@ class JwtAuthenticationFilterTest {
 
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private SimpleMeterRegistry meterRegistry;
+    private AccessTokenRevocationList accessTokenRevocationList;
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
 
     @BeforeEach
     void setUp() {
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider);
+        meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache verifiedTokenCache =
+            new VerifiedTokenCache(jwtTokenProvider, new JwtProperties(), meterRegistry);
+        accessTokenRevocationList = new AccessTokenRevocationList(new JwtProperties());
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(verifiedTokenCache, accessTokenRevocationList,
+            new AuthEvents(meterRegistry));
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         SecurityContextHolder.clearContext();
@@ -70,15 +85,16 @@ class JwtAuthenticationFilterTest {
             .authorities(Collections.emptyList())
             .build();
 
-        org.springframework.security.core.Authentication authentication =
+        org.springframework.security.authentication.UsernamePasswordAuthenticationToken authentication =
             new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
                 userDetails,
                 null,
                 userDetails.getAuthorities()
             );
+        authentication.setDetails(new AccessTokenDetails("token-id", Instant.now().plusSeconds(3600)));
 
-        given(jwtTokenProvider.getAuthentication(token)).willReturn(authentication);
-        doNothing().when(jwtTokenProvider).validateTokenWithException(token);
+        given(jwtTokenProvider.verify(token))
+            .willReturn(new VerifiedToken(authentication, Instant.now().plusSeconds(3600)));
 
         // When
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -89,8 +105,9 @@ class JwtAuthenticationFilterTest {
         assertThat(auth.getName()).isEqualTo(email);
         assertThat(auth.isAuthenticated()).isTrue();
 
-        verify(jwtTokenProvider).validateTokenWithException(token);
-        verify(jwtTokenProvider).getAuthentication(token);
+        verify(jwtTokenProvider, times(1)).verify(token);
+        verify(jwtTokenProvider, never()).validateTokenWithException(anyString());
+        verify(jwtTokenProvider, never()).getAuthentication(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -107,7 +124,7 @@ class JwtAuthenticationFilterTest {
         assertThat(auth).isNull();
 
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenProvider, never()).validateTokenWithException(anyString());
+        verify(jwtTokenProvider, never()).verify(anyString());
     }
 
     @Test
@@ -118,7 +135,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + expiredToken);
 
         doThrow(new ExpiredTokenException("만료된 토큰입니다."))
-            .when(jwtTokenProvider).validateTokenWithException(expiredToken);
+            .when(jwtTokenProvider).verify(expiredToken);
 
         // When
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -127,8 +144,7 @@ class JwtAuthenticationFilterTest {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertThat(auth).isNull();
 
-        verify(jwtTokenProvider).validateTokenWithException(expiredToken);
-        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verify(jwtTokenProvider).verify(expiredToken);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -140,7 +156,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + invalidToken);
 
         doThrow(new InvalidTokenException("유효하지 않은 토큰입니다."))
-            .when(jwtTokenProvider).validateTokenWithException(invalidToken);
+            .when(jwtTokenProvider).verify(invalidToken);
 
         // When
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -149,8 +165,7 @@ class JwtAuthenticationFilterTest {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertThat(auth).isNull();
 
-        verify(jwtTokenProvider).validateTokenWithException(invalidToken);
-        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verify(jwtTokenProvider).verify(invalidToken);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -164,7 +179,7 @@ class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         // Then
-        verify(jwtTokenProvider, never()).validateTokenWithException(anyString());
+        verify(jwtTokenProvider, never()).verify(anyString());
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertThat(auth).isNull();
@@ -182,12 +197,145 @@ class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         // Then
-        verify(jwtTokenProvider, never()).validateTokenWithException(anyString());
+        verify(jwtTokenProvider, never()).verify(anyString());
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertThat(auth).isNull();
 
         verify(filterChain).doFilter(request, response);
     }
-}
 
+    @Test
+    @DisplayName("같은_토큰은_한_번만_검증")
+    void reuseVerifiedToken() throws ServletException, IOException {
+        // Given
+        String token = "valid-jwt-token";
+        given(jwtTokenProvider.verify(token))
+            .willReturn(new VerifiedToken(authentication("test@example.com"), Instant.now().plusSeconds(3600)));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            MockHttpServletRequest repeated = new MockHttpServletRequest();
+            repeated.addHeader("Authorization", "Bearer " + token);
+            jwtAuthenticationFilter.doFilter(repeated, new MockHttpServletResponse(), filterChain);
+        }
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("test@example.com");
+        verify(jwtTokenProvider, times(1)).verify(token);
+        assertThat(meterRegistry.get("jwt.authentication").tag("result", "hit").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("jwt.authentication").tag("result", "miss").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료_시각이_지난_검증_결과는_캐시하지_않음")
+    void doNotCacheExpiredToken() throws ServletException, IOException {
+        // Given
+        String token = "almost-expired-jwt-token";
+        given(jwtTokenProvider.verify(token))
+            .willReturn(new VerifiedToken(authentication("test@example.com"), Instant.now().minusMillis(1)));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest repeated = new MockHttpServletRequest();
+            repeated.addHeader("Authorization", "Bearer " + token);
+            jwtAuthenticationFilter.doFilter(repeated, new MockHttpServletResponse(), filterChain);
+        }
+
+        // Then
+        verify(jwtTokenProvider, times(2)).verify(token);
+    }
+
+    @Test
+    @DisplayName("폐기된_토큰은_캐시에_있어도_인증_실패")
+    void failAuthenticationWithRevokedToken() throws ServletException, IOException {
+        // Given
+        String token = "revoked-jwt-token";
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        Authentication authentication = authentication("test@example.com");
+        ((org.springframework.security.authentication.UsernamePasswordAuthenticationToken)authentication)
+            .setDetails(new AccessTokenDetails("token-id", expiresAt));
+        given(jwtTokenProvider.verify(token)).willReturn(new VerifiedToken(authentication, expiresAt));
+
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+
+        // When
+        accessTokenRevocationList.revoke("token-id", expiresAt);
+        MockHttpServletRequest repeated = new MockHttpServletRequest();
+        repeated.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(repeated, new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtTokenProvider, times(1)).verify(token);
+        verify(filterChain, times(2)).doFilter(any(), any());
+        assertThat(meterRegistry.get("auth.token.rejected").tag("reason", "revoked").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Refresh_Token이나_jti_없는_토큰은_서명이_유효해도_인증하지_않음")
+    void doNotAuthenticateNonAccessToken() throws ServletException, IOException {
+        // Given - 실제 서명 키로 발급한 Refresh Token과 jti 없는 토큰
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key-that-is-at-least-32-bytes-long-for-hs256");
+        jwtProperties.setAccessTokenExpiration(3600000L);
+        jwtProperties.setRefreshTokenExpiration(604800000L);
+        AuthEvents authEvents = new AuthEvents(meterRegistry);
+        JwtTokenProvider realProvider = new JwtTokenProvider(jwtProperties, authEvents);
+        JwtAuthenticationFilter realFilter = new JwtAuthenticationFilter(
+            new VerifiedTokenCache(realProvider, jwtProperties, meterRegistry),
+            accessTokenRevocationList,
+            authEvents);
+
+        com.oneday.core.entity.User user = com.oneday.core.entity.User.builder()
+            .email("test@example.com")
+            .password("password")
+            .name("홍길동")
+            .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        String refreshToken = realProvider.generateRefreshToken(user);
+        String tokenWithoutJti = Jwts.builder()
+            .setSubject("test@example.com")
+            .claim(JwtTokenProvider.TOKEN_TYPE_CLAIM, JwtTokenProvider.ACCESS_TOKEN_TYPE)
+            .claim("userId", 1L)
+            .setExpiration(Date.from(Instant.now().plusSeconds(3600)))
+            .signWith(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        // When & Then
+        for (String token : new String[] {refreshToken, tokenWithoutJti}) {
+            SecurityContextHolder.clearContext();
+            MockHttpServletRequest bearer = new MockHttpServletRequest();
+            bearer.addHeader("Authorization", "Bearer " + token);
+            realFilter.doFilter(bearer, new MockHttpServletResponse(), filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+        verify(filterChain, times(2)).doFilter(any(), any());
+        assertThat(meterRegistry.get("auth.token.rejected").tag("reason", "not_access_token").counter().count())
+            .isEqualTo(2);
+    }
+
+    private Authentication authentication(String email) {
+        UserDetails userDetails = User.builder()
+            .username(email)
+            .password("password")
+            .authorities(Collections.emptyList())
+            .build();
+
+        org.springframework.security.authentication.UsernamePasswordAuthenticationToken authentication =
+            new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+            );
+        authentication.setDetails(new AccessTokenDetails(UUID.randomUUID().toString(),
+            Instant.now().plusSeconds(3600)));
+        return authentication;
+    }
+}
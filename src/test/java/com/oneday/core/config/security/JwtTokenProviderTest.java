@@ -2,6 +2,11 @@ package com.oneday.core.config.security;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,10 +14,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.oneday.core.entity.Role;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
 import com.oneday.core.exception.auth.ExpiredTokenException;
 import com.oneday.core.exception.auth.InvalidTokenException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * JwtTokenProvider 테스트
  */
@@ -21,6 +32,8 @@ class JwtTokenProviderTest {
     private JwtTokenProvider jwtTokenProvider;
     private JwtProperties jwtProperties;
     private UserDetails userDetails;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthEvents authEvents;
 
     @BeforeEach
     void setUp() {
@@ -30,7 +43,9 @@ class JwtTokenProviderTest {
         jwtProperties.setAccessTokenExpiration(3600000L); // 1시간
         jwtProperties.setRefreshTokenExpiration(604800000L); // 7일
 
-        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        authEvents = new AuthEvents(meterRegistry);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, authEvents);
 
         // 테스트용 사용자 정보
         userDetails = User.builder()
@@ -103,7 +118,7 @@ class JwtTokenProviderTest {
     void validateToken_ExpiredToken() throws InterruptedException {
         // given - 만료 시간 1ms로 설정
         jwtProperties.setAccessTokenExpiration(1L);
-        JwtTokenProvider expiredProvider = new JwtTokenProvider(jwtProperties);
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(jwtProperties, authEvents);
         String token = expiredProvider.generateAccessToken(userDetails);
 
         // 토큰 만료 대기
@@ -113,6 +128,8 @@ class JwtTokenProviderTest {
         assertThatThrownBy(() -> expiredProvider.validateTokenWithException(token))
             .isInstanceOf(ExpiredTokenException.class)
             .hasMessageContaining("만료된 토큰");
+        assertThat(meterRegistry.get("auth.token.rejected").tag("reason", "expired").counter().count())
+            .isEqualTo(1);
     }
 
     @Test
@@ -132,6 +149,89 @@ class JwtTokenProviderTest {
             .contains("ROLE_USER");
     }
 
+    @Test
+    @DisplayName("Access Token마다 고유한 jti와 만료 시각을 인증 정보에 담음")
+    void authenticate_ContainsTokenDetails() {
+        // given
+        String first = jwtTokenProvider.generateAccessToken(userDetails);
+        String second = jwtTokenProvider.generateAccessToken(userDetails);
+
+        // when
+        AccessTokenDetails firstDetails = (AccessTokenDetails)jwtTokenProvider.authenticate(first).getDetails();
+        AccessTokenDetails secondDetails = (AccessTokenDetails)jwtTokenProvider.authenticate(second).getDetails();
+
+        // then
+        assertThat(firstDetails.tokenId()).isNotBlank().isNotEqualTo(secondDetails.tokenId());
+        assertThat(firstDetails.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("User 엔티티로 생성한 토큰 - userId와 role을 담은 인증 사용자로 복원")
+    void authenticate_WithUserEntity() {
+        // given
+        com.oneday.core.entity.User user = com.oneday.core.entity.User.builder()
+            .email("teacher@example.com")
+            .password("password")
+            .name("강사")
+            .role(Role.ADMIN)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        String token = jwtTokenProvider.generateAccessToken(user);
+
+        // when
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        // then
+        AuthenticatedUser principal = (AuthenticatedUser)authentication.getPrincipal();
+        assertThat(principal.requireUserId()).isEqualTo(7L);
+        assertThat(principal.getRole()).isEqualTo(Role.ADMIN);
+        assertThat(principal.getUsername()).isEqualTo("teacher@example.com");
+        assertThat(authentication.getAuthorities())
+            .extracting("authority")
+            .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Refresh Token으로는 인증 사용자를 만들지 않음 (typ=access만 허용)")
+    void authenticate_RejectsRefreshToken() {
+        // given - userId 클레임을 담은 Refresh Token
+        com.oneday.core.entity.User user = com.oneday.core.entity.User.builder()
+            .email("teacher@example.com")
+            .password("password")
+            .name("강사")
+            .role(Role.USER)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+
+        // when & then
+        assertThat(jwtTokenProvider.validateToken(refreshToken)).isTrue();
+        assertThatThrownBy(() -> jwtTokenProvider.verify(refreshToken))
+            .isInstanceOf(InvalidTokenException.class)
+            .hasMessageContaining("Access Token이 아닙니다");
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(refreshToken))
+            .isInstanceOf(InvalidTokenException.class);
+        assertThat(meterRegistry.get("auth.token.rejected").tag("reason", "not_access_token").counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("userId 클레임이 없는 토큰 - 사용자 ID를 요구하면 인증 예외")
+    void authenticate_WithoutUserId() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(userDetails);
+
+        // when
+        AuthenticatedUser principal = (AuthenticatedUser)jwtTokenProvider.authenticate(token).getPrincipal();
+
+        // then
+        assertThat(principal.getUserId()).isNull();
+        assertThatThrownBy(principal::requireUserId)
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.UNAUTHORIZED);
+    }
+
     @Test
     @DisplayName("Spring Security User로 생성한 토큰 - userId는 null")
     void getUserIdFromToken_WithSpringSecurityUser() {
@@ -144,5 +244,68 @@ class JwtTokenProviderTest {
         // then
         assertThat(userId).isNull();
     }
-}
 
+    @Test
+    @DisplayName("토큰 헤더에 현재 서명 키의 kid 포함")
+    void generateAccessToken_ContainsKeyId() {
+        // when
+        String token = jwtTokenProvider.generateAccessToken(userDetails);
+
+        // then
+        String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertThat(header).contains("\"kid\":\"default\"");
+    }
+
+    @Test
+    @DisplayName("한 번의 파싱으로 검증 후 Authentication 생성 - 성공")
+    void authenticate_Success() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(userDetails);
+
+        // when
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication.getName()).isEqualTo("user@example.com");
+        assertThat(authentication.getAuthorities())
+            .extracting("authority")
+            .contains("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("한 번의 파싱으로 검증 - 실패 (잘못된 서명)")
+    void authenticate_InvalidSignature() {
+        // given
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setSecret("another-secret-key-that-is-at-least-32-bytes-long");
+        otherProperties.setAccessTokenExpiration(3600000L);
+        String token = new JwtTokenProvider(otherProperties, authEvents).generateAccessToken(userDetails);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("비밀키 교체 후에도 이전 키로 발급된 토큰 검증 - 성공")
+    void authenticate_AfterKeyRotation() {
+        // given - 기존 키로 발급
+        String oldToken = jwtTokenProvider.generateAccessToken(userDetails);
+
+        JwtProperties rotated = new JwtProperties();
+        rotated.setSecret("rotated-secret-key-that-is-at-least-32-bytes-long");
+        rotated.setKeyId("2026-10");
+        rotated.setPreviousSecrets(Map.of("default", jwtProperties.getSecret()));
+        rotated.setAccessTokenExpiration(3600000L);
+        JwtTokenProvider rotatedProvider = new JwtTokenProvider(rotated, authEvents);
+
+        // when
+        String newToken = rotatedProvider.generateAccessToken(userDetails);
+
+        // then
+        assertThat(rotatedProvider.authenticate(oldToken).getName()).isEqualTo("user@example.com");
+        assertThat(rotatedProvider.authenticate(newToken).getName()).isEqualTo("user@example.com");
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(newToken))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.oneday.core.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BCrypt cost 보정 테스트
+ */
+@DisplayName("BCrypt cost 보정 테스트")
+class PasswordHashCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간을 넘지 않는 가장 큰 cost를 고른다")
+    void strengthFor_LargestWithinTarget() {
+        // cost 10 = 60ms → 11 = 120ms, 12 = 240ms, 13 = 480ms
+        assertThat(PasswordHashCalibrator.strengthFor(Duration.ofMillis(60), Duration.ofMillis(250), 10, 16))
+            .isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("보정 결과는 최소/최대 cost 범위로 제한된다")
+    void strengthFor_Bounded() {
+        assertThat(PasswordHashCalibrator.strengthFor(Duration.ofMillis(500), Duration.ofMillis(250), 10, 16))
+            .isEqualTo(10);
+        assertThat(PasswordHashCalibrator.strengthFor(Duration.ofNanos(1), Duration.ofMillis(250), 10, 14))
+            .isEqualTo(14);
+    }
+}
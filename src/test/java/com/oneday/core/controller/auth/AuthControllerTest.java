@@ -26,6 +26,7 @@ import com.oneday.core.dto.auth.TokenRefreshResponse;
 import com.oneday.core.exception.auth.DuplicateEmailException;
 import com.oneday.core.exception.auth.InvalidCredentialsException;
 import com.oneday.core.exception.auth.InvalidRefreshTokenException;
+import com.oneday.core.exception.auth.TooManyRequestsException;
 import com.oneday.core.service.auth.AuthService;
 
 /**
@@ -59,6 +60,15 @@ class AuthControllerTest {
     @MockitoBean
     private com.oneday.core.config.security.JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockitoBean
+    private com.oneday.core.config.cache.CatalogResponseCacheFilter catalogResponseCacheFilter;
+
+    @MockitoBean
+    private com.oneday.core.config.security.AuthRateLimitFilter authRateLimitFilter;
+
+    @MockitoBean
+    private com.oneday.core.config.security.AuthRateLimiter authRateLimiter;
+
     // ============================================
     // Phase 3: 회원가입 테스트
     // ============================================
@@ -169,6 +179,30 @@ class AuthControllerTest {
             .andExpect(jsonPath("$.error.code").value("AUTH002"));
     }
 
+    @Test
+    @DisplayName("로그인 실패 - 이메일별 요청 제한 초과 시 429와 Retry-After 반환")
+    void 로그인_실패_429_반환() throws Exception {
+        // Given: 같은 이메일로 요청이 너무 많을 때
+        LoginRequest request = new LoginRequest(
+            "test@example.com",
+            "password123"
+        );
+
+        willThrow(new TooManyRequestsException(30)).given(authRateLimiter).checkEmail("test@example.com");
+
+        // When & Then: 429 Too Many Requests 응답, 로그인은 시도하지 않음
+        mockMvc.perform(post("/api/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "30"))
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.error.code").value("COMMON007"));
+
+        then(authService).should(never()).login(any(LoginRequest.class));
+    }
+
     // ============================================
     // Phase 5: JWT 인증 테스트
     // ============================================
@@ -259,7 +293,7 @@ class AuthControllerTest {
 
 		LogoutResponse response = LogoutResponse.success();
 
-		given(authService.logout(email)).willReturn(response);
+		given(authService.logout(email, null)).willReturn(response);
 
 		// When & Then: POST /api/auth/logout 호출
 		mockMvc.perform(post("/api/auth/logout")
@@ -0,0 +1,109 @@
+package com.oneday.core.controller.image;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.oneday.core.config.storage.ImageStorageProperties;
+import com.oneday.core.exception.GlobalExceptionHandler;
+import com.oneday.core.service.image.ImageFileStore;
+
+/**
+ * 이미지 제공 API 테스트
+ */
+@DisplayName("이미지 제공 API 테스트")
+class ImageControllerTest {
+
+	private static final byte[] CONTENT = "0123456789abcdefghij".getBytes();
+
+	@TempDir
+	Path storageDirectory;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Files.write(storageDirectory.resolve("sample.png"), CONTENT);
+
+		ImageStorageProperties properties = new ImageStorageProperties();
+		properties.setRootDirectory(storageDirectory);
+
+		mockMvc = MockMvcBuilders
+				.standaloneSetup(new ImageController(new ImageFileStore(properties), null, properties))
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.build();
+	}
+
+	@Test
+	@DisplayName("이미지 전체를 ETag, immutable 캐시 헤더와 함께 반환한다")
+	void getImage_Full() throws Exception {
+		mockMvc.perform(get("/images/sample.png"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/png"))
+				.andExpect(content().bytes(CONTENT))
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+	}
+
+	@Test
+	@DisplayName("If-None-Match가 ETag와 일치하면 304를 반환한다")
+	void getImage_NotModified() throws Exception {
+		MvcResult first = mockMvc.perform(get("/images/sample.png")).andReturn();
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/images/sample.png").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	@DisplayName("Range 요청은 해당 구간만 206으로 반환한다")
+	void getImage_Range() throws Exception {
+		mockMvc.perform(get("/images/sample.png").header(HttpHeaders.RANGE, "bytes=5-9"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+				.andExpect(content().bytes("56789".getBytes()));
+	}
+
+	@Test
+	@DisplayName("If-Range가 ETag와 다르면 전체 본문을 반환한다")
+	void getImage_IfRangeMismatch() throws Exception {
+		mockMvc.perform(get("/images/sample.png")
+						.header(HttpHeaders.RANGE, "bytes=5-9")
+						.header(HttpHeaders.IF_RANGE, "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	@DisplayName("파일 크기를 벗어난 Range는 416을 반환한다")
+	void getImage_RangeNotSatisfiable() throws Exception {
+		mockMvc.perform(get("/images/sample.png").header(HttpHeaders.RANGE, "bytes=100-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+	}
+
+	@Test
+	@DisplayName("없는 파일이나 허용되지 않은 파일명은 404를 반환한다")
+	void getImage_NotFound() throws Exception {
+		mockMvc.perform(get("/images/missing.png"))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(get("/images/..%2Fsecret.png"))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(get("/images/sample.txt"))
+				.andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,154 @@
+package com.oneday.core.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneday.core.entity.Classes;
+import com.oneday.core.entity.Reservation;
+import com.oneday.core.entity.ReservationStatus;
+import com.oneday.core.entity.Times;
+import com.oneday.core.entity.User;
+import com.oneday.core.event.ReservationChangedEvent;
+import com.oneday.core.repository.ReservationRepository;
+import com.oneday.core.repository.ReservationStatusRepository;
+import com.oneday.core.repository.TimesRepository;
+import com.oneday.core.repository.user.UserRepository;
+
+/**
+ * 예약 서비스 테스트 (좌석 카운터)
+ */
+@DisplayName("예약 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+	private static final int TIME_ID = 7;
+	private static final int CLASS_ID = 1;
+	private static final long STUDENT_ID = 3L;
+	private static final int MAX_CAPACITY = 4;
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private TimesRepository timesRepository;
+
+	@Mock
+	private ReservationStatusRepository reservationStatusRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private ReservationService reservationService;
+
+	@Test
+	@DisplayName("조건부 UPDATE로 좌석을 확보하면 예약을 저장하고 변경 이벤트를 발행한다")
+	void createReservation_ClaimsSeat() {
+		// given
+		givenReservable();
+		given(timesRepository.increaseReservedCount(TIME_ID, MAX_CAPACITY)).willReturn(1);
+		given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		Reservation reservation = reservationService.createReservation(TIME_ID, STUDENT_ID);
+
+		// then
+		assertThat(reservation.getStatus().getStatusCode()).isEqualTo(1);
+		then(eventPublisher).should().publishEvent(new ReservationChangedEvent(TIME_ID, CLASS_ID, STUDENT_ID, 1));
+	}
+
+	@Test
+	@DisplayName("정원이 찬 수업은 조건부 UPDATE가 0건이므로 예약을 저장하지 않는다")
+	void createReservation_FullClass() {
+		// given
+		givenReservable();
+		given(timesRepository.increaseReservedCount(TIME_ID, MAX_CAPACITY)).willReturn(0);
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.createReservation(TIME_ID, STUDENT_ID))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("정원이 모두 마감되었습니다.");
+		then(reservationRepository).should(never()).save(any());
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("예약을 취소하면 예약 인원을 줄이고 변경 이벤트를 발행한다")
+	void cancelReservation_ReleasesSeat() {
+		// given
+		Reservation reservation = givenConfirmedReservation();
+		given(timesRepository.decreaseReservedCount(TIME_ID)).willReturn(1);
+
+		// when
+		reservationService.cancelReservation(10, STUDENT_ID);
+
+		// then
+		assertThat(reservation.getStatus().getStatusCode()).isEqualTo(2);
+		then(eventPublisher).should().publishEvent(new ReservationChangedEvent(TIME_ID, CLASS_ID, STUDENT_ID, -1));
+	}
+
+	@Test
+	@DisplayName("예약 인원이 이미 0이면 취소해도 변경 이벤트를 발행하지 않는다")
+	void cancelReservation_CounterAlreadyZero() {
+		// given
+		Reservation reservation = givenConfirmedReservation();
+		given(timesRepository.decreaseReservedCount(TIME_ID)).willReturn(0);
+
+		// when
+		reservationService.cancelReservation(10, STUDENT_ID);
+
+		// then
+		assertThat(reservation.getStatus().getStatusCode()).isEqualTo(2);
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
+
+	private void givenReservable() {
+		given(userRepository.findById(STUDENT_ID)).willReturn(Optional.of(student()));
+		given(timesRepository.findById(TIME_ID)).willReturn(Optional.of(time()));
+		given(reservationRepository.existsByUser_IdAndTime_TimeIdAndStatus_StatusCode(STUDENT_ID, TIME_ID, 1))
+				.willReturn(false);
+		given(reservationStatusRepository.findById(1)).willReturn(Optional.of(status(1)));
+	}
+
+	private Reservation givenConfirmedReservation() {
+		Reservation reservation = Reservation.builder()
+				.reservationId(10)
+				.user(student())
+				.time(time())
+				.status(status(1))
+				.build();
+		given(reservationStatusRepository.findById(2)).willReturn(Optional.of(status(2)));
+		given(reservationRepository.findById(10)).willReturn(Optional.of(reservation));
+		return reservation;
+	}
+
+	private static User student() {
+		User user = User.builder().email("student@example.com").name("수강생").build();
+		ReflectionTestUtils.setField(user, "id", STUDENT_ID);
+		return user;
+	}
+
+	private static Times time() {
+		Classes classes = Classes.builder().classId(CLASS_ID).maxCapacity(MAX_CAPACITY).build();
+		return Times.builder().timeId(TIME_ID).classes(classes).build();
+	}
+
+	private static ReservationStatus status(int statusCode) {
+		return ReservationStatus.builder().statusCode(statusCode).build();
+	}
+}
@@ -0,0 +1,140 @@
+package com.oneday.core.service.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.oneday.core.config.security.AuthAuditProperties;
+import com.oneday.core.entity.AuthAuditEventType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 인증 감사 로그 기록기 테스트
+ */
+@DisplayName("인증 감사 로그 기록기 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuthAuditLoggerTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AuthAuditProperties properties = new AuthAuditProperties();
+	private AuthAuditLogger authAuditLogger;
+
+	@BeforeEach
+	void setUp() {
+		// 주기 기록이 테스트 중에 끼어들지 않도록 길게 설정
+		properties.setBufferCapacity(4);
+		properties.setBatchSize(3);
+		properties.setFlushInterval(Duration.ofHours(1));
+		authAuditLogger = new AuthAuditLogger(jdbcTemplate, properties, meterRegistry);
+		authAuditLogger.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		authAuditLogger.shutdown();
+	}
+
+	@Test
+	@DisplayName("배치 크기만큼 쌓이면 주기를 기다리지 않고 한 번의 배치로 INSERT한다")
+	@SuppressWarnings("unchecked")
+	void record_FlushesWhenBatchIsFull() {
+		// when
+		for (int i = 0; i < 3; i++) {
+			authAuditLogger.record(AuthAuditEventType.LOGIN_SUCCESS, "user" + i + "@example.com", (long)i);
+		}
+
+		// then
+		ArgumentCaptor<List<AuthAuditEvent>> captor = ArgumentCaptor.forClass(List.class);
+		then(jdbcTemplate).should(timeout(2000)).batchUpdate(anyString(), captor.capture(), eq(3),
+				any(ParameterizedPreparedStatementSetter.class));
+		assertThat(captor.getValue())
+				.extracting(AuthAuditEvent::email)
+				.containsExactly("user0@example.com", "user1@example.com", "user2@example.com");
+	}
+
+	@Test
+	@DisplayName("컬럼 길이를 넘는 이메일은 잘라 기록하므로 같은 배치의 다른 이벤트도 함께 기록된다")
+	@SuppressWarnings("unchecked")
+	void record_TruncatesOverlongEmail() {
+		// given - strict 모드처럼 100자를 넘는 이메일이 있으면 배치 INSERT 실패
+		given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+				.willAnswer(invocation -> {
+					List<AuthAuditEvent> events = invocation.getArgument(1);
+					if (events.stream().anyMatch(event -> event.email() != null && event.email().length() > 100)) {
+						throw new DataIntegrityViolationException("Data too long for column 'email'");
+					}
+					return new int[][] {new int[events.size()]};
+				});
+		String overlong = "a".repeat(300) + "@example.com";
+
+		// when
+		authAuditLogger.record(AuthAuditEventType.LOGIN_FAILURE, "user0@example.com", null);
+		authAuditLogger.record(AuthAuditEventType.LOGIN_FAILURE, overlong, null);
+		authAuditLogger.record(AuthAuditEventType.LOGIN_FAILURE, "user2@example.com", null);
+
+		// then
+		ArgumentCaptor<List<AuthAuditEvent>> captor = ArgumentCaptor.forClass(List.class);
+		then(jdbcTemplate).should(timeout(2000)).batchUpdate(anyString(), captor.capture(), eq(3),
+				any(ParameterizedPreparedStatementSetter.class));
+		assertThat(captor.getValue())
+				.extracting(AuthAuditEvent::email)
+				.containsExactly("user0@example.com", overlong.substring(0, 100), "user2@example.com");
+		assertThat(meterRegistry.get("auth.audit.dropped").tag("reason", "error").counter().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 DROP 정책에 따라 이벤트를 버리고 유실 수를 기록한다")
+	void record_OverflowDrop() {
+		// given - 배치 크기에 닿아도 기록되지 않도록 DB를 느리게 하지 않고 배치 크기를 버퍼보다 크게 설정
+		properties.setBatchSize(100);
+
+		// when
+		for (int i = 0; i < 6; i++) {
+			authAuditLogger.record(AuthAuditEventType.LOGIN_FAILURE, "user@example.com", null);
+		}
+
+		// then
+		assertThat(meterRegistry.get("auth.audit.dropped").tag("reason", "overflow").counter().count())
+				.isEqualTo(2);
+		assertThat(meterRegistry.get("auth.audit.buffer").gauge().value()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("배치 INSERT가 실패하면 해당 배치를 유실로 기록하고 버퍼를 비운다")
+	@SuppressWarnings("unchecked")
+	void flush_Failure() {
+		// given
+		properties.setBatchSize(100);
+		given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+				.willThrow(new DataAccessResourceFailureException("connection refused"));
+		authAuditLogger.record(AuthAuditEventType.LOGOUT, "user@example.com", 1L);
+		authAuditLogger.record(AuthAuditEventType.LOGOUT, "user@example.com", 1L);
+
+		// when
+		authAuditLogger.flush();
+
+		// then
+		assertThat(meterRegistry.get("auth.audit.dropped").tag("reason", "error").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("auth.audit.buffer").gauge().value()).isZero();
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -13,10 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.oneday.core.config.security.AccessTokenDetails;
+import com.oneday.core.config.security.AuthEvents;
 import com.oneday.core.config.security.JwtTokenProvider;
 import com.oneday.core.dto.auth.LoginRequest;
 import com.oneday.core.dto.auth.LoginResponse;
@@ -25,6 +30,7 @@ import com.oneday.core.dto.auth.SignUpRequest;
 import com.oneday.core.dto.auth.SignUpResponse;
 import com.oneday.core.dto.auth.TokenRefreshRequest;
 import com.oneday.core.dto.auth.TokenRefreshResponse;
+import com.oneday.core.entity.AuthAuditEventType;
 import com.oneday.core.entity.RefreshToken;
 import com.oneday.core.entity.Role;
 import com.oneday.core.entity.User;
@@ -33,6 +39,7 @@ import com.oneday.core.exception.auth.InvalidCredentialsException;
 import com.oneday.core.exception.auth.InvalidRefreshTokenException;
 import com.oneday.core.repository.RefreshTokenRepository;
 import com.oneday.core.repository.user.UserRepository;
+import com.oneday.core.util.TokenDigest;
 
 /**
  * AuthService 테스트 (회원가입 + 로그인)
@@ -55,6 +62,18 @@ class AuthServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private AccessTokenRevocationService accessTokenRevocationService;
+
+    @Mock
+    private AuthAuditLogger authAuditLogger;
+
+    @Mock
+    private AuthEvents authEvents;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private AuthService authService;
 
@@ -222,6 +241,9 @@ class AuthServiceTest {
         assertThatThrownBy(() -> authService.login(request))
             .isInstanceOf(InvalidCredentialsException.class)
             .hasMessageContaining("이메일 또는 비밀번호가 올바르지 않습니다");
+
+        // 로그인 실패가 감사 로그에 기록된다
+        verify(authAuditLogger).record(AuthAuditEventType.LOGIN_FAILURE, "test@example.com", null);
     }
 
     @Test
@@ -253,6 +275,38 @@ class AuthServiceTest {
         verify(jwtTokenProvider).generateRefreshToken(user);
     }
 
+    @Test
+    @DisplayName("로그인 성공 - 현재 cost보다 낮은 해시는 다시 해시해 저장")
+    void 로그인_성공_해시_갱신() {
+        // Given: 이전 cost로 저장된 비밀번호 해시가 있을 때
+        LoginRequest request = new LoginRequest(
+            "test@example.com",
+            "password123"
+        );
+
+        User user = User.builder()
+            .email("test@example.com")
+            .password("$2a$10$encodedPassword")
+            .name("홍길동")
+            .role(Role.USER)
+            .build();
+
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("$2a$10$encodedPassword")).willReturn(true);
+        given(passwordEncoder.encode("password123")).willReturn("{bcrypt}$2a$12$upgradedPassword");
+        given(jwtTokenProvider.generateAccessToken(any(UserDetails.class))).willReturn("access-token");
+        given(jwtTokenProvider.generateRefreshToken(any(UserDetails.class))).willReturn("refresh-token");
+
+        // When: 로그인을 하면
+        authService.login(request);
+
+        // Then: 현재 cost의 해시로 교체되어 쓰기 트랜잭션에서 저장된다
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}$2a$12$upgradedPassword");
+        verify(userRepository).save(user);
+        verify(transactionOperations).executeWithoutResult(any());
+    }
+
     // ============================================
     // Phase 6: Refresh Token 갱신 테스트
     // ============================================
@@ -276,12 +330,12 @@ class AuthServiceTest {
                 .build();
 
             RefreshToken refreshToken = RefreshToken.builder()
-                .token(oldRefreshToken)
+                .tokenHash(TokenDigest.sha256(oldRefreshToken))
                 .user(user)
                 .expiresAt(LocalDateTime.now().plusDays(7))
                 .build();
 
-            given(refreshTokenRepository.findByToken(oldRefreshToken))
+            given(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(oldRefreshToken)))
                 .willReturn(Optional.of(refreshToken));
             given(jwtTokenProvider.validateToken(oldRefreshToken)).willReturn(true);
             given(jwtTokenProvider.getUserEmailFromToken(oldRefreshToken)).willReturn(email);
@@ -301,6 +355,9 @@ class AuthServiceTest {
             assertThat(response.expiresIn()).isEqualTo(3600L);
 
             verify(refreshTokenRepository).save(any(RefreshToken.class));
+            assertThat(refreshToken.getTokenHash())
+                .hasSize(TokenDigest.LENGTH)
+                .isEqualTo(TokenDigest.sha256("new-refresh-token"));
         }
 
         @Test
@@ -317,12 +374,12 @@ class AuthServiceTest {
                 .build();
 
             RefreshToken refreshToken = RefreshToken.builder()
-                .token(expiredToken)
+                .tokenHash(TokenDigest.sha256(expiredToken))
                 .user(user)
                 .expiresAt(LocalDateTime.now().minusDays(1))
                 .build();
 
-            given(refreshTokenRepository.findByToken(expiredToken))
+            given(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(expiredToken)))
                 .willReturn(Optional.of(refreshToken));
 
             TokenRefreshRequest request = new TokenRefreshRequest(expiredToken);
@@ -341,7 +398,7 @@ class AuthServiceTest {
             // Given
             String unknownToken = "unknown-token";
 
-            given(refreshTokenRepository.findByToken(unknownToken))
+            given(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(unknownToken)))
                 .willReturn(Optional.empty());
 
             TokenRefreshRequest request = new TokenRefreshRequest(unknownToken);
@@ -366,12 +423,12 @@ class AuthServiceTest {
                 .build();
 
             RefreshToken refreshToken = RefreshToken.builder()
-                .token(invalidToken)
+                .tokenHash(TokenDigest.sha256(invalidToken))
                 .user(user)
                 .expiresAt(LocalDateTime.now().plusDays(7))
                 .build();
 
-            given(refreshTokenRepository.findByToken(invalidToken))
+            given(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(invalidToken)))
                 .willReturn(Optional.of(refreshToken));
             given(jwtTokenProvider.validateToken(invalidToken)).willReturn(false);
 
@@ -410,15 +467,18 @@ class AuthServiceTest {
 			given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
 			willDoNothing().given(refreshTokenRepository).deleteByUser(user);
 
+			AccessTokenDetails accessToken = new AccessTokenDetails("token-id", Instant.now().plusSeconds(600));
+
 			// When: 로그아웃
-			LogoutResponse response = authService.logout(email);
+			LogoutResponse response = authService.logout(email, accessToken);
 
-			// Then: Refresh Token이 삭제된다
+			// Then: Refresh Token이 삭제되고 Access Token이 폐기된다
 			assertThat(response.message()).contains("로그아웃");
 			assertThat(response.logoutAt()).isNotNull();
 
 			verify(userRepository).findByEmail(email);
 			verify(refreshTokenRepository).deleteByUser(user);
+			verify(accessTokenRevocationService).revoke("token-id", accessToken.expiresAt());
 		}
 
 		@Test
@@ -430,7 +490,7 @@ class AuthServiceTest {
 			given(userRepository.findByEmail(email)).willReturn(Optional.empty());
 
 			// When & Then: 예외 발생
-			assertThatThrownBy(() -> authService.logout(email))
+			assertThatThrownBy(() -> authService.logout(email, null))
 					.isInstanceOf(InvalidCredentialsException.class)
 					.hasMessageContaining("사용자를 찾을 수 없습니다");
 
@@ -444,7 +504,7 @@ class AuthServiceTest {
 			String token = "logged-out-token";
 
 			// 로그아웃으로 인해 DB에서 삭제됨
-			given(refreshTokenRepository.findByToken(token))
+			given(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(token)))
 					.willReturn(Optional.empty());
 
 			TokenRefreshRequest request = new TokenRefreshRequest(token);
@@ -0,0 +1,80 @@
+package com.oneday.core.service.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.oneday.core.config.security.RefreshTokenPurgeProperties;
+import com.oneday.core.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 만료 Refresh Token 정리 작업 테스트
+ */
+@DisplayName("만료 Refresh Token 정리 작업 테스트")
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPurgeServiceTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RefreshTokenPurgeService refreshTokenPurgeService;
+
+	@BeforeEach
+	void setUp() {
+		RefreshTokenPurgeProperties properties = new RefreshTokenPurgeProperties();
+		properties.setBatchSize(100);
+		properties.setPause(Duration.ZERO);
+
+		meterRegistry = new SimpleMeterRegistry();
+		refreshTokenPurgeService = new RefreshTokenPurgeService(refreshTokenRepository, properties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("만료 행의 PK 범위를 배치 크기 구간으로 나누어 삭제한다")
+	void purgeExpired_InIdRanges() {
+		// given
+		given(refreshTokenRepository.findMinIdByExpiresAtBefore(NOW)).willReturn(1L);
+		given(refreshTokenRepository.findMaxIdByExpiresAtBefore(NOW)).willReturn(250L);
+		given(refreshTokenRepository.deleteExpiredInIdRange(1L, 101L, NOW)).willReturn(100);
+		given(refreshTokenRepository.deleteExpiredInIdRange(101L, 201L, NOW)).willReturn(0);
+		given(refreshTokenRepository.deleteExpiredInIdRange(201L, 301L, NOW)).willReturn(40);
+
+		// when
+		long purged = refreshTokenPurgeService.purgeExpired(NOW);
+
+		// then
+		assertThat(purged).isEqualTo(140);
+		then(refreshTokenRepository).should(times(3)).deleteExpiredInIdRange(anyLong(), anyLong(), eq(NOW));
+		assertThat(meterRegistry.get("auth.refresh-token.purged").counter().count()).isEqualTo(140);
+		assertThat(meterRegistry.get("auth.refresh-token.purge.batch").timer().count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰이 없으면 삭제하지 않는다")
+	void purgeExpired_Nothing() {
+		// given
+		given(refreshTokenRepository.findMinIdByExpiresAtBefore(NOW)).willReturn(null);
+
+		// when
+		long purged = refreshTokenPurgeService.purgeExpired(NOW);
+
+		// then
+		assertThat(purged).isZero();
+		then(refreshTokenRepository).should(never()).deleteExpiredInIdRange(anyLong(), anyLong(), any());
+	}
+}
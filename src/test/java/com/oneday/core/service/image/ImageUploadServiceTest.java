@@ -0,0 +1,174 @@
+package com.oneday.core.service.image;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneday.core.config.storage.ImageStorageProperties;
+import com.oneday.core.dto.image.ImageUploadResponse;
+import com.oneday.core.entity.Classes;
+import com.oneday.core.entity.User;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.repository.ClassRepository;
+
+/**
+ * 이미지 업로드 서비스 테스트
+ */
+@DisplayName("이미지 업로드 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class ImageUploadServiceTest {
+
+	private static final int CLASS_ID = 1;
+	private static final long TEACHER_ID = 7L;
+
+	@TempDir
+	Path storageDirectory;
+
+	@Mock
+	private ClassRepository classRepository;
+
+	@Mock
+	private ImageRegistrationService imageRegistrationService;
+
+	private ImageStorageProperties properties;
+	private ImageUploadService imageUploadService;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ImageStorageProperties();
+		properties.setRootDirectory(storageDirectory);
+		properties.setMaxUploadBytes(64 * 1024);
+		properties.setThumbnailWidths(List.of(16, 32));
+
+		ImageFileStore imageFileStore = new ImageFileStore(properties);
+		imageUploadService = new ImageUploadService(properties, imageFileStore,
+				new ThumbnailGenerator(properties, imageFileStore), imageRegistrationService, classRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		imageUploadService.shutdown();
+	}
+
+	@Test
+	@DisplayName("업로드한 이미지를 해시 파일명으로 저장하고 썸네일 생성 후 등록한다")
+	void upload_Success() throws IOException {
+		// given
+		givenOwnedClass();
+		byte[] png = png(64, 48);
+
+		// when
+		ImageUploadResponse response = upload("image/png", png, true);
+
+		// then
+		String fileName = response.imageUrl().substring(ImageUploadService.IMAGE_URL_PREFIX.length());
+		assertThat(fileName).matches("[0-9a-f]{64}\\.png");
+		assertThat(Files.readAllBytes(storageDirectory.resolve(fileName))).isEqualTo(png);
+		assertThat(response.thumbnailUrls()).hasSize(2);
+
+		verify(imageRegistrationService, timeout(5000)).register(CLASS_ID, response.imageUrl(), true);
+		BufferedImage thumbnail = ImageIO.read(storageDirectory.resolve(
+				ThumbnailGenerator.thumbnailFileName(fileName, 16)).toFile());
+		assertThat(thumbnail.getWidth()).isEqualTo(16);
+		assertThat(thumbnail.getHeight()).isEqualTo(12);
+	}
+
+	@Test
+	@DisplayName("같은 이미지를 다시 업로드하면 같은 파일을 사용한다")
+	void upload_Deduplicated() throws IOException {
+		// given
+		givenOwnedClass();
+		byte[] png = png(8, 8);
+
+		// when
+		ImageUploadResponse first = upload("image/png", png, false);
+		ImageUploadResponse second = upload("image/png", png, false);
+
+		// then
+		assertThat(second.imageUrl()).isEqualTo(first.imageUrl());
+		verify(imageRegistrationService, timeout(5000).times(2)).register(CLASS_ID, first.imageUrl(), false);
+		try (var files = Files.list(storageDirectory)) {
+			assertThat(files.filter(path -> path.getFileName().toString().matches("[0-9a-f]{64}\\.png")))
+					.hasSize(1);
+		}
+	}
+
+	@Test
+	@DisplayName("크기 제한을 넘으면 저장하지 않고 거절한다")
+	void upload_TooLarge() {
+		// given
+		givenOwnedClass();
+		byte[] body = new byte[(int)properties.getMaxUploadBytes() + 1];
+		body[0] = (byte)0x89;
+
+		// when & then
+		assertThatThrownBy(() -> upload("image/png", body, false))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_TOO_LARGE);
+		assertThat(storageDirectory.toFile().list()).containsOnly(".upload");
+	}
+
+	@Test
+	@DisplayName("Content-Type과 파일 내용이 다르면 거절한다")
+	void upload_SignatureMismatch() {
+		// given
+		givenOwnedClass();
+
+		// when & then
+		assertThatThrownBy(() -> upload("image/jpeg", "not an image".getBytes(), false))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+	}
+
+	@Test
+	@DisplayName("본인 클래스가 아니면 거절한다")
+	void upload_NotOwner() {
+		// given
+		givenOwnedClass();
+
+		// when & then
+		assertThatThrownBy(() -> imageUploadService.upload(CLASS_ID, 99L, "image/png", -1,
+				new ByteArrayInputStream(new byte[0]), false))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+	}
+
+	private ImageUploadResponse upload(String contentType, byte[] body, boolean representative) throws IOException {
+		return imageUploadService.upload(CLASS_ID, TEACHER_ID, contentType, -1,
+				new ByteArrayInputStream(body), representative);
+	}
+
+	private void givenOwnedClass() {
+		User teacher = User.builder().email("teacher@example.com").name("강사").build();
+		ReflectionTestUtils.setField(teacher, "id", TEACHER_ID);
+		Classes classes = Classes.builder().classId(CLASS_ID).teacher(teacher).build();
+		given(classRepository.findById(CLASS_ID)).willReturn(Optional.of(classes));
+	}
+
+	private static byte[] png(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+		return out.toByteArray();
+	}
+}
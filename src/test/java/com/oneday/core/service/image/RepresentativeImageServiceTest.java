@@ -0,0 +1,93 @@
+package com.oneday.core.service.image;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oneday.core.config.cache.CacheNames;
+import com.oneday.core.repository.ImageRepository;
+
+/**
+ * 대표 이미지 일괄 조회 서비스 테스트
+ */
+@DisplayName("대표 이미지 일괄 조회 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class RepresentativeImageServiceTest {
+
+	@Mock
+	private ImageRepository imageRepository;
+
+	private CaffeineCacheManager cacheManager;
+	private RepresentativeImageService representativeImageService;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(CacheNames.REPRESENTATIVE_IMAGE, Caffeine.newBuilder().build());
+		representativeImageService = new RepresentativeImageService(imageRepository, cacheManager);
+	}
+
+	@Test
+	@DisplayName("여러 클래스의 대표 이미지를 한 번의 조회로 가져온다")
+	void getRepresentativeImageUrls_SingleQuery() {
+		// given
+		given(imageRepository.findRepresentativeImageUrls(anyCollection())).willReturn(List.of(
+				new Object[] {1, "/images/a.jpg"},
+				new Object[] {3, "/images/c.png"}
+		));
+
+		// when
+		Map<Integer, String> imageUrls = representativeImageService.getRepresentativeImageUrls(List.of(1, 2, 3, 1));
+
+		// then
+		assertThat(imageUrls).containsExactlyInAnyOrderEntriesOf(Map.of(1, "/images/a.jpg", 3, "/images/c.png"));
+		then(imageRepository).should(times(1)).findRepresentativeImageUrls(anyCollection());
+	}
+
+	@Test
+	@DisplayName("캐시된 클래스는 다시 조회하지 않고, 대표 이미지가 없는 클래스도 캐시한다")
+	void getRepresentativeImageUrls_CachesMisses() {
+		// given
+		given(imageRepository.findRepresentativeImageUrls(List.of(1, 2))).willReturn(List.<Object[]>of(
+				new Object[] {1, "/images/a.jpg"}
+		));
+		given(imageRepository.findRepresentativeImageUrls(List.of(3))).willReturn(List.of());
+		representativeImageService.getRepresentativeImageUrls(List.of(1, 2));
+
+		// when
+		Map<Integer, String> imageUrls = representativeImageService.getRepresentativeImageUrls(List.of(1, 2, 3));
+
+		// then
+		assertThat(imageUrls).containsExactly(entry(1, "/images/a.jpg"));
+		assertThat(representativeImageService.getRepresentativeImageUrl(2)).isNull();
+		then(imageRepository).should(times(2)).findRepresentativeImageUrls(anyCollection());
+	}
+
+	@Test
+	@DisplayName("캐시에서 제거된 클래스는 다시 조회한다")
+	void getRepresentativeImageUrl_AfterEvict() {
+		// given
+		List<Object[]> before = List.<Object[]>of(new Object[] {1, "/images/a.jpg"});
+		List<Object[]> after = List.<Object[]>of(new Object[] {1, "/images/b.jpg"});
+		given(imageRepository.findRepresentativeImageUrls(List.of(1))).willReturn(before).willReturn(after);
+		representativeImageService.getRepresentativeImageUrl(1);
+
+		// when
+		cacheManager.getCache(CacheNames.REPRESENTATIVE_IMAGE).evict(1);
+
+		// then
+		assertThat(representativeImageService.getRepresentativeImageUrl(1)).isEqualTo("/images/b.jpg");
+	}
+}
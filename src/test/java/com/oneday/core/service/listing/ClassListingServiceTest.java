@@ -0,0 +1,214 @@
+package com.oneday.core.service.listing;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oneday.core.dto.classes.ClassListingPageResponse;
+import com.oneday.core.dto.classes.ClassListingResponse;
+import com.oneday.core.dto.search.SessionSlotDto;
+import com.oneday.core.entity.Categories;
+import com.oneday.core.entity.ClassListing;
+import com.oneday.core.entity.ClassRating;
+import com.oneday.core.entity.Classes;
+import com.oneday.core.entity.User;
+import com.oneday.core.event.ClassListingChangedEvent;
+import com.oneday.core.repository.ClassListingRepository;
+import com.oneday.core.repository.ClassRatingRepository;
+import com.oneday.core.repository.ClassRepository;
+import com.oneday.core.repository.ImageRepository;
+import com.oneday.core.repository.TimesRepository;
+import com.oneday.core.service.review.BayesianRating;
+
+/**
+ * 클래스 목록 조회 모델 서비스 테스트
+ */
+@DisplayName("클래스 목록 조회 모델 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class ClassListingServiceTest {
+
+	private static final int CLASS_ID = 1;
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+	@Mock
+	private ClassListingRepository classListingRepository;
+
+	@Mock
+	private ClassRepository classRepository;
+
+	@Mock
+	private ImageRepository imageRepository;
+
+	@Mock
+	private TimesRepository timesRepository;
+
+	@Mock
+	private ClassRatingRepository classRatingRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private ClassListingService classListingService;
+
+	@Test
+	@DisplayName("다음 수업은 잔여석이 있는 가장 가까운 예정 수업이다")
+	void project_NextSessionWithSeats() {
+		// given
+		List<SessionSlotDto> slots = List.of(
+				slot(10, NOW.plusDays(1), 4, 4),
+				slot(11, NOW.plusDays(2), 4, 1),
+				slot(12, NOW.plusDays(3), 4, 0)
+		);
+
+		// when
+		ClassListing listing = ClassListingService.project(classes(), "/images/a.jpg", null, slots, NOW);
+
+		// then
+		assertThat(listing.getClassId()).isEqualTo(CLASS_ID);
+		assertThat(listing.getTeacherName()).isEqualTo("강사");
+		assertThat(listing.getCategory()).isEqualTo("공예");
+		assertThat(listing.getRepresentativeImageUrl()).isEqualTo("/images/a.jpg");
+		assertThat(listing.getNextTimeId()).isEqualTo(11);
+		assertThat(listing.getNextStartAt()).isEqualTo(NOW.plusDays(2));
+		assertThat(listing.getNextRemainingSeats()).isEqualTo(3);
+		assertThat(listing.getUpcomingSessionCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("잔여석이 있는 예정 수업이 없으면 다음 수업은 비어 있다")
+	void project_NoAvailableSession() {
+		// when
+		ClassListing listing = ClassListingService.project(classes(), null, null,
+				List.of(slot(10, NOW.plusDays(1), 4, 4)), NOW);
+
+		// then
+		assertThat(listing.getNextTimeId()).isNull();
+		assertThat(listing.getNextStartAt()).isNull();
+		assertThat(listing.getNextRemainingSeats()).isNull();
+		assertThat(listing.getUpcomingSessionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("평점 평균과 베이지안 점수를 함께 저장하고, 평점이 없으면 사전 평균을 점수로 사용한다")
+	void project_Rating() {
+		// given
+		ClassRating rating = ClassRating.builder().classId(CLASS_ID).ratingCount(2).ratingSum(10L).score(0.0).build();
+
+		// when
+		ClassListing rated = ClassListingService.project(classes(), null, rating, List.of(), NOW);
+		ClassListing unrated = ClassListingService.project(classes(), null, null, List.of(), NOW);
+
+		// then
+		assertThat(rated.getRatingCount()).isEqualTo(2);
+		assertThat(rated.getRatingAverage()).isEqualTo(5.0);
+		assertThat(rated.getRatingScore()).isEqualTo((5 * 3.5 + 10) / 7);
+		assertThat(unrated.getRatingCount()).isZero();
+		assertThat(unrated.getRatingAverage()).isNull();
+		assertThat(unrated.getRatingScore()).isEqualTo(BayesianRating.PRIOR_MEAN);
+	}
+
+	@Test
+	@DisplayName("클래스 행을 다시 계산해 저장하고 변경 이벤트를 발행한다")
+	void refresh_Saves() {
+		// given
+		given(classRepository.findWithCategoryAndTeacherById(CLASS_ID)).willReturn(Optional.of(classes()));
+		given(imageRepository.findRepresentativeImageUrls(List.of(CLASS_ID)))
+				.willReturn(List.<Object[]>of(new Object[] {CLASS_ID, "/images/a.jpg"}));
+		given(timesRepository.findUpcomingSlots(any(), eq(CLASS_ID))).willReturn(List.of());
+
+		// when
+		classListingService.refresh(CLASS_ID);
+
+		// then
+		ArgumentCaptor<ClassListing> captor = ArgumentCaptor.forClass(ClassListing.class);
+		then(classListingRepository).should().save(captor.capture());
+		assertThat(captor.getValue().getRepresentativeImageUrl()).isEqualTo("/images/a.jpg");
+		assertThat(captor.getValue().getUpcomingSessionCount()).isZero();
+		then(eventPublisher).should().publishEvent(new ClassListingChangedEvent(CLASS_ID));
+	}
+
+	@Test
+	@DisplayName("삭제된 클래스의 행은 지운다")
+	void refresh_DeletedClass() {
+		// given
+		given(classRepository.findWithCategoryAndTeacherById(CLASS_ID)).willReturn(Optional.empty());
+		given(classListingRepository.existsById(CLASS_ID)).willReturn(true);
+
+		// when
+		classListingService.refresh(CLASS_ID);
+
+		// then
+		then(classListingRepository).should().deleteById(CLASS_ID);
+		then(classListingRepository).should(never()).save(any());
+	}
+
+	@Test
+	@DisplayName("목록은 페이지 크기를 제한해 조회하고 다음 페이지가 있으면 다음 페이지 번호를 반환한다")
+	void getListings_Paged() {
+		// given
+		ClassListing listing = ClassListingService.project(classes(), null, null, List.of(), NOW);
+		Pageable expected = PageRequest.of(1, ClassListingService.MAX_PAGE_SIZE, ClassListingSort.PRICE_ASC.toSort());
+		given(classListingRepository.findByCategoryId(2, expected))
+				.willReturn(new SliceImpl<>(List.of(listing), expected, true));
+
+		// when
+		ClassListingPageResponse page = classListingService.getListings(2, ClassListingSort.PRICE_ASC, 1, 1000);
+
+		// then
+		assertThat(page.classes()).extracting(ClassListingResponse::classId).containsExactly(CLASS_ID);
+		assertThat(page.nextPage()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("마지막 페이지면 다음 페이지 번호가 없다")
+	void getListings_LastPage() {
+		// given
+		Pageable expected = PageRequest.of(0, 20, ClassListingSort.NEXT_SESSION.toSort());
+		given(classListingRepository.findAllBy(expected)).willReturn(new SliceImpl<>(List.of(), expected, false));
+
+		// when
+		ClassListingPageResponse page = classListingService.getListings(null, ClassListingSort.NEXT_SESSION, -1, 20);
+
+		// then
+		assertThat(page.classes()).isEmpty();
+		assertThat(page.nextPage()).isNull();
+	}
+
+	private static Classes classes() {
+		User teacher = User.builder().email("teacher@example.com").name("강사").build();
+		ReflectionTestUtils.setField(teacher, "id", 7L);
+
+		return Classes.builder()
+				.classId(CLASS_ID)
+				.teacher(teacher)
+				.category(Categories.builder().categoryId(2).category("공예").build())
+				.className("도자기 공방")
+				.location("서울 마포구")
+				.price(45_000)
+				.maxCapacity(4)
+				.build();
+	}
+
+	private static SessionSlotDto slot(int timeId, LocalDateTime startAt, int capacity, int reserved) {
+		return new SessionSlotDto(timeId, CLASS_ID, 2, "공예", startAt, startAt.plusHours(2), capacity, reserved,
+				45_000, "서울 마포구");
+	}
+}
@@ -0,0 +1,99 @@
+package com.oneday.core.service.recommendation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 클래스 간 함께 예약 행렬 테스트
+ */
+@DisplayName("클래스 간 함께 예약 행렬 테스트")
+class CoBookingMatrixTest {
+
+	@Test
+	@DisplayName("같은 수강생이 예약한 클래스끼리 양방향으로 센다")
+	void addBookings_Symmetric() {
+		// given
+		CoBookingMatrix matrix = new CoBookingMatrix();
+
+		// when
+		matrix.addBookings(1L, 10, 1);
+		matrix.addBookings(1L, 20, 1);
+		matrix.addBookings(1L, 20, 1);
+		matrix.addBookings(2L, 10, 1);
+		matrix.addBookings(2L, 20, 1);
+
+		// then: 같은 클래스를 두 번 예약해도 수강생 한 명으로 셈
+		assertThat(matrix.coBookingCount(10, 20)).isEqualTo(2);
+		assertThat(matrix.coBookingCount(20, 10)).isEqualTo(2);
+		assertThat(matrix.coBookingCount(10, 10)).isZero();
+	}
+
+	@Test
+	@DisplayName("수강생의 마지막 예약이 취소되어야 함께 예약 수가 줄어든다")
+	void removeBooking_LastBookingOnly() {
+		// given
+		CoBookingMatrix matrix = new CoBookingMatrix();
+		matrix.addBookings(1L, 10, 2);
+		matrix.addBookings(1L, 20, 1);
+
+		// when & then
+		matrix.removeBooking(1L, 10);
+		assertThat(matrix.coBookingCount(10, 20)).isEqualTo(1);
+
+		matrix.removeBooking(1L, 10);
+		assertThat(matrix.coBookingCount(10, 20)).isZero();
+		assertThat(matrix.similar(10, 5)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("수강생이 많은 인기 클래스보다 함께 예약 비율이 높은 클래스를 먼저 추천한다")
+	void similar_CosineOrder() {
+		// given: 클래스 10과 30은 2명이 함께, 10과 20은 3명이 함께 예약했지만 20은 10명이 예약한 인기 클래스
+		CoBookingMatrix matrix = new CoBookingMatrix();
+		for (long student = 1; student <= 10; student++) {
+			matrix.addBookings(student, 20, 1);
+		}
+		for (long student = 1; student <= 3; student++) {
+			matrix.addBookings(student, 10, 1);
+		}
+		matrix.addBookings(100L, 10, 1);
+		matrix.addBookings(100L, 30, 1);
+		matrix.addBookings(101L, 10, 1);
+		matrix.addBookings(101L, 30, 1);
+
+		// when
+		List<CoBookingMatrix.Similar> similar = matrix.similar(10, 5);
+
+		// then
+		assertThat(similar).extracting(CoBookingMatrix.Similar::classId).containsExactly(30, 20);
+		assertThat(similar.get(1).coBookingCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("수강생 구간별 부분 행렬을 합치면 전체 행렬과 같다")
+	void merge_Chunks() {
+		// given
+		CoBookingMatrix first = CoBookingMatrix.of(List.of(
+				new Object[] {1L, 10, 1L},
+				new Object[] {1L, 20, 2L}
+		));
+		CoBookingMatrix second = CoBookingMatrix.of(List.of(
+				new Object[] {7L, 10, 1L},
+				new Object[] {7L, 20, 1L},
+				new Object[] {7L, 30, 1L}
+		));
+
+		// when
+		first.merge(second);
+
+		// then
+		assertThat(first.coBookingCount(10, 20)).isEqualTo(2);
+		assertThat(first.coBookingCount(20, 30)).isEqualTo(1);
+		first.removeBooking(7L, 30);
+		assertThat(first.coBookingCount(20, 30)).isZero();
+	}
+}
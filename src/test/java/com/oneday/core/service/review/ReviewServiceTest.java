@@ -0,0 +1,172 @@
+package com.oneday.core.service.review;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import com.oneday.core.dto.review.ReviewPageResponse;
+import com.oneday.core.dto.review.ReviewRequest;
+import com.oneday.core.entity.Review;
+import com.oneday.core.entity.User;
+import com.oneday.core.event.ReviewChangedEvent;
+import com.oneday.core.exception.CustomException;
+import com.oneday.core.exception.ErrorCode;
+import com.oneday.core.repository.ClassRatingRepository;
+import com.oneday.core.repository.ClassRepository;
+import com.oneday.core.repository.ReservationRepository;
+import com.oneday.core.repository.ReviewRepository;
+import com.oneday.core.repository.user.UserRepository;
+
+/**
+ * 클래스 리뷰 서비스 테스트
+ */
+@DisplayName("클래스 리뷰 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceTest {
+
+	private static final int CLASS_ID = 1;
+	private static final long STUDENT_ID = 3L;
+
+	@Mock
+	private ReviewRepository reviewRepository;
+
+	@Mock
+	private ClassRatingRepository classRatingRepository;
+
+	@Mock
+	private ClassRepository classRepository;
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private ReviewService reviewService;
+
+	@Test
+	@DisplayName("첫 리뷰는 평점 수 1과 평점을 집계에 더한다")
+	void writeReview_New() {
+		// given
+		givenAttended(true);
+		given(reviewRepository.findByClasses_ClassIdAndUser_Id(CLASS_ID, STUDENT_ID)).willReturn(Optional.empty());
+		given(reviewRepository.saveAndFlush(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+		given(userRepository.getReferenceById(STUDENT_ID)).willReturn(student());
+
+		// when
+		reviewService.writeReview(CLASS_ID, STUDENT_ID, new ReviewRequest(4, "좋아요"));
+
+		// then
+		then(classRatingRepository).should().applyDelta(CLASS_ID, 1, 4,
+				BayesianRating.PRIOR_WEIGHT, BayesianRating.PRIOR_MEAN);
+		then(eventPublisher).should().publishEvent(new ReviewChangedEvent(CLASS_ID));
+	}
+
+	@Test
+	@DisplayName("리뷰를 수정하면 평점 수는 그대로 두고 평점 차이만 집계에 반영한다")
+	void writeReview_Update() {
+		// given
+		givenAttended(true);
+		Review review = Review.builder().user(student()).rating(5).content("최고").build();
+		given(reviewRepository.findByClasses_ClassIdAndUser_Id(CLASS_ID, STUDENT_ID)).willReturn(Optional.of(review));
+
+		// when
+		reviewService.writeReview(CLASS_ID, STUDENT_ID, new ReviewRequest(2, "다시 생각해 보니"));
+
+		// then
+		assertThat(review.getRating()).isEqualTo(2);
+		assertThat(review.getUpdatedAt()).isNotNull();
+		then(classRatingRepository).should().applyDelta(CLASS_ID, 0, -3,
+				BayesianRating.PRIOR_WEIGHT, BayesianRating.PRIOR_MEAN);
+		then(reviewRepository).should(never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("수업을 마치지 않은 수강생은 평가할 수 없다")
+	void writeReview_NotAttended() {
+		// given
+		givenAttended(false);
+
+		// when & then
+		assertThatThrownBy(() -> reviewService.writeReview(CLASS_ID, STUDENT_ID, new ReviewRequest(5, null)))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+		then(classRatingRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("리뷰를 삭제하면 평점 수와 평점을 집계에서 뺀다")
+	void deleteReview() {
+		// given
+		Review review = Review.builder().user(student()).rating(3).build();
+		given(reviewRepository.findByClasses_ClassIdAndUser_Id(CLASS_ID, STUDENT_ID)).willReturn(Optional.of(review));
+
+		// when
+		reviewService.deleteReview(CLASS_ID, STUDENT_ID);
+
+		// then
+		then(reviewRepository).should().delete(review);
+		then(classRatingRepository).should().applyDelta(CLASS_ID, -1, -3,
+				BayesianRating.PRIOR_WEIGHT, BayesianRating.PRIOR_MEAN);
+	}
+
+	@Test
+	@DisplayName("한 건 더 조회되면 마지막 리뷰 ID를 다음 커서로 반환한다")
+	void getReviews_NextCursor() {
+		// given
+		given(reviewRepository.findLatestBefore(CLASS_ID, 100, Limit.of(3))).willReturn(List.of(
+				review(99), review(97), review(90)
+		));
+
+		// when
+		ReviewPageResponse page = reviewService.getReviews(CLASS_ID, 100, 2);
+
+		// then
+		assertThat(page.reviews()).extracting("reviewId").containsExactly(99, 97);
+		assertThat(page.nextCursor()).isEqualTo(97);
+	}
+
+	@Test
+	@DisplayName("마지막 페이지면 다음 커서가 없다")
+	void getReviews_LastPage() {
+		// given
+		given(reviewRepository.findLatest(CLASS_ID, Limit.of(3))).willReturn(List.of(review(5)));
+
+		// when
+		ReviewPageResponse page = reviewService.getReviews(CLASS_ID, null, 2);
+
+		// then
+		assertThat(page.reviews()).hasSize(1);
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	private void givenAttended(boolean attended) {
+		given(classRepository.existsById(CLASS_ID)).willReturn(true);
+		given(reservationRepository.existsAttendedReservation(eq(STUDENT_ID), eq(CLASS_ID), anyInt(), any()))
+				.willReturn(attended);
+	}
+
+	private static User student() {
+		return User.builder().email("student@example.com").name("수강생").build();
+	}
+
+	private static Review review(int reviewId) {
+		return Review.builder().reviewId(reviewId).user(student()).rating(4).build();
+	}
+}
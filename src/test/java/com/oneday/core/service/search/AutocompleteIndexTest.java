@@ -0,0 +1,81 @@
+package com.oneday.core.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.oneday.core.dto.search.AutocompleteSuggestion;
+import com.oneday.core.dto.search.SuggestionType;
+import com.oneday.core.util.HangulJamo;
+
+/**
+ * 자동완성 인덱스 테스트
+ */
+@DisplayName("자동완성 인덱스 테스트")
+class AutocompleteIndexTest {
+
+	private AutocompleteIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = AutocompleteIndex.build(List.of(
+				new AutocompleteIndex.Entry(SuggestionType.CLASS, 1, "도자기 물레 체험", 5),
+				new AutocompleteIndex.Entry(SuggestionType.CLASS, 2, "도자기 핸드빌딩", 30),
+				new AutocompleteIndex.Entry(SuggestionType.CLASS, 3, "과자 굽기", 10),
+				new AutocompleteIndex.Entry(SuggestionType.CLASS, 4, "Candle Making", 1),
+				new AutocompleteIndex.Entry(SuggestionType.CATEGORY, 1, "공예", 40)
+		), 10);
+	}
+
+	@Test
+	@DisplayName("검색 키는 음절을 자모로, 겹모음과 겹받침을 입력 순서로 분해한다")
+	void toSearchKey() {
+		assertThat(HangulJamo.toSearchKey("과자")).isEqualTo("ㄱㅗㅏㅈㅏ");
+		assertThat(HangulJamo.toSearchKey("닭")).isEqualTo("ㄷㅏㄹㄱ");
+		assertThat(HangulJamo.toSearchKey("  Candle   Making ")).isEqualTo("candle making");
+	}
+
+	@Test
+	@DisplayName("접두사로 시작하는 항목을 인기순으로 반환한다")
+	void suggest_OrderedByWeight() {
+		// when
+		List<AutocompleteSuggestion> suggestions = index.suggest("도자", 10);
+
+		// then
+		assertThat(suggestions).extracting(AutocompleteSuggestion::id).containsExactly(2, 1);
+	}
+
+	@Test
+	@DisplayName("입력 중인 음절(자모 일부)도 일치한다")
+	void suggest_PartialSyllable() {
+		// "과" 입력 도중의 "고", "과자" 입력 도중 받침으로 붙은 "괒", 초성만 입력한 "ㄱ"
+		assertThat(index.suggest("고", 10)).extracting(AutocompleteSuggestion::text)
+				.containsExactly("공예", "과자 굽기");
+		assertThat(index.suggest("괒", 10)).extracting(AutocompleteSuggestion::text)
+				.containsExactly("과자 굽기");
+		assertThat(index.suggest("ㄱ", 10)).extracting(AutocompleteSuggestion::text)
+				.containsExactly("공예", "과자 굽기");
+		// "도작" 입력 도중 (받침이 다음 음절 초성이 되는 경우)
+		assertThat(index.suggest("도작", 10)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("이름 중간 단어로도 찾고, 같은 항목은 한 번만 반환한다")
+	void suggest_WordStart() {
+		assertThat(index.suggest("물레", 10)).extracting(AutocompleteSuggestion::id).containsExactly(1);
+		assertThat(index.suggest("mak", 10)).extracting(AutocompleteSuggestion::id).containsExactly(4);
+		assertThat(index.suggest("체", 10)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("결과 수를 제한하고, 일치하지 않으면 빈 목록을 반환한다")
+	void suggest_LimitAndMiss() {
+		assertThat(index.suggest("도", 1)).extracting(AutocompleteSuggestion::id).containsExactly(2);
+		assertThat(index.suggest("없는검색어", 10)).isEmpty();
+		assertThat(index.suggest("  ", 10)).isEmpty();
+	}
+}
@@ -0,0 +1,114 @@
+package com.oneday.core.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.oneday.core.dto.classes.ClassListingResponse;
+import com.oneday.core.dto.search.AvailabilitySearchRequest;
+import com.oneday.core.dto.search.AvailableSessionResponse;
+import com.oneday.core.repository.TimesRepository;
+import com.oneday.core.service.image.RepresentativeImageService;
+import com.oneday.core.service.listing.ClassListingService;
+
+/**
+ * 잔여석 검색 서비스 테스트
+ */
+@DisplayName("잔여석 검색 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+	private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+
+	@Mock
+	private TimesRepository timesRepository;
+
+	@Mock
+	private SlotIndexService slotIndexService;
+
+	@Mock
+	private ClassListingService classListingService;
+
+	@Mock
+	private RepresentativeImageService representativeImageService;
+
+	@InjectMocks
+	private AvailabilityService availabilityService;
+
+	@Test
+	@DisplayName("인덱스 검색은 잔여석이 최소 잔여석보다 적은 수업과 마감된 수업을 제외한다")
+	void search_FiltersBySeats() {
+		// given - 정원 4명: 마감(4명), 잔여 1석(3명), 잔여 3석(1명)
+		given(slotIndexService.current()).willReturn(SlotIndex.of(List.of(
+				slot(1, 4),
+				slot(2, 3),
+				slot(3, 1))));
+		given(classListingService.getListingsByIds(List.of(10))).willReturn(Map.of(10, listing()));
+
+		// when
+		List<AvailableSessionResponse> sessions = availabilityService.searchAvailableSessions(
+				new AvailabilitySearchRequest(null, TOMORROW, TOMORROW, 2));
+
+		// then
+		assertThat(sessions).extracting(AvailableSessionResponse::timeId).containsExactly(3);
+		assertThat(sessions.get(0).remainingSeats()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("인덱스 적재 전에는 예약 인원 카운터 조건으로 DB에서 조회한다")
+	void search_FallsBackToCounterQuery() {
+		// given
+		AvailableSessionResponse session = new AvailableSessionResponse(10, "도자기", 1, "공예", "서울", 20000,
+				3, TOMORROW.atTime(10, 0), TOMORROW.atTime(12, 0), 3);
+		given(slotIndexService.current()).willReturn(null);
+		given(timesRepository.findAvailableSessions(any(LocalDateTime.class), eq(TOMORROW.plusDays(1).atStartOfDay()),
+				isNull(), eq(2))).willReturn(List.of(session));
+		given(representativeImageService.getRepresentativeImageUrls(List.of(10)))
+				.willReturn(Map.of(10, "/images/10.jpg"));
+
+		// when
+		List<AvailableSessionResponse> sessions = availabilityService.searchAvailableSessions(
+				new AvailabilitySearchRequest(null, TOMORROW, TOMORROW, 2));
+
+		// then
+		assertThat(sessions).extracting(AvailableSessionResponse::representativeImageUrl)
+				.containsExactly("/images/10.jpg");
+	}
+
+	@Test
+	@DisplayName("예약 인원 보정은 현재 이후 수업을 확정 예약 수로 다시 계산한다")
+	void syncReservedCounts() {
+		// given
+		LocalDateTime before = LocalDateTime.now();
+		given(timesRepository.syncReservedCounts(any(LocalDateTime.class), eq(1))).willReturn(5);
+
+		// when
+		availabilityService.syncReservedCounts();
+
+		// then
+		then(timesRepository).should().syncReservedCounts(argThat(from -> !from.isBefore(before)), eq(1));
+	}
+
+	private static SlotIndex.Slot slot(int timeId, int reserved) {
+		LocalDateTime startAt = TOMORROW.atTime(9 + timeId, 0);
+		return new SlotIndex.Slot(timeId, 10, 1, "공예", SlotIndexService.toEpochSecond(startAt),
+				SlotIndexService.toEpochSecond(startAt.plusHours(1)), 4, reserved, 20000, "서울");
+	}
+
+	private static ClassListingResponse listing() {
+		return new ClassListingResponse(10, "도자기", 1L, "강사", 1, "공예", "서울", 20000, 4, null,
+				null, null, null, null, 0, 0.0);
+	}
+}
@@ -0,0 +1,110 @@
+package com.oneday.core.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.oneday.core.dto.search.SessionSlotDto;
+import com.oneday.core.event.ClassChangedEvent;
+import com.oneday.core.event.ReservationChangedEvent;
+import com.oneday.core.repository.TimesRepository;
+
+/**
+ * 슬롯 인덱스 관리 서비스 테스트
+ */
+@DisplayName("슬롯 인덱스 관리 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class SlotIndexServiceTest {
+
+	private static final LocalDateTime START = LocalDateTime.now().plusDays(1);
+
+	@Mock
+	private TimesRepository timesRepository;
+
+	@InjectMocks
+	private SlotIndexService slotIndexService;
+
+	@Test
+	@DisplayName("재적재 조회 중에 커밋된 예약 변경은 교체된 인덱스에 반영된다")
+	void reload_ReplaysReservationChangedDuringLoad() {
+		// given - 조회 결과는 예약 1건 시점의 스냅샷, 조회 중 1건이 더 예약됨
+		given(timesRepository.findUpcomingSlots(any(LocalDateTime.class), isNull())).willAnswer(invocation -> {
+			slotIndexService.onReservationChanged(new ReservationChangedEvent(1, 10, 100L, 1));
+			return List.of(slot(1, 10, 1));
+		});
+
+		// when
+		slotIndexService.reload();
+
+		// then
+		SlotIndex index = slotIndexService.current();
+		assertThat(index.remainingSeats(positionOf(index, 1))).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("재적재 조회 중에 바뀐 클래스는 교체 후 다시 조회한다")
+	void reload_ReloadsClassChangedDuringLoad() {
+		// given - 전체 조회 중에 클래스 10에 수업 시간이 추가됨
+		given(timesRepository.findUpcomingSlots(any(LocalDateTime.class), isNull())).willAnswer(invocation -> {
+			slotIndexService.onClassChanged(new ClassChangedEvent(10));
+			return List.of(slot(1, 10, 0));
+		});
+		given(timesRepository.findUpcomingSlots(any(LocalDateTime.class), eq(10)))
+				.willReturn(List.of(slot(1, 10, 0), slot(2, 10, 0)));
+
+		// when
+		slotIndexService.reload();
+
+		// then
+		SlotIndex index = slotIndexService.current();
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(positionOf(index, 2)).isNotNegative();
+	}
+
+	@Test
+	@DisplayName("클래스 갱신 조회 중에 커밋된 해당 클래스의 예약 변경만 다시 반영한다")
+	void onClassChanged_ReplaysOwnReservationChanges() {
+		// given
+		given(timesRepository.findUpcomingSlots(any(LocalDateTime.class), isNull()))
+				.willReturn(List.of(slot(1, 10, 0), slot(2, 20, 0)));
+		slotIndexService.reload();
+		given(timesRepository.findUpcomingSlots(any(LocalDateTime.class), eq(10))).willAnswer(invocation -> {
+			slotIndexService.onReservationChanged(new ReservationChangedEvent(1, 10, 100L, 1));
+			slotIndexService.onReservationChanged(new ReservationChangedEvent(2, 20, 100L, 1));
+			return List.of(slot(1, 10, 0));
+		});
+
+		// when
+		slotIndexService.onClassChanged(new ClassChangedEvent(10));
+
+		// then - 다른 클래스 슬롯은 기존 인덱스에 반영된 값을 복사하므로 두 번 반영되지 않음
+		SlotIndex index = slotIndexService.current();
+		assertThat(index.remainingSeats(positionOf(index, 1))).isEqualTo(3);
+		assertThat(index.remainingSeats(positionOf(index, 2))).isEqualTo(3);
+	}
+
+	private static SessionSlotDto slot(int timeId, int classId, int reserved) {
+		LocalDateTime startAt = START.plusHours(timeId);
+		return new SessionSlotDto(timeId, classId, 1, "공예", startAt, startAt.plusHours(1), 4, reserved, 20000,
+				"서울 강남구");
+	}
+
+	private static int positionOf(SlotIndex index, int timeId) {
+		for (int pos = 0; pos < index.size(); pos++) {
+			if (index.timeId(pos) == timeId) {
+				return pos;
+			}
+		}
+		return -1;
+	}
+}
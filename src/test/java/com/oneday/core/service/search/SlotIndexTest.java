@@ -0,0 +1,218 @@
+package com.oneday.core.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 슬롯 인덱스 테스트
+ */
+@DisplayName("슬롯 인덱스 테스트")
+class SlotIndexTest {
+
+	private static final long HOUR = 3600;
+
+	private SlotIndex index;
+
+	@BeforeEach
+	void setUp() {
+		// timeId, classId, categoryId, category, start, end, capacity, reserved, price, region (입력 순서는 정렬되지 않음)
+		index = SlotIndex.of(List.of(
+				new SlotIndex.Slot(3, 20, 2, "요리", 3 * HOUR, 4 * HOUR, 5, 0, 45000, "서울"),
+				new SlotIndex.Slot(1, 10, 1, "공예", HOUR, 2 * HOUR, 4, 1, 20000, "서울"),
+				new SlotIndex.Slot(2, 10, 1, "공예", 2 * HOUR, 3 * HOUR, 4, 4, 20000, "서울"),
+				new SlotIndex.Slot(4, 30, 1, "공예", 5 * HOUR, 6 * HOUR, 10, 2, 120000, "부산")
+		));
+	}
+
+	@Test
+	@DisplayName("기간 검색은 시작 시각 순으로 반환하고 마감된 슬롯은 제외한다")
+	void search_ByRange() {
+		// when
+		int[] positions = index.search(0, 10 * HOUR, SlotIndex.ANY_CATEGORY, 1, 100);
+
+		// then
+		assertThat(timeIds(positions)).containsExactly(1, 3, 4);
+	}
+
+	@Test
+	@DisplayName("기간 상한은 미포함이다")
+	void search_UpperBoundExclusive() {
+		// when
+		int[] positions = index.search(HOUR, 3 * HOUR, SlotIndex.ANY_CATEGORY, 1, 100);
+
+		// then
+		assertThat(timeIds(positions)).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("카테고리와 최소 잔여석 조건으로 필터링한다")
+	void search_ByCategoryAndSeats() {
+		// when
+		int[] positions = index.search(0, 10 * HOUR, 1, 4, 100);
+
+		// then
+		assertThat(timeIds(positions)).containsExactly(4);
+		assertThat(index.search(0, 10 * HOUR, 99, 1, 100)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("결과 수를 제한한다")
+	void search_Limit() {
+		// when
+		int[] positions = index.search(0, 10 * HOUR, SlotIndex.ANY_CATEGORY, 1, 2);
+
+		// then
+		assertThat(timeIds(positions)).containsExactly(1, 3);
+	}
+
+	@Test
+	@DisplayName("예약 인원 변화를 반영하고 0 아래로 내려가지 않는다")
+	void applyReservationDelta() {
+		// when
+		index.applyReservationDelta(2, -1);
+		index.applyReservationDelta(3, -1);
+
+		// then
+		assertThat(timeIds(index.search(0, 10 * HOUR, SlotIndex.ANY_CATEGORY, 1, 100)))
+				.containsExactly(1, 2, 3, 4);
+		assertThat(index.remainingSeats(index.search(3 * HOUR, 4 * HOUR, 2, 1, 1)[0])).isEqualTo(5);
+		assertThat(index.applyReservationDelta(999, 1)).isFalse();
+	}
+
+	@Test
+	@DisplayName("클래스 슬롯 교체 시 순서를 유지하고 다른 클래스의 예약 인원을 보존한다")
+	void withClassReplaced() {
+		// given
+		index.applyReservationDelta(4, 3);
+
+		// when
+		SlotIndex replaced = index.withClassReplaced(10, List.of(
+				new SlotIndex.Slot(5, 10, 1, "공예", 4 * HOUR, 5 * HOUR, 4, 0, 20000, "대구")
+		), 0);
+
+		// then
+		int[] positions = replaced.search(0, 10 * HOUR, SlotIndex.ANY_CATEGORY, 1, 100);
+		assertThat(timeIdsOf(replaced, positions)).containsExactly(3, 5, 4);
+		assertThat(replaced.remainingSeats(positions[2])).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("클래스 슬롯 교체 시 지난 슬롯을 정리한다")
+	void withClassReplaced_PrunesPastSlots() {
+		// when
+		SlotIndex replaced = index.withClassReplaced(30, List.of(), 2 * HOUR);
+
+		// then
+		assertThat(replaced.size()).isEqualTo(2);
+		assertThat(timeIdsOf(replaced, replaced.search(0, 10 * HOUR, SlotIndex.ANY_CATEGORY, 0, 100)))
+				.containsExactly(2, 3);
+	}
+
+	@Test
+	@DisplayName("패싯 건수는 카테고리 조건을 제외하고 집계하고, 가격대/지역은 모든 조건을 적용한다")
+	void countFacets() {
+		// when
+		SlotIndex.Facets facets = index.countFacets(0, 10 * HOUR, 1, 1);
+
+		// then
+		assertThat(facets.categoryCounts()[1]).isEqualTo(2);
+		assertThat(facets.categoryCounts()[2]).isEqualTo(1);
+		assertThat(facets.categoryNames().get(1)).isEqualTo("공예");
+		assertThat(facets.priceBandCounts()[PriceBand.UNDER_30000.ordinal()]).isEqualTo(1);
+		assertThat(facets.priceBandCounts()[PriceBand.FROM_30000_TO_50000.ordinal()]).isZero();
+		assertThat(facets.priceBandCounts()[PriceBand.OVER_100000.ordinal()]).isEqualTo(1);
+		assertThat(facets.regionCounts()[facets.regionNames().indexOf("서울")]).isEqualTo(1);
+		assertThat(facets.regionCounts()[facets.regionNames().indexOf("부산")]).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("클래스 슬롯 교체 후에도 패싯 사전이 유지된다")
+	void countFacets_AfterReplace() {
+		// when
+		SlotIndex replaced = index.withClassReplaced(10, List.of(
+				new SlotIndex.Slot(5, 10, 1, "공예", 4 * HOUR, 5 * HOUR, 4, 0, 20000, "대구")
+		), 0);
+		SlotIndex.Facets facets = replaced.countFacets(0, 10 * HOUR, SlotIndex.ANY_CATEGORY, 1);
+
+		// then
+		assertThat(facets.categoryNames().get(2)).isEqualTo("요리");
+		assertThat(facets.regionCounts()[facets.regionNames().indexOf("서울")]).isEqualTo(1);
+		assertThat(facets.regionCounts()[facets.regionNames().indexOf("대구")]).isEqualTo(1);
+		assertThat(facets.regionCounts()[facets.regionNames().indexOf("부산")]).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("구간 집계로 계산한 패싯 건수는 예약 인원 변화 후에도 전체를 훑은 결과와 같다")
+	void countFacets_BucketsMatchScan() {
+		// given - 여러 구간에 걸친 슬롯과 마감/해제를 오가는 예약 변화
+		Random random = new Random(42);
+		String[] regions = {"서울", "부산", "대구"};
+		List<SlotIndex.Slot> slots = new ArrayList<>();
+		for (int timeId = 1; timeId <= 1000; timeId++) {
+			int categoryId = random.nextInt(4);
+			slots.add(new SlotIndex.Slot(timeId, timeId % 50, categoryId, "카테고리" + categoryId, timeId * HOUR,
+					(timeId + 1) * HOUR, 3, random.nextInt(4), random.nextInt(150000), regions[random.nextInt(3)]));
+		}
+		SlotIndex large = SlotIndex.of(slots);
+		for (int i = 0; i < 3000; i++) {
+			large.applyReservationDelta(1 + random.nextInt(1000), random.nextBoolean() ? 1 : -1);
+		}
+
+		for (int i = 0; i < 200; i++) {
+			long from = random.nextInt(1100) * HOUR;
+			long to = from + random.nextInt(1100) * HOUR;
+			int categoryId = random.nextInt(6) - 1;
+
+			// when
+			SlotIndex.Facets facets = large.countFacets(from, to, categoryId, 1);
+
+			// then
+			SlotIndex.Facets expected = scanFacets(large, from, to, categoryId);
+			assertThat(facets.categoryCounts()).containsExactly(expected.categoryCounts());
+			assertThat(facets.priceBandCounts()).containsExactly(expected.priceBandCounts());
+			assertThat(facets.regionCounts()).containsExactly(expected.regionCounts());
+		}
+	}
+
+	// 비교용: 위치를 하나씩 확인해 잔여석 1석 이상 슬롯의 패싯 건수 계산
+	private static SlotIndex.Facets scanFacets(SlotIndex slotIndex, long from, long to, int categoryId) {
+		SlotIndex.Facets all = slotIndex.countFacets(Long.MIN_VALUE, Long.MIN_VALUE, categoryId, 1);
+		int[] categoryCounts = new int[all.categoryCounts().length];
+		int[] priceBandCounts = new int[all.priceBandCounts().length];
+		int[] regionCounts = new int[all.regionCounts().length];
+		for (int pos : slotIndex.search(from, to, SlotIndex.ANY_CATEGORY, 1, Integer.MAX_VALUE)) {
+			categoryCounts[slotIndex.categoryId(pos)]++;
+			if (categoryId == SlotIndex.ANY_CATEGORY || slotIndex.categoryId(pos) == categoryId) {
+				SlotIndex.Facets single = slotIndex.countFacets(slotIndex.startEpochSecond(pos),
+						slotIndex.startEpochSecond(pos) + 1, SlotIndex.ANY_CATEGORY, 1);
+				for (int band = 0; band < priceBandCounts.length; band++) {
+					priceBandCounts[band] += single.priceBandCounts()[band];
+				}
+				for (int id = 0; id < regionCounts.length; id++) {
+					regionCounts[id] += single.regionCounts()[id];
+				}
+			}
+		}
+		return new SlotIndex.Facets(categoryCounts, priceBandCounts, regionCounts, all.categoryNames(),
+				all.regionNames());
+	}
+
+	private int[] timeIds(int[] positions) {
+		return timeIdsOf(index, positions);
+	}
+
+	private static int[] timeIdsOf(SlotIndex slotIndex, int[] positions) {
+		int[] timeIds = new int[positions.length];
+		for (int i = 0; i < positions.length; i++) {
+			timeIds[i] = slotIndex.timeId(positions[i]);
+		}
+		return timeIds;
+	}
+}
@@ -0,0 +1,104 @@
+package com.oneday.core.service.trending;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 슬라이딩 윈도우 빈발 항목 추정기 테스트
+ */
+@DisplayName("슬라이딩 윈도우 빈발 항목 추정기 테스트")
+class SlidingWindowHeavyHittersTest {
+
+	private static final long BUCKET_MILLIS = 1000;
+
+	private AtomicLong now;
+	private SlidingWindowHeavyHitters heavyHitters;
+
+	@BeforeEach
+	void setUp() {
+		now = new AtomicLong(0);
+		heavyHitters = new SlidingWindowHeavyHitters(3, BUCKET_MILLIS, 1024, 4, now::get);
+	}
+
+	@Test
+	@DisplayName("빈도 내림차순으로 상위 항목을 반환한다")
+	void top_OrderedByCount() {
+		// given
+		record(1, 3);
+		record(2, 5);
+		record(3, 1);
+
+		// when
+		long[][] top = heavyHitters.top(2);
+
+		// then
+		assertThat(top).hasDimensions(2, 2);
+		assertThat(top[0]).containsExactly(2, 5);
+		assertThat(top[1]).containsExactly(1, 3);
+	}
+
+	@Test
+	@DisplayName("윈도우를 벗어난 버킷의 빈도는 제외된다")
+	void top_SlidingWindow() {
+		// given
+		record(1, 5);
+		now.addAndGet(BUCKET_MILLIS);
+		record(2, 2);
+
+		// when: 버킷 3개 윈도우에서 첫 버킷이 밀려남
+		now.addAndGet(2 * BUCKET_MILLIS);
+
+		// then
+		assertThat(heavyHitters.estimate(1)).isZero();
+		assertThat(heavyHitters.top(10)).hasDimensions(1, 2);
+		assertThat(heavyHitters.top(10)[0]).containsExactly(2, 2);
+	}
+
+	@Test
+	@DisplayName("후보가 가득 차면 빈도가 가장 낮은 후보를 교체한다")
+	void top_ReplacesLowestCandidate() {
+		// given: 후보 4개
+		record(1, 10);
+		record(2, 8);
+		record(3, 6);
+		record(4, 1);
+
+		// when
+		record(5, 3);
+
+		// then
+		long[][] top = heavyHitters.top(10);
+		assertThat(top).hasNumberOfRows(4);
+		assertThat(new long[] {top[0][0], top[1][0], top[2][0], top[3][0]}).containsExactly(1, 2, 3, 5);
+	}
+
+	@Test
+	@DisplayName("윈도우가 밀리면 빈도가 사라진 후보부터 교체한다")
+	void top_ReplacesExpiredCandidate() {
+		// given: 가장 많았던 후보 1은 첫 버킷에만 기록
+		record(1, 10);
+		now.addAndGet(BUCKET_MILLIS);
+		record(2, 3);
+		record(3, 3);
+		record(4, 3);
+		now.addAndGet(2 * BUCKET_MILLIS);
+
+		// when: 첫 버킷이 윈도우를 벗어난 뒤 새 항목 기록
+		record(5, 1);
+
+		// then
+		long[][] top = heavyHitters.top(10);
+		assertThat(new long[] {top[0][0], top[1][0], top[2][0], top[3][0]}).containsExactly(2, 3, 4, 5);
+	}
+
+	private void record(int item, int times) {
+		for (int i = 0; i < times; i++) {
+			heavyHitters.record(item);
+		}
+	}
+}
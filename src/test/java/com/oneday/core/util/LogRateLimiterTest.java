@@ -0,0 +1,33 @@
+package com.oneday.core.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 초당 로그 줄 수 제한기 테스트
+ */
+@DisplayName("초당 로그 줄 수 제한기 테스트")
+class LogRateLimiterTest {
+
+	private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+	private final LogRateLimiter limiter = new LogRateLimiter(2, now::get);
+
+	@Test
+	@DisplayName("1초에 허용 수만큼만 기록하고, 다음 허용 줄에서 생략한 줄 수를 돌려준다")
+	void tryAcquire_ReportsSuppressed() {
+		// when & then
+		assertThat(limiter.tryAcquire()).isZero();
+		assertThat(limiter.tryAcquire()).isZero();
+		assertThat(limiter.tryAcquire()).isEqualTo(-1);
+		assertThat(limiter.tryAcquire()).isEqualTo(-1);
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(limiter.tryAcquire()).isEqualTo(2);
+		assertThat(limiter.tryAcquire()).isZero();
+	}
+}
@@ -0,0 +1,61 @@
+package com.oneday.core.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 키별 토큰 버킷 요청 제한기 테스트
+ */
+@DisplayName("키별 토큰 버킷 요청 제한기 테스트")
+class TokenBucketRateLimiterTest {
+
+	private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+	private final TokenBucketRateLimiter limiter =
+			new TokenBucketRateLimiter(3, Duration.ofSeconds(30), 100, now::get);
+
+	@Test
+	@DisplayName("용량만큼 연속 요청을 허용하고 이후에는 다음 토큰까지 남은 시간을 돌려준다")
+	void tryAcquire_Burst() {
+		// when & then
+		assertThat(limiter.tryAcquire("1.1.1.1")).isZero();
+		assertThat(limiter.tryAcquire("1.1.1.1")).isZero();
+		assertThat(limiter.tryAcquire("1.1.1.1")).isZero();
+		assertThat(limiter.tryAcquire("1.1.1.1")).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 토큰이 다시 채워진다")
+	void tryAcquire_Refill() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("1.1.1.1");
+		}
+
+		// when
+		now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+		// then
+		assertThat(limiter.tryAcquire("1.1.1.1")).isZero();
+		assertThat(limiter.tryAcquire("1.1.1.1")).isPositive();
+	}
+
+	@Test
+	@DisplayName("키마다 버킷이 따로 있다")
+	void tryAcquire_PerKey() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("1.1.1.1");
+		}
+
+		// when & then
+		assertThat(limiter.tryAcquire("1.1.1.1")).isPositive();
+		assertThat(limiter.tryAcquire("2.2.2.2")).isZero();
+		assertThat(limiter.size()).isEqualTo(2);
+	}
+}